@@ -0,0 +1,4 @@
+-- Salary adjustments find each employee's latest pay period within an amount range
+-- (SQLConstants.Payroll.INSERT_RAISED_NEXT_PERIOD). This index answers that lookup
+-- from the index alone instead of scanning payroll.
+CREATE INDEX idx_payroll_amount_employee_start ON payroll(amount, employee_id, pay_period_start);
@@ -0,0 +1,6 @@
+-- Paged name searches and listings seek on (last_name, first_name, employee_id)
+-- (SQLConstants.Employee.searchByNamePageWithDetails). InnoDB appends the primary key
+-- to secondary indexes, so this index serves the whole sort key. It also covers every
+-- lookup the single-column last_name index did, which is dropped to save the extra writes.
+CREATE INDEX idx_employees_last_first ON employees(last_name, first_name);
+ALTER TABLE employees DROP INDEX idx_employees_last_name;
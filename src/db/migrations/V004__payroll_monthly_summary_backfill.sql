@@ -0,0 +1,26 @@
+-- Report totals by division and job title read payroll_monthly_summary
+-- (SQLConstants.PayrollSummary). Databases created before the table existed, or adopted
+-- without schema_version, get it here filled from the payroll rows already present.
+-- The statements are the same as PayrollDAO.rebuildMonthlySummary, so re-running after a
+-- partial failure recomputes the table from scratch.
+CREATE TABLE IF NOT EXISTS payroll_monthly_summary (
+    pay_year SMALLINT NOT NULL,
+    pay_month TINYINT NOT NULL,
+    division_id INT NOT NULL,
+    job_title_id INT NOT NULL,
+    total DECIMAL(15, 2) NOT NULL DEFAULT 0,
+    row_count INT NOT NULL DEFAULT 0,
+    PRIMARY KEY (pay_year, pay_month, division_id, job_title_id)
+) ENGINE=InnoDB DEFAULT CHARSET=utf8mb4;
+
+DELETE FROM payroll_monthly_summary;
+
+INSERT INTO payroll_monthly_summary (pay_year, pay_month, division_id, job_title_id, total, row_count)
+SELECT YEAR(p.pay_period_end), MONTH(p.pay_period_end),
+       COALESCE(ed.division_id, 0), COALESCE(ejt.job_title_id, 0),
+       SUM(p.amount), COUNT(*)
+FROM payroll p
+LEFT JOIN employee_division ed ON ed.employee_id = p.employee_id
+LEFT JOIN employee_job_titles ejt ON ejt.employee_id = p.employee_id
+GROUP BY YEAR(p.pay_period_end), MONTH(p.pay_period_end),
+         COALESCE(ed.division_id, 0), COALESCE(ejt.job_title_id, 0);
@@ -1,6 +1,7 @@
 -- Employee Management System Sample Data
 -- Safe to re-run: Uses INSERT IGNORE and ON DUPLICATE KEY UPDATE
 -- Note: Every employee must have exactly one division and one job title
+-- payroll_monthly_summary is rebuilt from the payroll rows at the end of this file
 
 INSERT IGNORE INTO division (division_id, name) VALUES
     (1, 'Engineering'),
@@ -175,3 +176,14 @@ ON DUPLICATE KEY UPDATE
     pay_period_start = VALUES(pay_period_start),
     pay_period_end = VALUES(pay_period_end);
 
+DELETE FROM payroll_monthly_summary;
+
+INSERT INTO payroll_monthly_summary (pay_year, pay_month, division_id, job_title_id, total, row_count)
+SELECT YEAR(p.pay_period_end), MONTH(p.pay_period_end),
+       COALESCE(ed.division_id, 0), COALESCE(ejt.job_title_id, 0),
+       SUM(p.amount), COUNT(*)
+FROM payroll p
+LEFT JOIN employee_division ed ON ed.employee_id = p.employee_id
+LEFT JOIN employee_job_titles ejt ON ejt.employee_id = p.employee_id
+GROUP BY YEAR(p.pay_period_end), MONTH(p.pay_period_end),
+         COALESCE(ed.division_id, 0), COALESCE(ejt.job_title_id, 0);
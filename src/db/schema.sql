@@ -1,5 +1,7 @@
 -- Employee Management System Database Schema
 -- Safe to re-run: Creates tables only if they don't exist
+-- Schema version 1. SchemaMigrator records a checksum of these statements, so do not change
+-- them; add later changes as src/db/migrations/V<number>__<description>.sql instead.
 
 CREATE TABLE IF NOT EXISTS division (
     division_id INT AUTO_INCREMENT PRIMARY KEY,
@@ -57,9 +59,23 @@ CREATE TABLE IF NOT EXISTS employee_job_titles (
     FOREIGN KEY (job_title_id) REFERENCES job_titles(job_title_id) ON DELETE CASCADE
 ) ENGINE=InnoDB DEFAULT CHARSET=utf8mb4;
 
+-- Payroll totals per month of pay_period_end, division and job title, kept up to date by the
+-- application on every payroll or relationship write. division_id / job_title_id 0 = unassigned.
+-- Filled from existing payroll by migrations/V004__payroll_monthly_summary_backfill.sql. Recompute with
+-- com.employeemgmt.db.PayrollSummaryRebuild after loading payroll outside the app.
+CREATE TABLE IF NOT EXISTS payroll_monthly_summary (
+    pay_year SMALLINT NOT NULL,
+    pay_month TINYINT NOT NULL,
+    division_id INT NOT NULL,
+    job_title_id INT NOT NULL,
+    total DECIMAL(15, 2) NOT NULL DEFAULT 0,
+    row_count INT NOT NULL DEFAULT 0,
+    PRIMARY KEY (pay_year, pay_month, division_id, job_title_id)
+) ENGINE=InnoDB DEFAULT CHARSET=utf8mb4;
+
 -- Indexes for performance optimization
 CREATE INDEX idx_employees_first_name ON employees(first_name);
 CREATE INDEX idx_employees_last_name ON employees(last_name);
 CREATE INDEX idx_employees_ssn ON employees(SSN);
 CREATE INDEX idx_employees_email ON employees(email);
-
+CREATE INDEX idx_payroll_period_end_employee ON payroll(pay_period_end, employee_id);
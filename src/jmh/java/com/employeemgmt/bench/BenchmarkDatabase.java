@@ -0,0 +1,77 @@
+package com.employeemgmt.bench;
+
+import com.employeemgmt.db.DatasetGenerator;
+import com.employeemgmt.db.SchemaMigrator;
+
+import java.io.IOException;
+import java.sql.SQLException;
+import java.time.YearMonth;
+
+/**
+ * In-process H2 database (MySQL compatibility mode) seeded with synthetic data,
+ * used as a stand-in for MySQL so benchmarks run anywhere.
+ */
+public final class BenchmarkDatabase {
+
+    static final String JDBC_URL = "jdbc:h2:mem:benchmark;MODE=MySQL;DB_CLOSE_DELAY=-1";
+    static final int PERIODS_PER_EMPLOYEE = 24;
+    static final YearMonth FIRST_PERIOD = YearMonth.of(2023, 1);
+
+    private static final long SEED = 42L;
+
+    private static final String[] FIRST_NAMES = {
+            "James", "Mary", "Robert", "Patricia", "John", "Jennifer", "Michael", "Linda",
+            "David", "Elizabeth", "William", "Barbara", "Richard", "Susan", "Joseph", "Jessica",
+            "Thomas", "Sarah", "Daniel", "Karen", "Andrew", "Nancy", "Brian", "Angela"
+    };
+
+    private static final String[] LAST_NAMES = {
+            "Smith", "Johnson", "Williams", "Brown", "Jones", "Garcia", "Miller", "Davis",
+            "Rodriguez", "Martinez", "Hernandez", "Lopez", "Gonzalez", "Wilson", "Anderson", "Thomas",
+            "Taylor", "Moore", "Jackson", "Martin", "Lee", "Perez", "Thompson", "White"
+    };
+
+    private BenchmarkDatabase() {
+    }
+
+    /**
+     * Points DatabaseConnectionManager at the in-memory database.
+     * Must run before the connection manager is first used in this JVM.
+     */
+    static void configure() {
+        System.setProperty("DB_JDBC_URL", JDBC_URL);
+        System.setProperty("DB_USER", "sa");
+        System.setProperty("DB_PASS", "");
+    }
+
+    /**
+     * Creates the schema and generates enough employees to produce the requested number
+     * of payroll rows, PERIODS_PER_EMPLOYEE monthly periods each, with DatasetGenerator.
+     * Employee ids run from 1 to the returned count.
+     *
+     * @param payrollRows approximate number of payroll rows to generate
+     * @return the number of employees created
+     */
+    static int seed(int payrollRows) throws SQLException, IOException {
+        int employeeCount = Math.max(1, payrollRows / PERIODS_PER_EMPLOYEE);
+
+        new SchemaMigrator().migrate();
+        new DatasetGenerator(SEED).generate(employeeCount, PERIODS_PER_EMPLOYEE, FIRST_PERIOD);
+        return employeeCount;
+    }
+
+    /**
+     * Middle month of the generated pay history, used for monthly report benchmarks.
+     */
+    static YearMonth reportMonth() {
+        return FIRST_PERIOD.plusMonths(PERIODS_PER_EMPLOYEE / 2);
+    }
+
+    static String firstName(int index) {
+        return FIRST_NAMES[index % FIRST_NAMES.length];
+    }
+
+    static String lastName(int index) {
+        return LAST_NAMES[(index / FIRST_NAMES.length) % LAST_NAMES.length];
+    }
+}
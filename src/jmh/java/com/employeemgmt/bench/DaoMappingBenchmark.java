@@ -0,0 +1,48 @@
+package com.employeemgmt.bench;
+
+import com.employeemgmt.model.Employee;
+import com.employeemgmt.model.Payroll;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.sql.SQLException;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Stream;
+
+/**
+ * Row mapping cost of the DAO layer: every benchmark reads a whole table through
+ * mapResultSetToEmployee or mapResultSetToPayroll.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class DaoMappingBenchmark {
+
+    @Benchmark
+    public List<Employee> employeeFindAll(SeededDatabase db) throws SQLException {
+        return db.employeeDAO.findAll();
+    }
+
+    @Benchmark
+    public void employeeStreamAll(SeededDatabase db, Blackhole blackhole) throws SQLException {
+        try (Stream<Employee> employees = db.employeeDAO.streamAll()) {
+            employees.forEach(blackhole::consume);
+        }
+    }
+
+    @Benchmark
+    public void payrollStreamAll(SeededDatabase db, Blackhole blackhole) throws SQLException {
+        try (Stream<Payroll> payrolls = db.payrollDAO.streamAll()) {
+            payrolls.forEach(blackhole::consume);
+        }
+    }
+}
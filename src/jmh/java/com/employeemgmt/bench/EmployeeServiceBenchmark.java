@@ -0,0 +1,38 @@
+package com.employeemgmt.bench;
+
+import com.employeemgmt.model.Employee;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.sql.SQLException;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Name search through EmployeeService, including division and job title enrichment.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class EmployeeServiceBenchmark {
+
+    // "an" matches many generated names, "Rodriguez" a narrow slice
+    @Param({"an", "Rodriguez"})
+    public String fragment;
+
+    @Benchmark
+    public List<Employee> findByNameFragment(SeededDatabase db) throws SQLException {
+        return db.employeeService.findByNameFragment(fragment);
+    }
+}
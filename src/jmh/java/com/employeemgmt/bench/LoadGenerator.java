@@ -0,0 +1,339 @@
+package com.employeemgmt.bench;
+
+import com.employeemgmt.db.DatabaseConnectionManager;
+import com.employeemgmt.db.DatasetGenerator;
+import com.employeemgmt.metrics.LatencyHistogram;
+import com.employeemgmt.model.Division;
+import com.employeemgmt.model.Employee;
+import com.employeemgmt.model.JobTitle;
+import com.employeemgmt.service.EmployeeService;
+import com.employeemgmt.service.ReportService;
+import com.employeemgmt.ui.ServiceBootstrap;
+import com.employeemgmt.ui.fx.controller.ServiceRegistry;
+
+import java.math.BigDecimal;
+import java.time.YearMonth;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * Drives EmployeeService and ReportService from many concurrent workers against the
+ * seeded H2 stand-in database and prints throughput and latency percentiles per operation.
+ *
+ * <pre>
+ * mvn -P benchmarks compile exec:exec@load -Dload.args="--threads=200 --rate=2000 --duration=60"
+ * </pre>
+ *
+ * Options (all --name=value): employees, threads, rate (operations per second across all
+ * workers, 0 for as fast as possible), duration and warmup (seconds), seed, pool (connection
+ * pool size), and mix, a list of operation=weight pairs such as "search=50,find-by-id=50".
+ *
+ * With a target rate, latency is measured from each operation's scheduled start, so time spent
+ * queued behind a slow operation counts against the system rather than being hidden.
+ */
+public final class LoadGenerator {
+
+    enum Operation {
+        SEARCH(25),
+        FIND_BY_ID(25),
+        FIND_BY_SSN(10),
+        INSERT(5),
+        UPDATE(10),
+        SALARY_ADJUSTMENT(1),
+        REPORT_TOTALS(20),
+        REPORT_EMPLOYEES(4);
+
+        final int defaultWeight;
+
+        Operation(int defaultWeight) {
+            this.defaultWeight = defaultWeight;
+        }
+
+        String option() {
+            return name().toLowerCase().replace('_', '-');
+        }
+    }
+
+    // Inserted employees take generated SSNs from ids far above any seeded employee
+    private static final int INSERTED_SSN_BASE = 5_000_000;
+    private static final String[] SEARCH_FRAGMENTS = {"an", "Jo", "Smith", "Rodriguez", "ar", "Lee"};
+    // Narrow salary bands so each adjustment touches a handful of employees, like a targeted raise
+    private static final int SALARY_BAND_WIDTH = 10;
+
+    private static final class Stats {
+        final LatencyHistogram latency = new LatencyHistogram();
+        final LongAdder errors = new LongAdder();
+    }
+
+    private final EmployeeService employeeService;
+    private final ReportService reportService;
+    private final int employeeCount;
+    private final List<Integer> divisionIds = new ArrayList<>();
+    private final List<Integer> jobTitleIds = new ArrayList<>();
+    private final AtomicInteger insertedCount = new AtomicInteger();
+
+    private LoadGenerator(EmployeeService employeeService, ReportService reportService, int employeeCount)
+            throws Exception {
+        this.employeeService = employeeService;
+        this.reportService = reportService;
+        this.employeeCount = employeeCount;
+        for (Division division : employeeService.getAllDivisions()) {
+            divisionIds.add(division.getDivisionId());
+        }
+        for (JobTitle jobTitle : employeeService.getAllJobTitles()) {
+            jobTitleIds.add(jobTitle.getJobTitleId());
+        }
+    }
+
+    public static void main(String[] args) throws Exception {
+        Map<String, String> options = parseOptions(args);
+        int employees = intOption(options, "employees", 5_000);
+        int threads = intOption(options, "threads", 64);
+        int rate = intOption(options, "rate", 0);
+        int durationSeconds = intOption(options, "duration", 30);
+        int warmupSeconds = intOption(options, "warmup", 5);
+        long seed = intOption(options, "seed", 42);
+        Map<Operation, Integer> mix = parseMix(options.get("mix"));
+        if (options.containsKey("pool")) {
+            System.setProperty("DB_POOL_MAX_SIZE", options.get("pool"));
+        }
+
+        System.out.printf("Seeding %,d employees with %d pay periods each...%n",
+                employees, BenchmarkDatabase.PERIODS_PER_EMPLOYEE);
+        BenchmarkDatabase.configure();
+        int employeeCount = BenchmarkDatabase.seed(employees * BenchmarkDatabase.PERIODS_PER_EMPLOYEE);
+
+        // Same DAO decorators, listeners and services as the desktop app and API server
+        ServiceBootstrap.initServices();
+        LoadGenerator generator = new LoadGenerator(ServiceRegistry.employees(), ServiceRegistry.reports(),
+                employeeCount);
+
+        try {
+            if (warmupSeconds > 0) {
+                System.out.printf("Warming up for %ds...%n", warmupSeconds);
+                generator.run(threads, rate, warmupSeconds, mix, seed);
+            }
+            System.out.printf("Measuring for %ds with %d workers, %s...%n", durationSeconds, threads,
+                    rate > 0 ? "target " + rate + " ops/s" : "no rate limit");
+            long started = System.nanoTime();
+            Map<Operation, Stats> results = generator.run(threads, rate, durationSeconds, mix, seed + 1);
+            print(results, System.nanoTime() - started);
+            System.out.println(DatabaseConnectionManager.getInstance().getStatementCacheStats());
+        } finally {
+            DatabaseConnectionManager.getInstance().shutdown();
+        }
+    }
+
+    private Map<Operation, Stats> run(int threads, int rate, int durationSeconds,
+                                      Map<Operation, Integer> mix, long seed) throws InterruptedException {
+        Map<Operation, Stats> results = new EnumMap<>(Operation.class);
+        for (Operation operation : mix.keySet()) {
+            results.put(operation, new Stats());
+        }
+
+        Operation[] choices = weightedChoices(mix);
+        long start = System.nanoTime();
+        long deadline = start + TimeUnit.SECONDS.toNanos(durationSeconds);
+        long interval = rate > 0 ? TimeUnit.SECONDS.toNanos(1) / rate : 0;
+        AtomicLong tickets = new AtomicLong();
+
+        ExecutorService workers = workerExecutor(threads);
+        for (int worker = 0; worker < threads; worker++) {
+            Random random = new Random(seed * 31 + worker);
+            workers.execute(() -> {
+                while (true) {
+                    long scheduled;
+                    if (interval > 0) {
+                        scheduled = start + tickets.getAndIncrement() * interval;
+                        if (scheduled >= deadline) {
+                            return;
+                        }
+                        long wait;
+                        while ((wait = scheduled - System.nanoTime()) > 0) {
+                            LockSupport.parkNanos(wait);
+                        }
+                    } else {
+                        scheduled = System.nanoTime();
+                        if (scheduled >= deadline) {
+                            return;
+                        }
+                    }
+
+                    Operation operation = choices[random.nextInt(choices.length)];
+                    Stats stats = results.get(operation);
+                    try {
+                        execute(operation, random);
+                    } catch (Exception e) {
+                        // Print the first failure of each operation; count the rest
+                        if (stats.errors.sum() == 0) {
+                            System.err.println(operation.option() + " failed: " + e);
+                        }
+                        stats.errors.increment();
+                    }
+                    stats.latency.record(System.nanoTime() - scheduled);
+                }
+            });
+        }
+
+        workers.shutdown();
+        workers.awaitTermination(durationSeconds + 300L, TimeUnit.SECONDS);
+        return results;
+    }
+
+    private void execute(Operation operation, Random random) throws Exception {
+        switch (operation) {
+            case SEARCH -> employeeService.findByNameFragment(
+                    SEARCH_FRAGMENTS[random.nextInt(SEARCH_FRAGMENTS.length)]);
+            case FIND_BY_ID -> employeeService.findById(randomEmployeeId(random));
+            case FIND_BY_SSN -> employeeService.findBySSN(DatasetGenerator.ssnFor(randomEmployeeId(random)));
+            case INSERT -> {
+                int n = insertedCount.incrementAndGet();
+                Employee employee = new Employee();
+                employee.setFirstName(BenchmarkDatabase.firstName(n));
+                employee.setLastName(BenchmarkDatabase.lastName(n));
+                employee.setSsn(DatasetGenerator.ssnFor(INSERTED_SSN_BASE + n));
+                employee.setEmail("load" + n + "@bench.example");
+                employeeService.addEmployee(employee, randomOf(divisionIds, random), randomOf(jobTitleIds, random));
+            }
+            case UPDATE -> {
+                Employee employee = employeeService.findById(randomEmployeeId(random)).orElse(null);
+                if (employee != null) {
+                    employeeService.updateEmployee(employee, randomOf(divisionIds, random),
+                            randomOf(jobTitleIds, random));
+                }
+            }
+            case SALARY_ADJUSTMENT -> {
+                // Generated monthly pay ranges from about 3600 to 14200
+                BigDecimal min = BigDecimal.valueOf(3600 + random.nextInt(10600));
+                employeeService.increaseSalaryInRange(min, min.add(BigDecimal.valueOf(SALARY_BAND_WIDTH)),
+                        BigDecimal.ONE);
+            }
+            case REPORT_TOTALS -> {
+                YearMonth month = randomMonth(random);
+                if (random.nextBoolean()) {
+                    reportService.getTotalPayByDivision(month.getYear(), month.getMonthValue());
+                } else {
+                    reportService.getTotalPayByJobTitle(month.getYear(), month.getMonthValue());
+                }
+            }
+            case REPORT_EMPLOYEES -> {
+                YearMonth month = randomMonth(random);
+                reportService.getEmployeePayForMonth(month.getYear(), month.getMonthValue());
+            }
+        }
+    }
+
+    private int randomEmployeeId(Random random) {
+        return 1 + random.nextInt(employeeCount);
+    }
+
+    private static YearMonth randomMonth(Random random) {
+        return BenchmarkDatabase.FIRST_PERIOD.plusMonths(random.nextInt(BenchmarkDatabase.PERIODS_PER_EMPLOYEE));
+    }
+
+    private static int randomOf(List<Integer> ids, Random random) {
+        return ids.get(random.nextInt(ids.size()));
+    }
+
+    private static void print(Map<Operation, Stats> results, long elapsedNanos) {
+        double seconds = elapsedNanos / 1e9;
+        long totalOps = 0;
+        long totalErrors = 0;
+
+        System.out.printf("%n%-18s %10s %8s %10s %9s %9s %9s %9s %9s%n",
+                "operation", "count", "errors", "ops/s", "p50 ms", "p95 ms", "p99 ms", "p99.9 ms", "max ms");
+        for (Map.Entry<Operation, Stats> entry : results.entrySet()) {
+            LatencyHistogram latency = entry.getValue().latency;
+            long errors = entry.getValue().errors.sum();
+            totalOps += latency.count();
+            totalErrors += errors;
+            System.out.printf("%-18s %10d %8d %10.1f %9.2f %9.2f %9.2f %9.2f %9.2f%n",
+                    entry.getKey().option(), latency.count(), errors, latency.count() / seconds,
+                    millis(latency.percentileNanos(50)), millis(latency.percentileNanos(95)),
+                    millis(latency.percentileNanos(99)), millis(latency.percentileNanos(99.9)),
+                    millis(latency.maxNanos()));
+        }
+        System.out.printf("%-18s %10d %8d %10.1f%n", "total", totalOps, totalErrors, totalOps / seconds);
+    }
+
+    private static double millis(long nanos) {
+        return nanos / 1e6;
+    }
+
+    private static Operation[] weightedChoices(Map<Operation, Integer> mix) {
+        List<Operation> choices = new ArrayList<>();
+        mix.forEach((operation, weight) -> {
+            for (int i = 0; i < weight; i++) {
+                choices.add(operation);
+            }
+        });
+        return choices.toArray(new Operation[0]);
+    }
+
+    // Virtual threads when the JVM has them (Java 21+), one platform thread per worker otherwise
+    private static ExecutorService workerExecutor(int threads) {
+        try {
+            return (ExecutorService) Executors.class.getMethod("newVirtualThreadPerTaskExecutor").invoke(null);
+        } catch (ReflectiveOperationException | UnsupportedOperationException e) {
+            return Executors.newFixedThreadPool(threads);
+        }
+    }
+
+    private static Map<Operation, Integer> parseMix(String value) {
+        Map<Operation, Integer> mix = new EnumMap<>(Operation.class);
+        if (value == null || value.isBlank()) {
+            for (Operation operation : Operation.values()) {
+                mix.put(operation, operation.defaultWeight);
+            }
+            return mix;
+        }
+
+        Map<String, Operation> byOption = new HashMap<>();
+        for (Operation operation : Operation.values()) {
+            byOption.put(operation.option(), operation);
+        }
+        for (String pair : value.split(",")) {
+            String[] parts = pair.trim().split("=");
+            Operation operation = byOption.get(parts[0].trim());
+            if (operation == null || parts.length != 2) {
+                throw new IllegalArgumentException("Bad mix entry '" + pair + "'; operations are " + byOption.keySet());
+            }
+            int weight = Integer.parseInt(parts[1].trim());
+            if (weight > 0) {
+                mix.put(operation, weight);
+            }
+        }
+        if (mix.isEmpty()) {
+            throw new IllegalArgumentException("Mix must give at least one operation a positive weight");
+        }
+        return mix;
+    }
+
+    private static Map<String, String> parseOptions(String[] args) {
+        Map<String, String> options = new HashMap<>();
+        for (String arg : args) {
+            if (!arg.startsWith("--") || !arg.contains("=")) {
+                throw new IllegalArgumentException("Expected --name=value but got '" + arg + "'");
+            }
+            int equals = arg.indexOf('=');
+            options.put(arg.substring(2, equals), arg.substring(equals + 1));
+        }
+        return options;
+    }
+
+    private static int intOption(Map<String, String> options, String name, int defaultValue) {
+        String value = options.get(name);
+        return value == null ? defaultValue : Integer.parseInt(value.trim());
+    }
+}
@@ -0,0 +1,42 @@
+package com.employeemgmt.bench;
+
+import com.employeemgmt.ui.ReportRow;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.math.BigDecimal;
+import java.sql.SQLException;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Monthly reports from ReportService, run against the middle month of the seeded pay history.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class ReportServiceBenchmark {
+
+    @Benchmark
+    public Map<String, BigDecimal> totalPayByDivision(SeededDatabase db) throws SQLException {
+        return db.reportService.getTotalPayByDivision(db.reportMonth.getYear(), db.reportMonth.getMonthValue());
+    }
+
+    @Benchmark
+    public Map<String, BigDecimal> totalPayByJobTitle(SeededDatabase db) throws SQLException {
+        return db.reportService.getTotalPayByJobTitle(db.reportMonth.getYear(), db.reportMonth.getMonthValue());
+    }
+
+    @Benchmark
+    public List<ReportRow> employeePayForMonth(SeededDatabase db) throws SQLException {
+        return db.reportService.getEmployeePayForMonth(db.reportMonth.getYear(), db.reportMonth.getMonthValue());
+    }
+}
@@ -0,0 +1,62 @@
+package com.employeemgmt.bench;
+
+import com.employeemgmt.dao.DivisionDAOImpl;
+import com.employeemgmt.dao.EmployeeDAO;
+import com.employeemgmt.dao.EmployeeDAOImpl;
+import com.employeemgmt.dao.EmployeeDivisionDAOImpl;
+import com.employeemgmt.dao.EmployeeJobTitleDAOImpl;
+import com.employeemgmt.dao.JobTitleDAOImpl;
+import com.employeemgmt.dao.PayrollDAO;
+import com.employeemgmt.dao.PayrollDAOImpl;
+import com.employeemgmt.db.DatabaseConnectionManager;
+import com.employeemgmt.service.EmployeeService;
+import com.employeemgmt.service.ReportService;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+
+import java.time.YearMonth;
+
+/**
+ * Shared benchmark state: an H2 database seeded at the requested scale plus the
+ * DAOs and services under test, wired the same way App wires them.
+ */
+@State(Scope.Benchmark)
+public class SeededDatabase {
+
+    @Param({"10000", "100000", "1000000"})
+    public int payrollRows;
+
+    EmployeeDAO employeeDAO;
+    PayrollDAO payrollDAO;
+    EmployeeService employeeService;
+    ReportService reportService;
+    YearMonth reportMonth;
+    int employeeCount;
+
+    @Setup(Level.Trial)
+    public void setUp() throws Exception {
+        BenchmarkDatabase.configure();
+        employeeCount = BenchmarkDatabase.seed(payrollRows);
+        reportMonth = BenchmarkDatabase.reportMonth();
+
+        employeeDAO = new EmployeeDAOImpl();
+        payrollDAO = new PayrollDAOImpl();
+        DivisionDAOImpl divisionDAO = new DivisionDAOImpl();
+        JobTitleDAOImpl jobTitleDAO = new JobTitleDAOImpl();
+        EmployeeDivisionDAOImpl employeeDivisionDAO = new EmployeeDivisionDAOImpl();
+        EmployeeJobTitleDAOImpl employeeJobTitleDAO = new EmployeeJobTitleDAOImpl();
+
+        employeeService = new EmployeeService(employeeDAO, divisionDAO, jobTitleDAO,
+                employeeDivisionDAO, employeeJobTitleDAO, payrollDAO);
+        reportService = new ReportService(employeeDAO, payrollDAO);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        DatabaseConnectionManager.getInstance().shutdown();
+    }
+}
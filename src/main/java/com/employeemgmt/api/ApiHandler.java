@@ -0,0 +1,202 @@
+package com.employeemgmt.api;
+
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpHandler;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.math.BigDecimal;
+import java.net.URLDecoder;
+import java.nio.charset.StandardCharsets;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Base class for JSON endpoints: splits the path below the context into segments,
+ * decodes query parameters and bodies, and maps exceptions to HTTP status codes.
+ * Each request runs on the server's executor thread and calls services directly.
+ */
+abstract class ApiHandler implements HttpHandler {
+
+    private static final int MAX_BODY_BYTES = 64 * 1024;
+
+    /**
+     * Aborts the request with the given status; the message is returned as {"error": ...}.
+     */
+    static final class ApiException extends RuntimeException {
+        private final int status;
+
+        ApiException(int status, String message) {
+            super(message);
+            this.status = status;
+        }
+    }
+
+    record Response(int status, Object body) {
+        static Response ok(Object body) {
+            return new Response(200, body);
+        }
+
+        static Response created(Object body) {
+            return new Response(201, body);
+        }
+
+        static Response noContent() {
+            return new Response(204, null);
+        }
+    }
+
+    /**
+     * @param method   HTTP method, upper case
+     * @param segments path segments after the context path, e.g. ["5", "payroll"]
+     */
+    record Request(HttpExchange exchange, String method, List<String> segments, Map<String, String> query) {
+
+        String segment(int index) {
+            return index < segments.size() ? segments.get(index) : null;
+        }
+
+        int intSegment(int index) {
+            try {
+                return Integer.parseInt(segment(index));
+            } catch (NumberFormatException e) {
+                throw new ApiException(400, "Expected a number in the path but got '" + segment(index) + "'");
+            }
+        }
+
+        Map<String, Object> body() throws IOException {
+            byte[] bytes;
+            try (InputStream in = exchange.getRequestBody()) {
+                bytes = in.readNBytes(MAX_BODY_BYTES + 1);
+            }
+            if (bytes.length > MAX_BODY_BYTES) {
+                throw new ApiException(413, "Request body too large");
+            }
+            Object parsed = Json.read(new String(bytes, StandardCharsets.UTF_8));
+            if (!(parsed instanceof Map<?, ?>)) {
+                throw new ApiException(400, "Request body must be a JSON object");
+            }
+            @SuppressWarnings("unchecked")
+            Map<String, Object> body = (Map<String, Object>) parsed;
+            return body;
+        }
+    }
+
+    @Override
+    public final void handle(HttpExchange exchange) throws IOException {
+        Response response;
+        try {
+            response = route(parse(exchange));
+        } catch (ApiException e) {
+            response = error(e.status, e.getMessage());
+        } catch (IllegalArgumentException e) {
+            response = error(400, e.getMessage());
+        } catch (SQLException e) {
+            // Class 23 covers duplicate keys and foreign key violations
+            boolean conflict = e.getSQLState() != null && e.getSQLState().startsWith("23");
+            response = conflict
+                    ? error(409, "Conflicts with existing data (duplicate SSN or unknown division/job title)")
+                    : error(500, "Database error");
+            if (!conflict) {
+                e.printStackTrace();
+            }
+        } catch (Exception e) {
+            e.printStackTrace();
+            response = error(500, "Internal error");
+        }
+
+        try (exchange) {
+            send(exchange, response);
+        }
+    }
+
+    /**
+     * Handles one request. Return Response.ok/created/noContent, or throw ApiException.
+     */
+    protected abstract Response route(Request request) throws Exception;
+
+    static ApiException notFound(String what) {
+        return new ApiException(404, what + " not found");
+    }
+
+    static ApiException methodNotAllowed(Request request) {
+        return new ApiException(405, request.method() + " not supported on " + request.exchange().getRequestURI().getPath());
+    }
+
+    static String requireText(Map<String, Object> body, String key) {
+        Object value = body.get(key);
+        if (!(value instanceof String text) || text.isBlank()) {
+            throw new ApiException(400, "'" + key + "' is required");
+        }
+        return text.trim();
+    }
+
+    static BigDecimal requireDecimal(Map<String, Object> body, String key) {
+        Object value = body.get(key);
+        if (value instanceof BigDecimal number) {
+            return number;
+        }
+        if (value instanceof String text) {
+            try {
+                return new BigDecimal(text.trim());
+            } catch (NumberFormatException e) {
+                // reported below
+            }
+        }
+        throw new ApiException(400, "'" + key + "' must be a number");
+    }
+
+    static int requireInt(Map<String, Object> body, String key) {
+        try {
+            return requireDecimal(body, key).intValueExact();
+        } catch (ArithmeticException e) {
+            throw new ApiException(400, "'" + key + "' must be a whole number");
+        }
+    }
+
+    private static Request parse(HttpExchange exchange) {
+        String contextPath = exchange.getHttpContext().getPath();
+        String path = exchange.getRequestURI().getPath();
+        List<String> segments = new ArrayList<>();
+        for (String segment : path.substring(Math.min(contextPath.length(), path.length())).split("/")) {
+            if (!segment.isEmpty()) {
+                segments.add(URLDecoder.decode(segment, StandardCharsets.UTF_8));
+            }
+        }
+
+        Map<String, String> query = new HashMap<>();
+        String rawQuery = exchange.getRequestURI().getRawQuery();
+        if (rawQuery != null) {
+            for (String pair : rawQuery.split("&")) {
+                int equals = pair.indexOf('=');
+                String name = equals < 0 ? pair : pair.substring(0, equals);
+                String value = equals < 0 ? "" : pair.substring(equals + 1);
+                query.put(URLDecoder.decode(name, StandardCharsets.UTF_8),
+                        URLDecoder.decode(value, StandardCharsets.UTF_8));
+            }
+        }
+
+        return new Request(exchange, exchange.getRequestMethod().toUpperCase(), segments, query);
+    }
+
+    private static Response error(int status, String message) {
+        return new Response(status, Map.of("error", message == null ? "" : message));
+    }
+
+    private static void send(HttpExchange exchange, Response response) throws IOException {
+        if (response.body() == null) {
+            exchange.sendResponseHeaders(response.status(), -1);
+            return;
+        }
+        byte[] bytes = Json.write(response.body()).getBytes(StandardCharsets.UTF_8);
+        exchange.getResponseHeaders().set("Content-Type", "application/json; charset=utf-8");
+        exchange.sendResponseHeaders(response.status(), bytes.length);
+        try (OutputStream out = exchange.getResponseBody()) {
+            out.write(bytes);
+        }
+    }
+}
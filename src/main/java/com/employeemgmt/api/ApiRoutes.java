@@ -0,0 +1,23 @@
+package com.employeemgmt.api;
+
+import com.employeemgmt.service.EmployeeService;
+import com.employeemgmt.service.ReportService;
+import com.sun.net.httpserver.HttpServer;
+
+/**
+ * Registers the JSON endpoints on an HttpServer. Handlers stay package-private;
+ * this is the only entry point the server main class needs.
+ */
+public final class ApiRoutes {
+
+    private ApiRoutes() {
+    }
+
+    public static void install(HttpServer server, EmployeeService employeeService, ReportService reportService) {
+        server.createContext("/api/employees", new EmployeeHandler(employeeService, reportService));
+        server.createContext("/api/salary-adjustments", new SalaryAdjustmentHandler(employeeService));
+        server.createContext("/api/reports", new ReportHandler(reportService));
+        server.createContext("/api/divisions", new LookupHandler(employeeService, LookupHandler.Table.DIVISIONS));
+        server.createContext("/api/job-titles", new LookupHandler(employeeService, LookupHandler.Table.JOB_TITLES));
+    }
+}
@@ -0,0 +1,111 @@
+package com.employeemgmt.api;
+
+import com.employeemgmt.db.DatabaseConnectionManager;
+import com.employeemgmt.ui.ServiceBootstrap;
+import com.employeemgmt.ui.fx.controller.ServiceRegistry;
+import com.sun.net.httpserver.HttpServer;
+
+import java.io.IOException;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Headless HTTP/JSON front end over the same services the JavaFX App uses.
+ * Each request gets its own virtual thread when the JVM has them (Java 21+);
+ * on older JVMs a fixed pool of platform threads serves requests and the rest queue.
+ * Concurrent database work is still bounded by the connection pool (DB_POOL_MAX_SIZE).
+ *
+ * The API has no authentication, so it listens on the loopback interface only. Set
+ * API_BIND_ADDRESS (e.g. 0.0.0.0) to expose it to other hosts.
+ */
+public class ApiServer {
+
+    private static final int DEFAULT_PORT = 8080;
+    private static final int DEFAULT_WORKER_THREADS = 200;
+    // Pending connections the kernel holds while all handlers are busy
+    private static final int ACCEPT_BACKLOG = 1024;
+    private static final int STOP_DELAY_SECONDS = 2;
+
+    public static void main(String[] args) throws IOException {
+        int port = setting("API_PORT", DEFAULT_PORT);
+        InetAddress bindAddress = bindAddress();
+
+        ServiceBootstrap.init();
+
+        ExecutorService executor = requestExecutor();
+        HttpServer server = HttpServer.create(new InetSocketAddress(bindAddress, port), ACCEPT_BACKLOG);
+        ApiRoutes.install(server, ServiceRegistry.employees(), ServiceRegistry.reports());
+        server.setExecutor(executor);
+
+        Runtime.getRuntime().addShutdownHook(new Thread(() -> {
+            server.stop(STOP_DELAY_SECONDS);
+            executor.shutdown();
+            try {
+                executor.awaitTermination(STOP_DELAY_SECONDS, TimeUnit.SECONDS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            DatabaseConnectionManager.getInstance().shutdown();
+        }, "api-shutdown"));
+
+        server.start();
+        InetSocketAddress address = server.getAddress();
+        System.out.println("API listening on http://" + address.getAddress().getHostAddress() + ":"
+                + address.getPort() + "/api");
+    }
+
+    /**
+     * @throws IOException if API_BIND_ADDRESS is set but cannot be resolved, so a typo does not
+     *                     silently fall back to another interface
+     */
+    private static InetAddress bindAddress() throws IOException {
+        String value = System.getProperty("API_BIND_ADDRESS", System.getenv("API_BIND_ADDRESS"));
+        if (value == null || value.isBlank()) {
+            return InetAddress.getLoopbackAddress();
+        }
+        return InetAddress.getByName(value.trim());
+    }
+
+    private static ExecutorService requestExecutor() {
+        // Looked up reflectively so the build still targets Java 17
+        try {
+            ExecutorService executor = (ExecutorService) Executors.class
+                    .getMethod("newVirtualThreadPerTaskExecutor")
+                    .invoke(null);
+            System.out.println("Serving requests on virtual threads.");
+            return executor;
+        } catch (ReflectiveOperationException | UnsupportedOperationException e) {
+            int threads = setting("API_WORKER_THREADS", DEFAULT_WORKER_THREADS);
+            System.out.println("Virtual threads unavailable; serving requests on " + threads + " worker threads.");
+            return Executors.newFixedThreadPool(threads, workerThreadFactory());
+        }
+    }
+
+    private static ThreadFactory workerThreadFactory() {
+        AtomicInteger counter = new AtomicInteger();
+        return runnable -> {
+            Thread thread = new Thread(runnable, "api-worker-" + counter.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        };
+    }
+
+    // System property first, then environment variable
+    private static int setting(String name, int defaultValue) {
+        String value = System.getProperty(name, System.getenv(name));
+        if (value == null || value.isBlank()) {
+            return defaultValue;
+        }
+        try {
+            return Integer.parseInt(value.trim());
+        } catch (NumberFormatException e) {
+            System.err.println("Warning: ignoring non-numeric " + name + "=" + value);
+            return defaultValue;
+        }
+    }
+}
@@ -0,0 +1,168 @@
+package com.employeemgmt.api;
+
+import com.employeemgmt.dao.Page;
+import com.employeemgmt.model.Employee;
+import com.employeemgmt.model.Payroll;
+import com.employeemgmt.service.EmployeeService;
+import com.employeemgmt.service.ReportService;
+
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+
+/**
+ * /api/employees
+ *
+ * GET    ?name=fragment[&pageSize=n][&pageToken=t]                 one page of a name search (blank name lists all)
+ *        ?prefix=text&limit=n | ?ssn=123456789                     search
+ * POST   {firstName, lastName, ssn, email, divisionId, jobTitleId} create
+ * GET    /{id}                                                     one employee
+ * PUT    /{id}   same body as POST                                 update
+ * DELETE /{id}                                                     delete
+ * GET    /{id}/payroll[?pageSize=n[&pageToken=t]]                  pay history
+ *
+ * Paged responses are {"items": [...], "nextPageToken": t}, with nextPageToken null on the last page.
+ * Name search is always paged, DEFAULT_PAGE_SIZE rows unless pageSize says otherwise, so a short
+ * fragment cannot pull the whole table into one response. Pay history is paged when pageSize or
+ * pageToken is given, and is otherwise a plain array.
+ */
+final class EmployeeHandler extends ApiHandler {
+
+    private static final int DEFAULT_PREFIX_LIMIT = 20;
+    private static final int MAX_PREFIX_LIMIT = 200;
+    private static final int DEFAULT_PAGE_SIZE = 100;
+    private static final int MAX_PAGE_SIZE = 500;
+
+    private final EmployeeService employeeService;
+    private final ReportService reportService;
+
+    EmployeeHandler(EmployeeService employeeService, ReportService reportService) {
+        this.employeeService = employeeService;
+        this.reportService = reportService;
+    }
+
+    @Override
+    protected Response route(Request request) throws Exception {
+        int depth = request.segments().size();
+        String method = request.method();
+
+        if (depth == 0 && method.equals("GET")) {
+            return search(request.query());
+        }
+        if (depth == 0 && method.equals("POST")) {
+            return create(request.body());
+        }
+        if (depth == 1) {
+            int id = request.intSegment(0);
+            switch (method) {
+                case "GET":
+                    return Response.ok(Views.employee(employeeService.findById(id)
+                            .orElseThrow(() -> notFound("Employee " + id))));
+                case "PUT":
+                    return update(id, request.body());
+                case "DELETE":
+                    if (!employeeService.deleteEmployee(id)) {
+                        throw notFound("Employee " + id);
+                    }
+                    return Response.noContent();
+                default:
+                    throw methodNotAllowed(request);
+            }
+        }
+        if (depth == 2 && "payroll".equals(request.segment(1))) {
+            if (!method.equals("GET")) {
+                throw methodNotAllowed(request);
+            }
+            int id = request.intSegment(0);
+            if (isPaged(request.query())) {
+                Page<Payroll> page = reportService.getPayHistoryForEmployee(id,
+                        request.query().get("pageToken"), pageSize(request.query()));
+                return Response.ok(pageView(page, Views::payroll));
+            }
+            return Response.ok(reportService.getPayHistoryForEmployee(id).stream().map(Views::payroll).toList());
+        }
+        if (depth <= 1) {
+            throw methodNotAllowed(request);
+        }
+        throw notFound("Resource");
+    }
+
+    private Response search(Map<String, String> query) throws Exception {
+        List<Employee> matches;
+        if (query.containsKey("ssn")) {
+            matches = employeeService.findBySSN(query.get("ssn")).map(List::of).orElse(List.of());
+        } else if (query.containsKey("prefix")) {
+            matches = employeeService.findByNamePrefix(query.get("prefix"), limit(query.get("limit")));
+        } else if (query.containsKey("name")) {
+            Page<Employee> page = employeeService.findByNameFragment(query.get("name"),
+                    query.get("pageToken"), pageSize(query));
+            return Response.ok(pageView(page, Views::employee));
+        } else {
+            throw new ApiException(400, "One of 'name', 'prefix' or 'ssn' is required");
+        }
+        return Response.ok(matches.stream().map(Views::employee).toList());
+    }
+
+    private Response create(Map<String, Object> body) throws Exception {
+        Employee employee = new Employee();
+        applyFields(employee, body);
+        Employee created = employeeService.addEmployee(employee,
+                requireInt(body, "divisionId"), requireInt(body, "jobTitleId"));
+        return Response.created(Views.employee(created));
+    }
+
+    private Response update(int id, Map<String, Object> body) throws Exception {
+        // Start from the stored employee so its current division and title names are known
+        Employee employee = employeeService.findById(id).orElseThrow(() -> notFound("Employee " + id));
+        applyFields(employee, body);
+        if (!employeeService.updateEmployee(employee,
+                requireInt(body, "divisionId"), requireInt(body, "jobTitleId"))) {
+            throw notFound("Employee " + id);
+        }
+        return Response.ok(Views.employee(employee));
+    }
+
+    // Employee setters reject malformed SSNs and emails with IllegalArgumentException (400)
+    private static void applyFields(Employee employee, Map<String, Object> body) {
+        employee.setFirstName(requireText(body, "firstName"));
+        employee.setLastName(requireText(body, "lastName"));
+        employee.setSsn(requireText(body, "ssn"));
+        employee.setEmail(requireText(body, "email"));
+    }
+
+    private static boolean isPaged(Map<String, String> query) {
+        return query.containsKey("pageSize") || query.containsKey("pageToken");
+    }
+
+    // A malformed pageToken surfaces from the DAO as IllegalArgumentException (400)
+    private static int pageSize(Map<String, String> query) {
+        String value = query.get("pageSize");
+        if (value == null || value.isBlank()) {
+            return DEFAULT_PAGE_SIZE;
+        }
+        try {
+            return Math.max(1, Math.min(MAX_PAGE_SIZE, Integer.parseInt(value.trim())));
+        } catch (NumberFormatException e) {
+            throw new ApiException(400, "'pageSize' must be a number");
+        }
+    }
+
+    private static <T> Map<String, Object> pageView(Page<T> page, Function<T, Map<String, Object>> view) {
+        Map<String, Object> body = new LinkedHashMap<>();
+        body.put("items", page.items().stream().map(view).toList());
+        body.put("nextPageToken", page.nextToken());
+        return body;
+    }
+
+    private static int limit(String value) {
+        if (value == null || value.isBlank()) {
+            return DEFAULT_PREFIX_LIMIT;
+        }
+        try {
+            return Math.max(1, Math.min(MAX_PREFIX_LIMIT, Integer.parseInt(value.trim())));
+        } catch (NumberFormatException e) {
+            throw new ApiException(400, "'limit' must be a number");
+        }
+    }
+}
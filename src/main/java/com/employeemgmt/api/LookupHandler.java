@@ -0,0 +1,37 @@
+package com.employeemgmt.api;
+
+import com.employeemgmt.service.EmployeeService;
+
+/**
+ * GET /api/divisions and GET /api/job-titles, for filling create and update forms.
+ */
+final class LookupHandler extends ApiHandler {
+
+    enum Table {
+        DIVISIONS,
+        JOB_TITLES
+    }
+
+    private final EmployeeService employeeService;
+    private final Table table;
+
+    LookupHandler(EmployeeService employeeService, Table table) {
+        this.employeeService = employeeService;
+        this.table = table;
+    }
+
+    @Override
+    protected Response route(Request request) throws Exception {
+        if (!request.segments().isEmpty()) {
+            throw notFound("Resource");
+        }
+        if (!request.method().equals("GET")) {
+            throw methodNotAllowed(request);
+        }
+
+        return switch (table) {
+            case DIVISIONS -> Response.ok(employeeService.getAllDivisions().stream().map(Views::division).toList());
+            case JOB_TITLES -> Response.ok(employeeService.getAllJobTitles().stream().map(Views::jobTitle).toList());
+        };
+    }
+}
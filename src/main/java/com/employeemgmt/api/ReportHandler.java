@@ -0,0 +1,48 @@
+package com.employeemgmt.api;
+
+import com.employeemgmt.service.ReportService;
+
+import java.time.DateTimeException;
+import java.time.YearMonth;
+
+/**
+ * /api/reports/{year}/{month}/...
+ *
+ * GET by-division     total pay per division
+ * GET by-job-title    total pay per job title
+ * GET employees       one row per payroll entry in the month
+ */
+final class ReportHandler extends ApiHandler {
+
+    private final ReportService reportService;
+
+    ReportHandler(ReportService reportService) {
+        this.reportService = reportService;
+    }
+
+    @Override
+    protected Response route(Request request) throws Exception {
+        if (request.segments().size() != 3) {
+            throw notFound("Report");
+        }
+        if (!request.method().equals("GET")) {
+            throw methodNotAllowed(request);
+        }
+
+        int year = request.intSegment(0);
+        int month = request.intSegment(1);
+        try {
+            YearMonth.of(year, month);
+        } catch (DateTimeException e) {
+            throw new ApiException(400, e.getMessage());
+        }
+
+        return switch (request.segment(2)) {
+            case "by-division" -> Response.ok(reportService.getTotalPayByDivision(year, month));
+            case "by-job-title" -> Response.ok(reportService.getTotalPayByJobTitle(year, month));
+            case "employees" -> Response.ok(reportService.getEmployeePayForMonth(year, month).stream()
+                    .map(Views::reportRow).toList());
+            default -> throw notFound("Report '" + request.segment(2) + "'");
+        };
+    }
+}
@@ -0,0 +1,41 @@
+package com.employeemgmt.api;
+
+import com.employeemgmt.service.EmployeeService;
+
+import java.math.BigDecimal;
+import java.util.Map;
+
+/**
+ * /api/salary-adjustments
+ *
+ * POST {min, max, percentage}   raise everyone whose latest pay is in [min, max]
+ */
+final class SalaryAdjustmentHandler extends ApiHandler {
+
+    private final EmployeeService employeeService;
+
+    SalaryAdjustmentHandler(EmployeeService employeeService) {
+        this.employeeService = employeeService;
+    }
+
+    @Override
+    protected Response route(Request request) throws Exception {
+        if (!request.segments().isEmpty()) {
+            throw notFound("Resource");
+        }
+        if (!request.method().equals("POST")) {
+            throw methodNotAllowed(request);
+        }
+
+        Map<String, Object> body = request.body();
+        BigDecimal min = requireDecimal(body, "min");
+        BigDecimal max = requireDecimal(body, "max");
+        BigDecimal percentage = requireDecimal(body, "percentage");
+        if (min.compareTo(max) > 0) {
+            throw new ApiException(400, "'min' must not exceed 'max'");
+        }
+
+        int created = employeeService.increaseSalaryInRange(min, max, percentage);
+        return Response.ok(Map.of("payrollRowsCreated", created));
+    }
+}
@@ -0,0 +1,72 @@
+package com.employeemgmt.api;
+
+import com.employeemgmt.model.Division;
+import com.employeemgmt.model.Employee;
+import com.employeemgmt.model.JobTitle;
+import com.employeemgmt.model.Payroll;
+import com.employeemgmt.ui.ReportRow;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Converts model objects to the maps that Json writes.
+ * SSNs never leave the server in full; responses carry only the last four digits.
+ */
+final class Views {
+
+    private Views() {
+    }
+
+    static Map<String, Object> employee(Employee employee) {
+        Map<String, Object> view = new LinkedHashMap<>();
+        view.put("id", employee.getEmployeeId());
+        view.put("firstName", employee.getFirstName());
+        view.put("lastName", employee.getLastName());
+        view.put("ssnLast4", lastFour(employee.getSsn()));
+        view.put("email", employee.getEmail());
+        view.put("division", employee.getDivisionName());
+        view.put("jobTitle", employee.getJobTitleName());
+        return view;
+    }
+
+    static Map<String, Object> payroll(Payroll payroll) {
+        Map<String, Object> view = new LinkedHashMap<>();
+        view.put("id", payroll.getPayrollId());
+        view.put("employeeId", payroll.getEmployeeId());
+        view.put("amount", payroll.getAmount());
+        view.put("payPeriodStart", payroll.getPayPeriodStart());
+        view.put("payPeriodEnd", payroll.getPayPeriodEnd());
+        return view;
+    }
+
+    static Map<String, Object> reportRow(ReportRow row) {
+        Map<String, Object> view = new LinkedHashMap<>();
+        view.put("employeeId", row.getEmployeeId());
+        view.put("employeeName", row.getEmployeeName());
+        view.put("division", row.getDivisionName());
+        view.put("jobTitle", row.getJobTitle());
+        view.put("payPeriodStart", row.getPayPeriodStart());
+        view.put("payPeriodEnd", row.getPayPeriodEnd());
+        view.put("amount", row.getAmount());
+        return view;
+    }
+
+    static Map<String, Object> division(Division division) {
+        Map<String, Object> view = new LinkedHashMap<>();
+        view.put("id", division.getDivisionId());
+        view.put("name", division.getName());
+        return view;
+    }
+
+    static Map<String, Object> jobTitle(JobTitle jobTitle) {
+        Map<String, Object> view = new LinkedHashMap<>();
+        view.put("id", jobTitle.getJobTitleId());
+        view.put("title", jobTitle.getTitle());
+        return view;
+    }
+
+    private static String lastFour(String ssn) {
+        return ssn == null || ssn.length() < 4 ? null : ssn.substring(ssn.length() - 4);
+    }
+}
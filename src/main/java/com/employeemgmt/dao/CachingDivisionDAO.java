@@ -0,0 +1,71 @@
+package com.employeemgmt.dao;
+
+import com.employeemgmt.model.Division;
+
+import java.sql.SQLException;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * Read-through cache in front of a DivisionDAO. Lookups are served from memory;
+ * writes go to the delegate and invalidate the cached table.
+ */
+public class CachingDivisionDAO implements DivisionDAO {
+
+    private final DivisionDAO delegate;
+    private final LookupTableCache<Division> cache;
+
+    public CachingDivisionDAO(DivisionDAO delegate) {
+        this(delegate, 0);
+    }
+
+    /**
+     * @param ttlMillis how long cached rows stay valid; 0 or less means until the next write
+     */
+    public CachingDivisionDAO(DivisionDAO delegate, long ttlMillis) {
+        this.delegate = delegate;
+        this.cache = new LookupTableCache<>(delegate::findAll, Division::getDivisionId,
+                division -> new Division(division.getDivisionId(), division.getName()), ttlMillis);
+    }
+
+    @Override
+    public Division insert(Division division) throws SQLException {
+        try {
+            return delegate.insert(division);
+        } finally {
+            cache.invalidate();
+        }
+    }
+
+    @Override
+    public boolean update(Division division) throws SQLException {
+        try {
+            return delegate.update(division);
+        } finally {
+            cache.invalidate();
+        }
+    }
+
+    @Override
+    public boolean delete(Integer divisionId) throws SQLException {
+        try {
+            return delegate.delete(divisionId);
+        } finally {
+            cache.invalidate();
+        }
+    }
+
+    @Override
+    public Optional<Division> findById(Integer divisionId) throws SQLException {
+        return cache.findById(divisionId);
+    }
+
+    @Override
+    public List<Division> findAll() throws SQLException {
+        return cache.findAll();
+    }
+
+    public void invalidate() {
+        cache.invalidate();
+    }
+}
@@ -0,0 +1,71 @@
+package com.employeemgmt.dao;
+
+import com.employeemgmt.model.JobTitle;
+
+import java.sql.SQLException;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * Read-through cache in front of a JobTitleDAO. Lookups are served from memory;
+ * writes go to the delegate and invalidate the cached table.
+ */
+public class CachingJobTitleDAO implements JobTitleDAO {
+
+    private final JobTitleDAO delegate;
+    private final LookupTableCache<JobTitle> cache;
+
+    public CachingJobTitleDAO(JobTitleDAO delegate) {
+        this(delegate, 0);
+    }
+
+    /**
+     * @param ttlMillis how long cached rows stay valid; 0 or less means until the next write
+     */
+    public CachingJobTitleDAO(JobTitleDAO delegate, long ttlMillis) {
+        this.delegate = delegate;
+        this.cache = new LookupTableCache<>(delegate::findAll, JobTitle::getJobTitleId,
+                jobTitle -> new JobTitle(jobTitle.getJobTitleId(), jobTitle.getTitle()), ttlMillis);
+    }
+
+    @Override
+    public JobTitle insert(JobTitle jobTitle) throws SQLException {
+        try {
+            return delegate.insert(jobTitle);
+        } finally {
+            cache.invalidate();
+        }
+    }
+
+    @Override
+    public boolean update(JobTitle jobTitle) throws SQLException {
+        try {
+            return delegate.update(jobTitle);
+        } finally {
+            cache.invalidate();
+        }
+    }
+
+    @Override
+    public boolean delete(Integer jobTitleId) throws SQLException {
+        try {
+            return delegate.delete(jobTitleId);
+        } finally {
+            cache.invalidate();
+        }
+    }
+
+    @Override
+    public Optional<JobTitle> findById(Integer jobTitleId) throws SQLException {
+        return cache.findById(jobTitleId);
+    }
+
+    @Override
+    public List<JobTitle> findAll() throws SQLException {
+        return cache.findAll();
+    }
+
+    public void invalidate() {
+        cache.invalidate();
+    }
+}
@@ -54,12 +54,20 @@ public class DivisionDAOImpl implements DivisionDAO {
     public boolean delete(Integer divisionId) throws SQLException {
         String sql = SQLConstants.Division.DELETE;
 
-        try (Connection conn = dbManager.getConnection();
-             PreparedStatement ps = conn.prepareStatement(sql)) {
-
-            ps.setInt(1, divisionId);
-            return ps.executeUpdate() > 0;
-        }
+        // Deleting cascades to the employees' relationships, which moves their payroll totals
+        return dbManager.inTransaction(() -> {
+            try (Connection conn = dbManager.getConnection();
+                 PreparedStatement ps = conn.prepareStatement(sql)) {
+
+                List<Integer> employeeIds = PayrollMonthlySummary.findEmployeeIds(
+                        conn, SQLConstants.EmployeeDivision.FIND_BY_DIVISION_ID, divisionId);
+                PayrollMonthlySummary.removeEmployees(conn, employeeIds);
+                ps.setInt(1, divisionId);
+                boolean deleted = ps.executeUpdate() > 0;
+                PayrollMonthlySummary.addEmployees(conn, employeeIds);
+                return deleted;
+            }
+        });
     }
 
     @Override
@@ -6,6 +6,7 @@ import java.math.BigDecimal;
 import java.sql.SQLException;
 import java.util.List;
 import java.util.Optional;
+import java.util.stream.Stream;
 
 public interface EmployeeDAO {
     Employee insert(Employee employee) throws SQLException;
@@ -18,10 +19,56 @@ public interface EmployeeDAO {
 
     List<Employee> findAll() throws SQLException;
 
+    /**
+     * Streams every row through a server-side cursor so memory stays bounded.
+     * The returned stream holds a database connection and must be closed.
+     */
+    Stream<Employee> streamAll() throws SQLException;
+
     Optional<Employee> findBySSN(String ssn) throws SQLException;
 
     List<Employee> searchByName(String nameFragment) throws SQLException;
 
+    // Variants that also populate division name and job title in a single joined query
+    Optional<Employee> findByIdWithDetails(Integer employeeId) throws SQLException;
+
+    Optional<Employee> findBySSNWithDetails(String ssn) throws SQLException;
+
+    List<Employee> searchByNameWithDetails(String nameFragment) throws SQLException;
+
+    /**
+     * One page of employees (with details) whose first or last name contains the fragment,
+     * ordered by last name, first name and id. Uses keyset pagination, so every page costs
+     * about the same however deep it is.
+     *
+     * @param nameFragment null or blank to list all employees
+     * @param pageToken    null for the first page, otherwise the previous page's nextToken
+     * @throws IllegalArgumentException if the page token is malformed
+     */
+    Page<Employee> searchByNameWithDetails(String nameFragment, String pageToken, int pageSize) throws SQLException;
+
+    /**
+     * The page token that starts each page of the same name search after the first: element i
+     * continues after page i. Lets a caller jump to any page with a keyset seek; the tokens are
+     * read in one pass over the name index.
+     */
+    List<String> searchByNamePageTokens(String nameFragment, int pageSize) throws SQLException;
+
+    /**
+     * Employees (with details) whose first or last name starts with the prefix, ordered by
+     * last name, first name and id. Wildcards in the prefix match literally.
+     *
+     * @return an empty list if the prefix is null or blank
+     */
+    List<Employee> searchByNamePrefixWithDetails(String prefix, int limit) throws SQLException;
+
+    /**
+     * @param nameFragment null or blank to count all employees
+     */
+    int countByName(String nameFragment) throws SQLException;
+
+    List<Employee> findByIdsWithDetails(List<Integer> employeeIds) throws SQLException;
+
     int updateSalaryByPercentage(double percentage, BigDecimal min, BigDecimal max) throws SQLException;
 }
 
@@ -9,6 +9,7 @@ import java.sql.Statement;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Optional;
+import java.util.stream.Stream;
 
 import com.employeemgmt.db.DatabaseConnectionManager;
 import com.employeemgmt.model.Employee;
@@ -61,12 +62,16 @@ public class EmployeeDAOImpl implements EmployeeDAO {
     public boolean delete(Integer employeeId) throws SQLException {
         String sql = SQLConstants.Employee.DELETE;
 
-        try (Connection conn = dbManager.getConnection();
-             PreparedStatement ps = conn.prepareStatement(sql)) {
+        // Payroll rows go with the employee (ON DELETE CASCADE), so take them out of the summary first
+        return dbManager.inTransaction(() -> {
+            try (Connection conn = dbManager.getConnection();
+                 PreparedStatement ps = conn.prepareStatement(sql)) {
 
-            ps.setInt(1, employeeId);
-            return ps.executeUpdate() > 0;
-        }
+                PayrollMonthlySummary.removeEmployees(conn, List.of(employeeId));
+                ps.setInt(1, employeeId);
+                return ps.executeUpdate() > 0;
+            }
+        });
     }
 
     @Override
@@ -105,6 +110,20 @@ public class EmployeeDAOImpl implements EmployeeDAO {
         return employees;
     }
 
+    @Override
+    public Stream<Employee> streamAll() throws SQLException {
+        String sql = SQLConstants.Employee.FIND_ALL;
+
+        Connection conn = dbManager.getConnection();
+        try {
+            PreparedStatement ps = conn.prepareStatement(sql);
+            return ResultSetStreams.stream(conn, ps, this::mapResultSetToEmployee);
+        } catch (SQLException e) {
+            conn.close();
+            throw e;
+        }
+    }
+
     @Override
     public Optional<Employee> findBySSN(String ssn) throws SQLException {
         String sql = SQLConstants.Employee.FIND_BY_SSN;
@@ -146,6 +165,203 @@ public class EmployeeDAOImpl implements EmployeeDAO {
         return employees;
     }
 
+    @Override
+    public Optional<Employee> findByIdWithDetails(Integer employeeId) throws SQLException {
+        String sql = SQLConstants.Employee.FIND_BY_ID_WITH_DETAILS;
+
+        try (Connection conn = dbManager.getConnection();
+             PreparedStatement ps = conn.prepareStatement(sql)) {
+
+            ps.setInt(1, employeeId);
+
+            try (ResultSet rs = ps.executeQuery()) {
+                if (rs.next()) {
+                    return Optional.of(mapResultSetToEmployeeWithDetails(rs));
+                }
+            }
+        }
+
+        return Optional.empty();
+    }
+
+    @Override
+    public Optional<Employee> findBySSNWithDetails(String ssn) throws SQLException {
+        String sql = SQLConstants.Employee.FIND_BY_SSN_WITH_DETAILS;
+
+        try (Connection conn = dbManager.getConnection();
+             PreparedStatement ps = conn.prepareStatement(sql)) {
+
+            ps.setString(1, ssn);
+
+            try (ResultSet rs = ps.executeQuery()) {
+                if (rs.next()) {
+                    return Optional.of(mapResultSetToEmployeeWithDetails(rs));
+                }
+            }
+        }
+
+        return Optional.empty();
+    }
+
+    @Override
+    public List<Employee> searchByNameWithDetails(String nameFragment) throws SQLException {
+        String sql = SQLConstants.Employee.SEARCH_BY_NAME_WITH_DETAILS;
+        List<Employee> employees = new ArrayList<>();
+        String searchPattern = "%" + nameFragment + "%";
+
+        try (Connection conn = dbManager.getConnection();
+             PreparedStatement ps = conn.prepareStatement(sql)) {
+
+            ps.setString(1, searchPattern);
+            ps.setString(2, searchPattern);
+
+            try (ResultSet rs = ps.executeQuery()) {
+                while (rs.next()) {
+                    employees.add(mapResultSetToEmployeeWithDetails(rs));
+                }
+            }
+        }
+
+        return employees;
+    }
+
+    @Override
+    public Page<Employee> searchByNameWithDetails(String nameFragment, String pageToken, int pageSize)
+            throws SQLException {
+        boolean filtered = nameFragment != null && !nameFragment.isBlank();
+        String[] after = pageToken != null ? PageToken.decode(pageToken, 3) : null;
+        String sql = SQLConstants.Employee.searchByNamePageWithDetails(filtered, after != null);
+        List<Employee> employees = new ArrayList<>(pageSize + 1);
+
+        try (Connection conn = dbManager.getConnection();
+             PreparedStatement ps = conn.prepareStatement(sql)) {
+
+            int index = 1;
+            if (filtered) {
+                String searchPattern = "%" + nameFragment + "%";
+                ps.setString(index++, searchPattern);
+                ps.setString(index++, searchPattern);
+            }
+            if (after != null) {
+                String lastName = after[0];
+                String firstName = after[1];
+                ps.setString(index++, lastName);
+                ps.setString(index++, lastName);
+                ps.setString(index++, lastName);
+                ps.setString(index++, firstName);
+                ps.setString(index++, firstName);
+                ps.setInt(index++, parseKey(after[2]));
+            }
+            ps.setInt(index, pageSize + 1);
+
+            try (ResultSet rs = ps.executeQuery()) {
+                while (rs.next()) {
+                    employees.add(mapResultSetToEmployeeWithDetails(rs));
+                }
+            }
+        }
+
+        return namePage(employees, pageSize);
+    }
+
+    @Override
+    public List<String> searchByNamePageTokens(String nameFragment, int pageSize) throws SQLException {
+        boolean filtered = nameFragment != null && !nameFragment.isBlank();
+        String sql = SQLConstants.Employee.searchByNamePageStarts(filtered);
+        List<String> tokens = new ArrayList<>();
+
+        try (Connection conn = dbManager.getConnection();
+             PreparedStatement ps = conn.prepareStatement(sql)) {
+
+            int index = 1;
+            if (filtered) {
+                String searchPattern = "%" + nameFragment + "%";
+                ps.setString(index++, searchPattern);
+                ps.setString(index++, searchPattern);
+            }
+            ps.setInt(index, pageSize);
+
+            try (ResultSet rs = ps.executeQuery()) {
+                while (rs.next()) {
+                    tokens.add(PageToken.encode(rs.getString("last_name"), rs.getString("first_name"),
+                            rs.getInt("employee_id")));
+                }
+            }
+        }
+
+        return tokens;
+    }
+
+    @Override
+    public int countByName(String nameFragment) throws SQLException {
+        boolean filtered = nameFragment != null && !nameFragment.isBlank();
+
+        try (Connection conn = dbManager.getConnection();
+             PreparedStatement ps = conn.prepareStatement(SQLConstants.Employee.countByName(filtered))) {
+
+            if (filtered) {
+                String searchPattern = "%" + nameFragment + "%";
+                ps.setString(1, searchPattern);
+                ps.setString(2, searchPattern);
+            }
+
+            try (ResultSet rs = ps.executeQuery()) {
+                return rs.next() ? rs.getInt(1) : 0;
+            }
+        }
+    }
+
+    @Override
+    public List<Employee> searchByNamePrefixWithDetails(String prefix, int limit) throws SQLException {
+        List<Employee> employees = new ArrayList<>();
+        if (prefix == null || prefix.isBlank() || limit <= 0) {
+            return employees;
+        }
+        String searchPattern = escapeLike(prefix.trim()) + "%";
+
+        try (Connection conn = dbManager.getConnection();
+             PreparedStatement ps = conn.prepareStatement(SQLConstants.Employee.SEARCH_BY_NAME_PREFIX_WITH_DETAILS)) {
+
+            ps.setString(1, searchPattern);
+            ps.setString(2, searchPattern);
+            ps.setInt(3, limit);
+
+            try (ResultSet rs = ps.executeQuery()) {
+                while (rs.next()) {
+                    employees.add(mapResultSetToEmployeeWithDetails(rs));
+                }
+            }
+        }
+
+        return employees;
+    }
+
+    @Override
+    public List<Employee> findByIdsWithDetails(List<Integer> employeeIds) throws SQLException {
+        List<Employee> employees = new ArrayList<>();
+        if (employeeIds.isEmpty()) {
+            return employees;
+        }
+
+        String sql = SQLConstants.Employee.findByIdsWithDetails(employeeIds.size());
+
+        try (Connection conn = dbManager.getConnection();
+             PreparedStatement ps = conn.prepareStatement(sql)) {
+
+            for (int i = 0; i < employeeIds.size(); i++) {
+                ps.setInt(i + 1, employeeIds.get(i));
+            }
+
+            try (ResultSet rs = ps.executeQuery()) {
+                while (rs.next()) {
+                    employees.add(mapResultSetToEmployeeWithDetails(rs));
+                }
+            }
+        }
+
+        return employees;
+    }
+
     @Override
     public int updateSalaryByPercentage(double percentage, BigDecimal min, BigDecimal max) throws SQLException {
         String sql = SQLConstants.Employee.UPDATE_SALARY_BY_PERCENTAGE;
@@ -170,6 +386,19 @@ public class EmployeeDAOImpl implements EmployeeDAO {
         }
     }
 
+    private static Page<Employee> namePage(List<Employee> employees, int pageSize) {
+        return PageToken.page(employees, pageSize,
+                last -> PageToken.encode(last.getLastName(), last.getFirstName(), last.getEmployeeId()));
+    }
+
+    private static int parseKey(String key) {
+        try {
+            return Integer.parseInt(key);
+        } catch (NumberFormatException e) {
+            throw new IllegalArgumentException("Invalid page token", e);
+        }
+    }
+
     private Employee mapResultSetToEmployee(ResultSet rs) throws SQLException {
         Employee employee = new Employee();
         employee.setEmployeeId(rs.getInt("employee_id"));
@@ -179,5 +408,16 @@ public class EmployeeDAOImpl implements EmployeeDAO {
         employee.setEmail(rs.getString("email"));
         return employee;
     }
-}
 
+    // Backslash is the default LIKE escape character in MySQL
+    private static String escapeLike(String text) {
+        return text.replace("\\", "\\\\").replace("%", "\\%").replace("_", "\\_");
+    }
+
+    private Employee mapResultSetToEmployeeWithDetails(ResultSet rs) throws SQLException {
+        Employee employee = mapResultSetToEmployee(rs);
+        employee.setDivisionName(rs.getString("division_name"));
+        employee.setJobTitleName(rs.getString("job_title"));
+        return employee;
+    }
+}
@@ -9,8 +9,16 @@ import java.util.Optional;
 public interface EmployeeDivisionDAO {
     EmployeeDivision insert(EmployeeDivision employeeDivision) throws SQLException;
 
+    // Inserts the relationship or replaces the employee's existing one
+    void assign(Integer employeeId, Integer divisionId) throws SQLException;
+
+    // Assigns every pair in one transaction using chunked JDBC batches
+    void assignAll(List<EmployeeDivision> assignments) throws SQLException;
+
     boolean delete(Integer employeeId, Integer divisionId) throws SQLException;
 
+    int deleteByEmployeeId(Integer employeeId) throws SQLException;
+
     Optional<EmployeeDivision> findById(Integer employeeId, Integer divisionId) throws SQLException;
 
     List<EmployeeDivision> findAll() throws SQLException;
@@ -5,7 +5,10 @@ import java.sql.PreparedStatement;
 import java.sql.ResultSet;
 import java.sql.SQLException;
 import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 
 import com.employeemgmt.db.DatabaseConnectionManager;
@@ -13,34 +16,135 @@ import com.employeemgmt.model.EmployeeDivision;
 
 public class EmployeeDivisionDAOImpl implements EmployeeDivisionDAO {
 
+    private static final int BATCH_SIZE = 1000;
+
     private final DatabaseConnectionManager dbManager = DatabaseConnectionManager.getInstance();
 
     @Override
     public EmployeeDivision insert(EmployeeDivision employeeDivision) throws SQLException {
         String sql = SQLConstants.EmployeeDivision.INSERT;
 
-        try (Connection conn = dbManager.getConnection();
-             PreparedStatement ps = conn.prepareStatement(sql)) {
+        // Payroll totals in the monthly summary move with the relationship
+        return dbManager.inTransaction(() -> {
+            try (Connection conn = dbManager.getConnection();
+                 PreparedStatement ps = conn.prepareStatement(sql)) {
+
+                List<Integer> moving = employeesToMove(conn,
+                        Map.of(employeeDivision.getEmployeeId(), employeeDivision.getDivisionId()));
+                PayrollMonthlySummary.removeEmployees(conn, moving);
+                ps.setInt(1, employeeDivision.getEmployeeId());
+                ps.setInt(2, employeeDivision.getDivisionId());
+                ps.executeUpdate();
+                PayrollMonthlySummary.addEmployees(conn, moving);
+            }
+            return employeeDivision;
+        });
+    }
 
-            ps.setInt(1, employeeDivision.getEmployeeId());
-            ps.setInt(2, employeeDivision.getDivisionId());
-            ps.executeUpdate();
+    @Override
+    public void assign(Integer employeeId, Integer divisionId) throws SQLException {
+        String sql = SQLConstants.EmployeeDivision.ASSIGN;
+
+        dbManager.inTransaction(() -> {
+            try (Connection conn = dbManager.getConnection();
+                 PreparedStatement ps = conn.prepareStatement(sql)) {
+
+                List<Integer> moving = employeesToMove(conn, Map.of(employeeId, divisionId));
+                PayrollMonthlySummary.removeEmployees(conn, moving);
+                ps.setInt(1, employeeId);
+                ps.setInt(2, divisionId);
+                ps.executeUpdate();
+                PayrollMonthlySummary.addEmployees(conn, moving);
+            }
+            return null;
+        });
+    }
+
+    @Override
+    public void assignAll(List<EmployeeDivision> assignments) throws SQLException {
+        if (assignments.isEmpty()) {
+            return;
         }
 
-        return employeeDivision;
+        String sql = SQLConstants.EmployeeDivision.ASSIGN;
+        // Later assignments for the same employee win, as they do in the batch
+        Map<Integer, Integer> targets = new LinkedHashMap<>();
+        for (EmployeeDivision assignment : assignments) {
+            targets.put(assignment.getEmployeeId(), assignment.getDivisionId());
+        }
+
+        dbManager.inTransaction(() -> {
+            try (Connection conn = dbManager.getConnection();
+                 PreparedStatement ps = conn.prepareStatement(sql)) {
+
+                List<Integer> moving = employeesToMove(conn, targets);
+                PayrollMonthlySummary.removeEmployees(conn, moving);
+
+                for (int i = 0; i < assignments.size(); i++) {
+                    EmployeeDivision assignment = assignments.get(i);
+                    ps.setInt(1, assignment.getEmployeeId());
+                    ps.setInt(2, assignment.getDivisionId());
+                    ps.addBatch();
+
+                    if ((i + 1) % BATCH_SIZE == 0 || i == assignments.size() - 1) {
+                        ps.executeBatch();
+                    }
+                }
+
+                PayrollMonthlySummary.addEmployees(conn, moving);
+            }
+            return null;
+        });
     }
 
     @Override
     public boolean delete(Integer employeeId, Integer divisionId) throws SQLException {
         String sql = SQLConstants.EmployeeDivision.DELETE;
 
-        try (Connection conn = dbManager.getConnection();
-             PreparedStatement ps = conn.prepareStatement(sql)) {
+        return dbManager.inTransaction(() -> {
+            try (Connection conn = dbManager.getConnection();
+                 PreparedStatement ps = conn.prepareStatement(sql)) {
+
+                // Only a row for this division is deleted, so only then do the totals move
+                Map<Integer, Integer> current = PayrollMonthlySummary.lockCurrentGrouping(conn, List.of(employeeId),
+                        SQLConstants.EmployeeDivision::lockCurrentForEmployeesWithPayroll);
+                List<Integer> moving = divisionId.equals(current.get(employeeId)) ? List.of(employeeId) : List.of();
+                PayrollMonthlySummary.removeEmployees(conn, moving);
+                ps.setInt(1, employeeId);
+                ps.setInt(2, divisionId);
+                boolean deleted = ps.executeUpdate() > 0;
+                PayrollMonthlySummary.addEmployees(conn, moving);
+                return deleted;
+            }
+        });
+    }
 
-            ps.setInt(1, employeeId);
-            ps.setInt(2, divisionId);
-            return ps.executeUpdate() > 0;
-        }
+    @Override
+    public int deleteByEmployeeId(Integer employeeId) throws SQLException {
+        String sql = SQLConstants.EmployeeDivision.DELETE_BY_EMPLOYEE;
+
+        return dbManager.inTransaction(() -> {
+            try (Connection conn = dbManager.getConnection();
+                 PreparedStatement ps = conn.prepareStatement(sql)) {
+
+                List<Integer> moving = employeesToMove(conn, Collections.singletonMap(employeeId, null));
+                PayrollMonthlySummary.removeEmployees(conn, moving);
+                ps.setInt(1, employeeId);
+                int deleted = ps.executeUpdate();
+                PayrollMonthlySummary.addEmployees(conn, moving);
+                return deleted;
+            }
+        });
+    }
+
+    /**
+     * Locks the employees and returns those whose payroll totals change group, i.e. that have payroll
+     * and whose current division differs from the target one (null for none).
+     */
+    private static List<Integer> employeesToMove(Connection conn, Map<Integer, Integer> targets) throws SQLException {
+        Map<Integer, Integer> current = PayrollMonthlySummary.lockCurrentGrouping(conn, new ArrayList<>(targets.keySet()),
+                SQLConstants.EmployeeDivision::lockCurrentForEmployeesWithPayroll);
+        return PayrollMonthlySummary.changedEmployees(current, targets);
     }
 
     @Override
@@ -9,8 +9,16 @@ import java.util.Optional;
 public interface EmployeeJobTitleDAO {
     EmployeeJobTitle insert(EmployeeJobTitle employeeJobTitle) throws SQLException;
 
+    // Inserts the relationship or replaces the employee's existing one
+    void assign(Integer employeeId, Integer jobTitleId) throws SQLException;
+
+    // Assigns every pair in one transaction using chunked JDBC batches
+    void assignAll(List<EmployeeJobTitle> assignments) throws SQLException;
+
     boolean delete(Integer employeeId, Integer jobTitleId) throws SQLException;
 
+    int deleteByEmployeeId(Integer employeeId) throws SQLException;
+
     Optional<EmployeeJobTitle> findById(Integer employeeId, Integer jobTitleId) throws SQLException;
 
     List<EmployeeJobTitle> findAll() throws SQLException;
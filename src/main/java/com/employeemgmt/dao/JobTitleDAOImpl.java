@@ -54,12 +54,20 @@ public class JobTitleDAOImpl implements JobTitleDAO {
     public boolean delete(Integer jobTitleId) throws SQLException {
         String sql = SQLConstants.JobTitle.DELETE;
 
-        try (Connection conn = dbManager.getConnection();
-             PreparedStatement ps = conn.prepareStatement(sql)) {
-
-            ps.setInt(1, jobTitleId);
-            return ps.executeUpdate() > 0;
-        }
+        // Deleting cascades to the employees' relationships, which moves their payroll totals
+        return dbManager.inTransaction(() -> {
+            try (Connection conn = dbManager.getConnection();
+                 PreparedStatement ps = conn.prepareStatement(sql)) {
+
+                List<Integer> employeeIds = PayrollMonthlySummary.findEmployeeIds(
+                        conn, SQLConstants.EmployeeJobTitle.FIND_BY_JOB_TITLE_ID, jobTitleId);
+                PayrollMonthlySummary.removeEmployees(conn, employeeIds);
+                ps.setInt(1, jobTitleId);
+                boolean deleted = ps.executeUpdate() > 0;
+                PayrollMonthlySummary.addEmployees(conn, employeeIds);
+                return deleted;
+            }
+        });
     }
 
     @Override
@@ -0,0 +1,73 @@
+package com.employeemgmt.dao;
+
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.function.Function;
+import java.util.function.UnaryOperator;
+
+/**
+ * Whole-table cache for small lookup tables such as division and job_titles.
+ * The table is loaded on first use and reloaded after invalidation or once the
+ * optional TTL expires. Callers always receive copies, so cached rows cannot be
+ * mutated through returned objects.
+ */
+final class LookupTableCache<T> {
+
+    @FunctionalInterface
+    interface Loader<T> {
+        List<T> load() throws SQLException;
+    }
+
+    private final Loader<T> loader;
+    private final Function<T, Integer> idOf;
+    private final UnaryOperator<T> copy;
+    private final long ttlMillis;
+
+    // Rows in the delegate's findAll order, keyed by ID
+    private Map<Integer, T> rows;
+    private long loadedAt;
+
+    /**
+     * @param ttlMillis how long a loaded table stays valid; 0 or less means until invalidated
+     */
+    LookupTableCache(Loader<T> loader, Function<T, Integer> idOf, UnaryOperator<T> copy, long ttlMillis) {
+        this.loader = loader;
+        this.idOf = idOf;
+        this.copy = copy;
+        this.ttlMillis = ttlMillis;
+    }
+
+    Optional<T> findById(Integer id) throws SQLException {
+        T row = rows().get(id);
+        return row != null ? Optional.of(copy.apply(row)) : Optional.empty();
+    }
+
+    List<T> findAll() throws SQLException {
+        List<T> result = new ArrayList<>();
+        for (T row : rows().values()) {
+            result.add(copy.apply(row));
+        }
+        return result;
+    }
+
+    synchronized void invalidate() {
+        rows = null;
+    }
+
+    private synchronized Map<Integer, T> rows() throws SQLException {
+        boolean expired = ttlMillis > 0 && System.currentTimeMillis() - loadedAt > ttlMillis;
+        if (rows == null || expired) {
+            Map<Integer, T> loaded = new LinkedHashMap<>();
+            for (T row : loader.load()) {
+                loaded.put(idOf.apply(row), row);
+            }
+            rows = loaded;
+            loadedAt = System.currentTimeMillis();
+        }
+        return rows;
+    }
+}
@@ -0,0 +1,47 @@
+package com.employeemgmt.dao;
+
+import com.employeemgmt.metrics.DaoMetrics;
+import com.employeemgmt.model.Division;
+
+import java.sql.SQLException;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * Records call count, latency, rows and connection wait of every DivisionDAO method in DaoMetrics.
+ */
+public class MeteredDivisionDAO implements DivisionDAO {
+
+    private final DivisionDAO delegate;
+    private final DaoMetrics.Recorder metrics;
+
+    public MeteredDivisionDAO(DivisionDAO delegate, DaoMetrics metrics) {
+        this.delegate = delegate;
+        this.metrics = metrics.forDao("DivisionDAO");
+    }
+
+    @Override
+    public Division insert(Division division) throws SQLException {
+        return metrics.call("insert", () -> delegate.insert(division));
+    }
+
+    @Override
+    public boolean update(Division division) throws SQLException {
+        return metrics.call("update", () -> delegate.update(division));
+    }
+
+    @Override
+    public boolean delete(Integer divisionId) throws SQLException {
+        return metrics.call("delete", () -> delegate.delete(divisionId));
+    }
+
+    @Override
+    public Optional<Division> findById(Integer divisionId) throws SQLException {
+        return metrics.call("findById", () -> delegate.findById(divisionId));
+    }
+
+    @Override
+    public List<Division> findAll() throws SQLException {
+        return metrics.call("findAll", delegate::findAll);
+    }
+}
@@ -0,0 +1,112 @@
+package com.employeemgmt.dao;
+
+import com.employeemgmt.metrics.DaoMetrics;
+import com.employeemgmt.model.Employee;
+
+import java.math.BigDecimal;
+import java.sql.SQLException;
+import java.util.List;
+import java.util.Optional;
+import java.util.stream.Stream;
+
+/**
+ * Records call count, latency, rows and connection wait of every EmployeeDAO method in DaoMetrics.
+ */
+public class MeteredEmployeeDAO implements EmployeeDAO {
+
+    private final EmployeeDAO delegate;
+    private final DaoMetrics.Recorder metrics;
+
+    public MeteredEmployeeDAO(EmployeeDAO delegate, DaoMetrics metrics) {
+        this.delegate = delegate;
+        this.metrics = metrics.forDao("EmployeeDAO");
+    }
+
+    @Override
+    public Employee insert(Employee employee) throws SQLException {
+        return metrics.call("insert", () -> delegate.insert(employee));
+    }
+
+    @Override
+    public boolean update(Employee employee) throws SQLException {
+        return metrics.call("update", () -> delegate.update(employee));
+    }
+
+    @Override
+    public boolean delete(Integer employeeId) throws SQLException {
+        return metrics.call("delete", () -> delegate.delete(employeeId));
+    }
+
+    @Override
+    public Optional<Employee> findById(Integer employeeId) throws SQLException {
+        return metrics.call("findById", () -> delegate.findById(employeeId));
+    }
+
+    @Override
+    public List<Employee> findAll() throws SQLException {
+        return metrics.call("findAll", delegate::findAll);
+    }
+
+    @Override
+    public Stream<Employee> streamAll() throws SQLException {
+        return metrics.stream("streamAll", delegate::streamAll);
+    }
+
+    @Override
+    public Optional<Employee> findBySSN(String ssn) throws SQLException {
+        return metrics.call("findBySSN", () -> delegate.findBySSN(ssn));
+    }
+
+    @Override
+    public List<Employee> searchByName(String nameFragment) throws SQLException {
+        return metrics.call("searchByName", () -> delegate.searchByName(nameFragment));
+    }
+
+    @Override
+    public Optional<Employee> findByIdWithDetails(Integer employeeId) throws SQLException {
+        return metrics.call("findByIdWithDetails", () -> delegate.findByIdWithDetails(employeeId));
+    }
+
+    @Override
+    public Optional<Employee> findBySSNWithDetails(String ssn) throws SQLException {
+        return metrics.call("findBySSNWithDetails", () -> delegate.findBySSNWithDetails(ssn));
+    }
+
+    @Override
+    public List<Employee> searchByNameWithDetails(String nameFragment) throws SQLException {
+        return metrics.call("searchByNameWithDetails", () -> delegate.searchByNameWithDetails(nameFragment));
+    }
+
+    @Override
+    public Page<Employee> searchByNameWithDetails(String nameFragment, String pageToken, int pageSize)
+            throws SQLException {
+        return metrics.call("searchByNameWithDetailsPage",
+                () -> delegate.searchByNameWithDetails(nameFragment, pageToken, pageSize), page -> page.items().size());
+    }
+
+    @Override
+    public List<String> searchByNamePageTokens(String nameFragment, int pageSize) throws SQLException {
+        return metrics.call("searchByNamePageTokens",
+                () -> delegate.searchByNamePageTokens(nameFragment, pageSize), List::size);
+    }
+
+    @Override
+    public int countByName(String nameFragment) throws SQLException {
+        return metrics.call("countByName", () -> delegate.countByName(nameFragment), count -> 1);
+    }
+
+    @Override
+    public List<Employee> searchByNamePrefixWithDetails(String prefix, int limit) throws SQLException {
+        return metrics.call("searchByNamePrefixWithDetails", () -> delegate.searchByNamePrefixWithDetails(prefix, limit));
+    }
+
+    @Override
+    public List<Employee> findByIdsWithDetails(List<Integer> employeeIds) throws SQLException {
+        return metrics.call("findByIdsWithDetails", () -> delegate.findByIdsWithDetails(employeeIds));
+    }
+
+    @Override
+    public int updateSalaryByPercentage(double percentage, BigDecimal min, BigDecimal max) throws SQLException {
+        return metrics.call("updateSalaryByPercentage", () -> delegate.updateSalaryByPercentage(percentage, min, max));
+    }
+}
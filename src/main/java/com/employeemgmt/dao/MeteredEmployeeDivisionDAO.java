@@ -0,0 +1,70 @@
+package com.employeemgmt.dao;
+
+import com.employeemgmt.metrics.DaoMetrics;
+import com.employeemgmt.model.EmployeeDivision;
+
+import java.sql.SQLException;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * Records call count, latency, rows and connection wait of every EmployeeDivisionDAO method in DaoMetrics.
+ */
+public class MeteredEmployeeDivisionDAO implements EmployeeDivisionDAO {
+
+    private final EmployeeDivisionDAO delegate;
+    private final DaoMetrics.Recorder metrics;
+
+    public MeteredEmployeeDivisionDAO(EmployeeDivisionDAO delegate, DaoMetrics metrics) {
+        this.delegate = delegate;
+        this.metrics = metrics.forDao("EmployeeDivisionDAO");
+    }
+
+    @Override
+    public EmployeeDivision insert(EmployeeDivision employeeDivision) throws SQLException {
+        return metrics.call("insert", () -> delegate.insert(employeeDivision));
+    }
+
+    @Override
+    public void assign(Integer employeeId, Integer divisionId) throws SQLException {
+        metrics.run("assign", () -> delegate.assign(employeeId, divisionId));
+    }
+
+    @Override
+    public void assignAll(List<EmployeeDivision> assignments) throws SQLException {
+        metrics.call("assignAll", () -> {
+            delegate.assignAll(assignments);
+            return null;
+        }, ignored -> assignments.size());
+    }
+
+    @Override
+    public boolean delete(Integer employeeId, Integer divisionId) throws SQLException {
+        return metrics.call("delete", () -> delegate.delete(employeeId, divisionId));
+    }
+
+    @Override
+    public int deleteByEmployeeId(Integer employeeId) throws SQLException {
+        return metrics.call("deleteByEmployeeId", () -> delegate.deleteByEmployeeId(employeeId));
+    }
+
+    @Override
+    public Optional<EmployeeDivision> findById(Integer employeeId, Integer divisionId) throws SQLException {
+        return metrics.call("findById", () -> delegate.findById(employeeId, divisionId));
+    }
+
+    @Override
+    public List<EmployeeDivision> findAll() throws SQLException {
+        return metrics.call("findAll", delegate::findAll);
+    }
+
+    @Override
+    public List<EmployeeDivision> findByEmployeeId(Integer employeeId) throws SQLException {
+        return metrics.call("findByEmployeeId", () -> delegate.findByEmployeeId(employeeId));
+    }
+
+    @Override
+    public List<EmployeeDivision> findByDivisionId(Integer divisionId) throws SQLException {
+        return metrics.call("findByDivisionId", () -> delegate.findByDivisionId(divisionId));
+    }
+}
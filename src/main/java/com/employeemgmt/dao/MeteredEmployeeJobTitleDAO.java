@@ -0,0 +1,70 @@
+package com.employeemgmt.dao;
+
+import com.employeemgmt.metrics.DaoMetrics;
+import com.employeemgmt.model.EmployeeJobTitle;
+
+import java.sql.SQLException;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * Records call count, latency, rows and connection wait of every EmployeeJobTitleDAO method in DaoMetrics.
+ */
+public class MeteredEmployeeJobTitleDAO implements EmployeeJobTitleDAO {
+
+    private final EmployeeJobTitleDAO delegate;
+    private final DaoMetrics.Recorder metrics;
+
+    public MeteredEmployeeJobTitleDAO(EmployeeJobTitleDAO delegate, DaoMetrics metrics) {
+        this.delegate = delegate;
+        this.metrics = metrics.forDao("EmployeeJobTitleDAO");
+    }
+
+    @Override
+    public EmployeeJobTitle insert(EmployeeJobTitle employeeJobTitle) throws SQLException {
+        return metrics.call("insert", () -> delegate.insert(employeeJobTitle));
+    }
+
+    @Override
+    public void assign(Integer employeeId, Integer jobTitleId) throws SQLException {
+        metrics.run("assign", () -> delegate.assign(employeeId, jobTitleId));
+    }
+
+    @Override
+    public void assignAll(List<EmployeeJobTitle> assignments) throws SQLException {
+        metrics.call("assignAll", () -> {
+            delegate.assignAll(assignments);
+            return null;
+        }, ignored -> assignments.size());
+    }
+
+    @Override
+    public boolean delete(Integer employeeId, Integer jobTitleId) throws SQLException {
+        return metrics.call("delete", () -> delegate.delete(employeeId, jobTitleId));
+    }
+
+    @Override
+    public int deleteByEmployeeId(Integer employeeId) throws SQLException {
+        return metrics.call("deleteByEmployeeId", () -> delegate.deleteByEmployeeId(employeeId));
+    }
+
+    @Override
+    public Optional<EmployeeJobTitle> findById(Integer employeeId, Integer jobTitleId) throws SQLException {
+        return metrics.call("findById", () -> delegate.findById(employeeId, jobTitleId));
+    }
+
+    @Override
+    public List<EmployeeJobTitle> findAll() throws SQLException {
+        return metrics.call("findAll", delegate::findAll);
+    }
+
+    @Override
+    public List<EmployeeJobTitle> findByEmployeeId(Integer employeeId) throws SQLException {
+        return metrics.call("findByEmployeeId", () -> delegate.findByEmployeeId(employeeId));
+    }
+
+    @Override
+    public List<EmployeeJobTitle> findByJobTitleId(Integer jobTitleId) throws SQLException {
+        return metrics.call("findByJobTitleId", () -> delegate.findByJobTitleId(jobTitleId));
+    }
+}
@@ -0,0 +1,47 @@
+package com.employeemgmt.dao;
+
+import com.employeemgmt.metrics.DaoMetrics;
+import com.employeemgmt.model.JobTitle;
+
+import java.sql.SQLException;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * Records call count, latency, rows and connection wait of every JobTitleDAO method in DaoMetrics.
+ */
+public class MeteredJobTitleDAO implements JobTitleDAO {
+
+    private final JobTitleDAO delegate;
+    private final DaoMetrics.Recorder metrics;
+
+    public MeteredJobTitleDAO(JobTitleDAO delegate, DaoMetrics metrics) {
+        this.delegate = delegate;
+        this.metrics = metrics.forDao("JobTitleDAO");
+    }
+
+    @Override
+    public JobTitle insert(JobTitle jobTitle) throws SQLException {
+        return metrics.call("insert", () -> delegate.insert(jobTitle));
+    }
+
+    @Override
+    public boolean update(JobTitle jobTitle) throws SQLException {
+        return metrics.call("update", () -> delegate.update(jobTitle));
+    }
+
+    @Override
+    public boolean delete(Integer jobTitleId) throws SQLException {
+        return metrics.call("delete", () -> delegate.delete(jobTitleId));
+    }
+
+    @Override
+    public Optional<JobTitle> findById(Integer jobTitleId) throws SQLException {
+        return metrics.call("findById", () -> delegate.findById(jobTitleId));
+    }
+
+    @Override
+    public List<JobTitle> findAll() throws SQLException {
+        return metrics.call("findAll", delegate::findAll);
+    }
+}
@@ -0,0 +1,115 @@
+package com.employeemgmt.dao;
+
+import com.employeemgmt.metrics.DaoMetrics;
+import com.employeemgmt.model.Payroll;
+
+import java.math.BigDecimal;
+import java.sql.SQLException;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.stream.Stream;
+
+/**
+ * Records call count, latency, rows and connection wait of every PayrollDAO method in DaoMetrics.
+ */
+public class MeteredPayrollDAO implements PayrollDAO {
+
+    private final PayrollDAO delegate;
+    private final DaoMetrics.Recorder metrics;
+
+    public MeteredPayrollDAO(PayrollDAO delegate, DaoMetrics metrics) {
+        this.delegate = delegate;
+        this.metrics = metrics.forDao("PayrollDAO");
+    }
+
+    @Override
+    public Payroll insert(Payroll payroll) throws SQLException {
+        return metrics.call("insert", () -> delegate.insert(payroll));
+    }
+
+    @Override
+    public List<Payroll> insertAll(List<Payroll> payrolls) throws SQLException {
+        return metrics.call("insertAll", () -> delegate.insertAll(payrolls));
+    }
+
+    @Override
+    public List<Payroll> insertRaisedNextPeriods(BigDecimal min, BigDecimal max, BigDecimal percentage)
+            throws SQLException {
+        return metrics.call("insertRaisedNextPeriods", () -> delegate.insertRaisedNextPeriods(min, max, percentage));
+    }
+
+    @Override
+    public boolean update(Payroll payroll) throws SQLException {
+        return metrics.call("update", () -> delegate.update(payroll));
+    }
+
+    @Override
+    public boolean delete(Integer payrollId) throws SQLException {
+        return metrics.call("delete", () -> delegate.delete(payrollId));
+    }
+
+    @Override
+    public Optional<Payroll> findById(Integer payrollId) throws SQLException {
+        return metrics.call("findById", () -> delegate.findById(payrollId));
+    }
+
+    @Override
+    public List<Payroll> findAll() throws SQLException {
+        return metrics.call("findAll", delegate::findAll);
+    }
+
+    @Override
+    public Stream<Payroll> streamAll() throws SQLException {
+        return metrics.stream("streamAll", delegate::streamAll);
+    }
+
+    @Override
+    public List<Payroll> findByEmployeeId(Integer employeeId) throws SQLException {
+        return metrics.call("findByEmployeeId", () -> delegate.findByEmployeeId(employeeId));
+    }
+
+    @Override
+    public Page<Payroll> findByEmployeeId(Integer employeeId, String pageToken, int pageSize) throws SQLException {
+        return metrics.call("findByEmployeeIdPage",
+                () -> delegate.findByEmployeeId(employeeId, pageToken, pageSize), page -> page.items().size());
+    }
+
+    @Override
+    public List<String> findPageTokensByEmployeeId(Integer employeeId, int pageSize) throws SQLException {
+        return metrics.call("findPageTokensByEmployeeId",
+                () -> delegate.findPageTokensByEmployeeId(employeeId, pageSize), List::size);
+    }
+
+    @Override
+    public int countByEmployeeId(Integer employeeId) throws SQLException {
+        return metrics.call("countByEmployeeId", () -> delegate.countByEmployeeId(employeeId), count -> 1);
+    }
+
+    @Override
+    public List<Payroll> findByAmountRange(BigDecimal min, BigDecimal max) throws SQLException {
+        return metrics.call("findByAmountRange", () -> delegate.findByAmountRange(min, max));
+    }
+
+    @Override
+    public Stream<Payroll> streamByPayPeriodEndBetweenWithDetails(LocalDate from, LocalDate to) throws SQLException {
+        return metrics.stream("streamByPayPeriodEndBetweenWithDetails",
+                () -> delegate.streamByPayPeriodEndBetweenWithDetails(from, to));
+    }
+
+    @Override
+    public Map<String, BigDecimal> findMonthlyTotalsByJobTitle(int year, int month) throws SQLException {
+        return metrics.call("findMonthlyTotalsByJobTitle", () -> delegate.findMonthlyTotalsByJobTitle(year, month));
+    }
+
+    @Override
+    public Map<String, BigDecimal> findMonthlyTotalsByDivision(int year, int month) throws SQLException {
+        return metrics.call("findMonthlyTotalsByDivision", () -> delegate.findMonthlyTotalsByDivision(year, month));
+    }
+
+    @Override
+    public int rebuildMonthlySummary() throws SQLException {
+        return metrics.call("rebuildMonthlySummary", delegate::rebuildMonthlySummary);
+    }
+}
@@ -0,0 +1,16 @@
+package com.employeemgmt.dao;
+
+import java.util.List;
+
+/**
+ * One page of a keyset-paginated query.
+ *
+ * @param items     the rows on this page, in query order
+ * @param nextToken opaque continuation token to pass back for the next page, or null on the last page
+ */
+public record Page<T>(List<T> items, String nextToken) {
+
+    public boolean hasMore() {
+        return nextToken != null;
+    }
+}
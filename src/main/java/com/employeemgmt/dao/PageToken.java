@@ -0,0 +1,62 @@
+package com.employeemgmt.dao;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Base64;
+import java.util.List;
+import java.util.function.Function;
+
+/**
+ * Encodes the sort key of a page's last row as an opaque, URL-safe continuation token.
+ * Tokens only carry key values, never SQL, so a tampered token can at worst select a
+ * different starting row.
+ */
+final class PageToken {
+
+    // ASCII unit separator; cannot appear in names typed into the UI
+    private static final String SEPARATOR = "\u001F";
+
+    private PageToken() {
+    }
+
+    static String encode(Object... keys) {
+        StringBuilder joined = new StringBuilder();
+        for (int i = 0; i < keys.length; i++) {
+            if (i > 0) {
+                joined.append(SEPARATOR);
+            }
+            joined.append(keys[i]);
+        }
+        return Base64.getUrlEncoder().withoutPadding()
+                .encodeToString(joined.toString().getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * @throws IllegalArgumentException if the token is not valid Base64 or has the wrong number of keys
+     */
+    static String[] decode(String token, int keyCount) {
+        String joined;
+        try {
+            joined = new String(Base64.getUrlDecoder().decode(token), StandardCharsets.UTF_8);
+        } catch (IllegalArgumentException e) {
+            throw new IllegalArgumentException("Invalid page token", e);
+        }
+        String[] keys = joined.split(SEPARATOR, -1);
+        if (keys.length != keyCount) {
+            throw new IllegalArgumentException("Invalid page token");
+        }
+        return keys;
+    }
+
+    /**
+     * Trims a result fetched with LIMIT pageSize + 1 to the page and, if the extra row was present,
+     * returns the token built from the page's last row.
+     */
+    static <T> Page<T> page(List<T> rows, int pageSize, Function<T, String> tokenOf) {
+        if (rows.size() <= pageSize) {
+            return new Page<>(rows, null);
+        }
+        List<T> items = rows.subList(0, pageSize);
+        return new Page<>(new ArrayList<>(items), tokenOf.apply(items.get(pageSize - 1)));
+    }
+}
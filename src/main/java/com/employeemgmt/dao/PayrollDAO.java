@@ -4,12 +4,21 @@ import com.employeemgmt.model.Payroll;
 
 import java.math.BigDecimal;
 import java.sql.SQLException;
+import java.time.LocalDate;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.stream.Stream;
 
 public interface PayrollDAO {
     Payroll insert(Payroll payroll) throws SQLException;
 
+    // Inserts all rows in one transaction using chunked JDBC batches
+    List<Payroll> insertAll(List<Payroll> payrolls) throws SQLException;
+
+    // Server-side raise: inserts each in-range employee's next pay period, returns the rows created
+    List<Payroll> insertRaisedNextPeriods(BigDecimal min, BigDecimal max, BigDecimal percentage) throws SQLException;
+
     boolean update(Payroll payroll) throws SQLException;
 
     boolean delete(Integer payrollId) throws SQLException;
@@ -18,8 +27,46 @@ public interface PayrollDAO {
 
     List<Payroll> findAll() throws SQLException;
 
+    /**
+     * Streams every row through a server-side cursor so memory stays bounded.
+     * The returned stream holds a database connection and must be closed.
+     */
+    Stream<Payroll> streamAll() throws SQLException;
+
     List<Payroll> findByEmployeeId(Integer employeeId) throws SQLException;
 
+    /**
+     * One page of an employee's pay history, newest pay period first, using keyset
+     * pagination on (pay_period_start, payroll_id).
+     *
+     * @param pageToken null for the first page, otherwise the previous page's nextToken
+     * @throws IllegalArgumentException if the page token is malformed
+     */
+    Page<Payroll> findByEmployeeId(Integer employeeId, String pageToken, int pageSize) throws SQLException;
+
+    /**
+     * The page token that starts each page of an employee's pay history after the first:
+     * element i continues after page i.
+     */
+    List<String> findPageTokensByEmployeeId(Integer employeeId, int pageSize) throws SQLException;
+
+    int countByEmployeeId(Integer employeeId) throws SQLException;
+
     List<Payroll> findByAmountRange(BigDecimal min, BigDecimal max) throws SQLException;
+
+    /**
+     * Streams the rows whose pay_period_end is in the range (both bounds inclusive), each with
+     * the employee's name, division name and job title filled in. The returned stream holds a
+     * database connection and must be closed.
+     */
+    Stream<Payroll> streamByPayPeriodEndBetweenWithDetails(LocalDate from, LocalDate to) throws SQLException;
+
+    // Monthly totals read from payroll_monthly_summary, keyed by pay_period_end month
+    Map<String, BigDecimal> findMonthlyTotalsByJobTitle(int year, int month) throws SQLException;
+
+    Map<String, BigDecimal> findMonthlyTotalsByDivision(int year, int month) throws SQLException;
+
+    // Recomputes payroll_monthly_summary from scratch, returns summary rows written
+    int rebuildMonthlySummary() throws SQLException;
 }
 
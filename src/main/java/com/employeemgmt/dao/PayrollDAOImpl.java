@@ -1,71 +1,216 @@
 package com.employeemgmt.dao;
 
+import java.math.BigDecimal;
 import java.sql.Connection;
 import java.sql.PreparedStatement;
 import java.sql.ResultSet;
 import java.sql.SQLException;
 import java.sql.Statement;
+import java.time.LocalDate;
 import java.util.ArrayList;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.stream.Stream;
 
 import com.employeemgmt.db.DatabaseConnectionManager;
 import com.employeemgmt.model.Payroll;
 
 public class PayrollDAOImpl implements PayrollDAO {
 
+    private static final int BATCH_SIZE = 1000;
+
     private final DatabaseConnectionManager dbManager = DatabaseConnectionManager.getInstance();
 
     @Override
     public Payroll insert(Payroll payroll) throws SQLException {
         String sql = SQLConstants.Payroll.INSERT;
 
-        try (Connection conn = dbManager.getConnection();
-             PreparedStatement ps = conn.prepareStatement(sql, Statement.RETURN_GENERATED_KEYS)) {
+        return dbManager.inTransaction(() -> {
+            try (Connection conn = dbManager.getConnection();
+                 PreparedStatement ps = conn.prepareStatement(sql, Statement.RETURN_GENERATED_KEYS)) {
+
+                ps.setInt(1, payroll.getEmployeeId());
+                ps.setBigDecimal(2, payroll.getAmount());
+                ps.setDate(3, java.sql.Date.valueOf(payroll.getPayPeriodStart()));
+                ps.setDate(4, java.sql.Date.valueOf(payroll.getPayPeriodEnd()));
+                ps.executeUpdate();
+
+                try (ResultSet rs = ps.getGeneratedKeys()) {
+                    if (rs.next()) {
+                        payroll.setPayrollId(rs.getInt(1));
+                        PayrollMonthlySummary.addPayrolls(conn, List.of(payroll.getPayrollId()));
+                    }
+                }
+            }
+            return payroll;
+        });
+    }
 
-            ps.setInt(1, payroll.getEmployeeId());
-            ps.setBigDecimal(2, payroll.getAmount());
-            ps.setDate(3, java.sql.Date.valueOf(payroll.getPayPeriodStart()));
-            ps.setDate(4, java.sql.Date.valueOf(payroll.getPayPeriodEnd()));
-            ps.executeUpdate();
+    @Override
+    public List<Payroll> insertAll(List<Payroll> payrolls) throws SQLException {
+        if (payrolls.isEmpty()) {
+            return payrolls;
+        }
 
-            try (ResultSet rs = ps.getGeneratedKeys()) {
-                if (rs.next()) {
-                    payroll.setPayrollId(rs.getInt(1));
+        String sql = SQLConstants.Payroll.INSERT;
+
+        try (Connection conn = dbManager.getConnection()) {
+            conn.setAutoCommit(false);
+
+            try (PreparedStatement ps = conn.prepareStatement(sql, Statement.RETURN_GENERATED_KEYS)) {
+                for (int start = 0; start < payrolls.size(); start += BATCH_SIZE) {
+                    List<Payroll> chunk = payrolls.subList(start, Math.min(start + BATCH_SIZE, payrolls.size()));
+
+                    for (Payroll payroll : chunk) {
+                        ps.setInt(1, payroll.getEmployeeId());
+                        ps.setBigDecimal(2, payroll.getAmount());
+                        ps.setDate(3, java.sql.Date.valueOf(payroll.getPayPeriodStart()));
+                        ps.setDate(4, java.sql.Date.valueOf(payroll.getPayPeriodEnd()));
+                        ps.addBatch();
+                    }
+                    ps.executeBatch();
+
+                    List<Integer> chunkIds = new ArrayList<>(chunk.size());
+                    try (ResultSet rs = ps.getGeneratedKeys()) {
+                        for (Payroll payroll : chunk) {
+                            if (!rs.next()) {
+                                break;
+                            }
+                            payroll.setPayrollId(rs.getInt(1));
+                            chunkIds.add(payroll.getPayrollId());
+                        }
+                    }
+                    PayrollMonthlySummary.addPayrolls(conn, chunkIds);
                 }
+
+                conn.commit();
+                return payrolls;
+            } catch (SQLException e) {
+                conn.rollback();
+                throw e;
+            } finally {
+                conn.setAutoCommit(true);
             }
         }
+    }
 
-        return payroll;
+    /**
+     * Inserts the raised next periods with one INSERT ... SELECT. The new rows are found again by
+     * their unique key, read from the same source rows just before the insert, rather than from
+     * generated keys: with interleaved auto-increment locking a bulk insert can receive
+     * non-consecutive IDs, which Connector/J's generated keys would not match.
+     */
+    @Override
+    public List<Payroll> insertRaisedNextPeriods(BigDecimal min, BigDecimal max, BigDecimal percentage) throws SQLException {
+        try (Connection conn = dbManager.getConnection()) {
+            conn.setAutoCommit(false);
+
+            try {
+                List<PeriodKey> keys = new ArrayList<>();
+                try (PreparedStatement ps = conn.prepareStatement(SQLConstants.Payroll.FIND_RAISED_NEXT_PERIOD_KEYS)) {
+                    ps.setBigDecimal(1, min);
+                    ps.setBigDecimal(2, max);
+                    ps.setBigDecimal(3, min);
+                    ps.setBigDecimal(4, max);
+                    try (ResultSet rs = ps.executeQuery()) {
+                        while (rs.next()) {
+                            keys.add(new PeriodKey(rs.getInt(1), rs.getDate(2), rs.getDate(3)));
+                        }
+                    }
+                }
+
+                try (PreparedStatement ps = conn.prepareStatement(SQLConstants.Payroll.INSERT_RAISED_NEXT_PERIOD)) {
+                    ps.setBigDecimal(1, percentage);
+                    ps.setBigDecimal(2, min);
+                    ps.setBigDecimal(3, max);
+                    ps.setBigDecimal(4, min);
+                    ps.setBigDecimal(5, max);
+                    ps.executeUpdate();
+                }
+
+                List<Payroll> inserted = findByPeriodKeys(conn, keys);
+                PayrollMonthlySummary.addPayrolls(conn, inserted.stream().map(Payroll::getPayrollId).toList());
+
+                conn.commit();
+                return inserted;
+            } catch (SQLException e) {
+                conn.rollback();
+                throw e;
+            } finally {
+                conn.setAutoCommit(true);
+            }
+        }
+    }
+
+    // Unique key of a payroll row
+    private record PeriodKey(int employeeId, java.sql.Date start, java.sql.Date end) {
+    }
+
+    private List<Payroll> findByPeriodKeys(Connection conn, List<PeriodKey> keys) throws SQLException {
+        List<Payroll> payrolls = new ArrayList<>(keys.size());
+
+        for (int start = 0; start < keys.size(); start += BATCH_SIZE) {
+            List<PeriodKey> chunk = keys.subList(start, Math.min(start + BATCH_SIZE, keys.size()));
+
+            try (PreparedStatement ps = conn.prepareStatement(SQLConstants.Payroll.findByPeriodKeys(chunk.size()))) {
+                int index = 1;
+                for (PeriodKey key : chunk) {
+                    ps.setInt(index++, key.employeeId());
+                    ps.setDate(index++, key.start());
+                    ps.setDate(index++, key.end());
+                }
+                try (ResultSet rs = ps.executeQuery()) {
+                    while (rs.next()) {
+                        payrolls.add(mapResultSetToPayroll(rs));
+                    }
+                }
+            }
+        }
+
+        return payrolls;
     }
 
     @Override
     public boolean update(Payroll payroll) throws SQLException {
         String sql = SQLConstants.Payroll.UPDATE;
+        List<Integer> payrollIds = List.of(payroll.getPayrollId());
 
-        try (Connection conn = dbManager.getConnection();
-             PreparedStatement ps = conn.prepareStatement(sql)) {
+        // The old amount and month come out of the summary before the new ones go in
+        return dbManager.inTransaction(() -> {
+            try (Connection conn = dbManager.getConnection();
+                 PreparedStatement ps = conn.prepareStatement(sql)) {
 
-            ps.setInt(1, payroll.getEmployeeId());
-            ps.setBigDecimal(2, payroll.getAmount());
-            ps.setDate(3, java.sql.Date.valueOf(payroll.getPayPeriodStart()));
-            ps.setDate(4, java.sql.Date.valueOf(payroll.getPayPeriodEnd()));
-            ps.setInt(5, payroll.getPayrollId());
+                PayrollMonthlySummary.removePayrolls(conn, payrollIds);
 
-            return ps.executeUpdate() > 0;
-        }
+                ps.setInt(1, payroll.getEmployeeId());
+                ps.setBigDecimal(2, payroll.getAmount());
+                ps.setDate(3, java.sql.Date.valueOf(payroll.getPayPeriodStart()));
+                ps.setDate(4, java.sql.Date.valueOf(payroll.getPayPeriodEnd()));
+                ps.setInt(5, payroll.getPayrollId());
+                boolean updated = ps.executeUpdate() > 0;
+
+                PayrollMonthlySummary.addPayrolls(conn, payrollIds);
+                return updated;
+            }
+        });
     }
 
     @Override
     public boolean delete(Integer payrollId) throws SQLException {
         String sql = SQLConstants.Payroll.DELETE;
 
-        try (Connection conn = dbManager.getConnection();
-             PreparedStatement ps = conn.prepareStatement(sql)) {
+        return dbManager.inTransaction(() -> {
+            try (Connection conn = dbManager.getConnection();
+                 PreparedStatement ps = conn.prepareStatement(sql)) {
 
-            ps.setInt(1, payrollId);
-            return ps.executeUpdate() > 0;
-        }
+                PayrollMonthlySummary.removePayrolls(conn, List.of(payrollId));
+
+                ps.setInt(1, payrollId);
+                return ps.executeUpdate() > 0;
+            }
+        });
     }
 
     @Override
@@ -104,6 +249,20 @@ public class PayrollDAOImpl implements PayrollDAO {
         return payrolls;
     }
 
+    @Override
+    public Stream<Payroll> streamAll() throws SQLException {
+        String sql = SQLConstants.Payroll.FIND_ALL;
+
+        Connection conn = dbManager.getConnection();
+        try {
+            PreparedStatement ps = conn.prepareStatement(sql);
+            return ResultSetStreams.stream(conn, ps, this::mapResultSetToPayroll);
+        } catch (SQLException e) {
+            conn.close();
+            throw e;
+        }
+    }
+
     @Override
     public List<Payroll> findByEmployeeId(Integer employeeId) throws SQLException {
         String sql = SQLConstants.Payroll.FIND_BY_EMPLOYEE_ID;
@@ -124,6 +283,83 @@ public class PayrollDAOImpl implements PayrollDAO {
         return payrolls;
     }
 
+    @Override
+    public Page<Payroll> findByEmployeeId(Integer employeeId, String pageToken, int pageSize) throws SQLException {
+        String[] after = pageToken != null ? PageToken.decode(pageToken, 2) : null;
+        String sql = after != null
+                ? SQLConstants.Payroll.FIND_BY_EMPLOYEE_ID_NEXT_PAGE
+                : SQLConstants.Payroll.FIND_BY_EMPLOYEE_ID_FIRST_PAGE;
+        List<Payroll> payrolls = new ArrayList<>(pageSize + 1);
+
+        try (Connection conn = dbManager.getConnection();
+             PreparedStatement ps = conn.prepareStatement(sql)) {
+
+            int index = 1;
+            ps.setInt(index++, employeeId);
+            if (after != null) {
+                java.sql.Date start;
+                int payrollId;
+                try {
+                    start = java.sql.Date.valueOf(LocalDate.parse(after[0]));
+                    payrollId = Integer.parseInt(after[1]);
+                } catch (RuntimeException e) {
+                    throw new IllegalArgumentException("Invalid page token", e);
+                }
+                ps.setDate(index++, start);
+                ps.setDate(index++, start);
+                ps.setDate(index++, start);
+                ps.setInt(index++, payrollId);
+            }
+            ps.setInt(index, pageSize + 1);
+
+            try (ResultSet rs = ps.executeQuery()) {
+                while (rs.next()) {
+                    payrolls.add(mapResultSetToPayroll(rs));
+                }
+            }
+        }
+
+        return historyPage(payrolls, pageSize);
+    }
+
+    @Override
+    public List<String> findPageTokensByEmployeeId(Integer employeeId, int pageSize) throws SQLException {
+        List<String> tokens = new ArrayList<>();
+
+        try (Connection conn = dbManager.getConnection();
+             PreparedStatement ps = conn.prepareStatement(SQLConstants.Payroll.FIND_BY_EMPLOYEE_ID_PAGE_STARTS)) {
+
+            ps.setInt(1, employeeId);
+            ps.setInt(2, pageSize);
+
+            try (ResultSet rs = ps.executeQuery()) {
+                while (rs.next()) {
+                    tokens.add(PageToken.encode(rs.getDate("pay_period_start").toLocalDate(), rs.getInt("payroll_id")));
+                }
+            }
+        }
+
+        return tokens;
+    }
+
+    @Override
+    public int countByEmployeeId(Integer employeeId) throws SQLException {
+        try (Connection conn = dbManager.getConnection();
+             PreparedStatement ps = conn.prepareStatement(SQLConstants.Payroll.COUNT_BY_EMPLOYEE_ID)) {
+
+            ps.setInt(1, employeeId);
+
+            try (ResultSet rs = ps.executeQuery()) {
+                return rs.next() ? rs.getInt(1) : 0;
+            }
+        }
+    }
+
+    private static Page<Payroll> historyPage(List<Payroll> payrolls, int pageSize) {
+        return PageToken.page(payrolls, pageSize,
+                last -> PageToken.encode(last.getPayPeriodStart(), last.getPayrollId()));
+    }
+
     @Override
     public List<Payroll> findByAmountRange(java.math.BigDecimal min, java.math.BigDecimal max) throws SQLException {
         String sql = SQLConstants.Payroll.FIND_BY_AMOUNT_RANGE;
@@ -145,6 +381,60 @@ public class PayrollDAOImpl implements PayrollDAO {
         return payrolls;
     }
 
+    @Override
+    public Stream<Payroll> streamByPayPeriodEndBetweenWithDetails(LocalDate from, LocalDate to) throws SQLException {
+        String sql = SQLConstants.Payroll.FIND_BY_PERIOD_END_RANGE_WITH_DETAILS;
+
+        Connection conn = dbManager.getConnection();
+        try {
+            PreparedStatement ps = conn.prepareStatement(sql);
+            ps.setDate(1, java.sql.Date.valueOf(from));
+            ps.setDate(2, java.sql.Date.valueOf(to));
+            return ResultSetStreams.stream(conn, ps, this::mapResultSetToPayrollWithDetails);
+        } catch (SQLException e) {
+            conn.close();
+            throw e;
+        }
+    }
+
+    @Override
+    public Map<String, BigDecimal> findMonthlyTotalsByJobTitle(int year, int month) throws SQLException {
+        return findMonthlyTotals(SQLConstants.PayrollSummary.TOTAL_BY_JOB_TITLE, year, month);
+    }
+
+    @Override
+    public Map<String, BigDecimal> findMonthlyTotalsByDivision(int year, int month) throws SQLException {
+        return findMonthlyTotals(SQLConstants.PayrollSummary.TOTAL_BY_DIVISION, year, month);
+    }
+
+    @Override
+    public int rebuildMonthlySummary() throws SQLException {
+        return dbManager.inTransaction(() -> {
+            try (Connection conn = dbManager.getConnection()) {
+                return PayrollMonthlySummary.rebuild(conn);
+            }
+        });
+    }
+
+    private Map<String, BigDecimal> findMonthlyTotals(String sql, int year, int month) throws SQLException {
+        Map<String, BigDecimal> totals = new LinkedHashMap<>();
+
+        try (Connection conn = dbManager.getConnection();
+             PreparedStatement ps = conn.prepareStatement(sql)) {
+
+            ps.setInt(1, year);
+            ps.setInt(2, month);
+
+            try (ResultSet rs = ps.executeQuery()) {
+                while (rs.next()) {
+                    totals.put(rs.getString("name"), rs.getBigDecimal("total"));
+                }
+            }
+        }
+
+        return totals;
+    }
+
     private Payroll mapResultSetToPayroll(ResultSet rs) throws SQLException {
         Payroll payroll = new Payroll();
         payroll.setPayrollId(rs.getInt("payroll_id"));
@@ -163,5 +453,14 @@ public class PayrollDAOImpl implements PayrollDAO {
         
         return payroll;
     }
+
+    private Payroll mapResultSetToPayrollWithDetails(ResultSet rs) throws SQLException {
+        Payroll payroll = mapResultSetToPayroll(rs);
+        payroll.setEmployeeFirstName(rs.getString("first_name"));
+        payroll.setEmployeeLastName(rs.getString("last_name"));
+        payroll.setDivisionName(rs.getString("division_name"));
+        payroll.setJobTitleName(rs.getString("job_title"));
+        return payroll;
+    }
 }
 
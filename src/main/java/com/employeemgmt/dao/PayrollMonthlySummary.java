@@ -0,0 +1,136 @@
+package com.employeemgmt.dao;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.function.IntFunction;
+
+/**
+ * Keeps payroll_monthly_summary in step with writes to payroll and to the
+ * employee relationship tables. Each method runs on the connection of the write
+ * it accompanies, so callers must be inside that write's transaction.
+ */
+final class PayrollMonthlySummary {
+
+    private static final int ID_CHUNK_SIZE = 1000;
+
+    private PayrollMonthlySummary() {
+    }
+
+    static void addPayrolls(Connection conn, List<Integer> payrollIds) throws SQLException {
+        apply(conn, payrollIds, 1, SQLConstants.PayrollSummary::applyDeltaForPayrollIds);
+    }
+
+    static void removePayrolls(Connection conn, List<Integer> payrollIds) throws SQLException {
+        apply(conn, payrollIds, -1, SQLConstants.PayrollSummary::applyDeltaForPayrollIds);
+    }
+
+    /**
+     * Adds every payroll row of the employees under their current division and job title.
+     * Paired with removeEmployees around a relationship change, this moves their totals.
+     */
+    static void addEmployees(Connection conn, List<Integer> employeeIds) throws SQLException {
+        apply(conn, employeeIds, 1, SQLConstants.PayrollSummary::applyDeltaForEmployeeIds);
+    }
+
+    static void removeEmployees(Connection conn, List<Integer> employeeIds) throws SQLException {
+        apply(conn, employeeIds, -1, SQLConstants.PayrollSummary::applyDeltaForEmployeeIds);
+    }
+
+    /**
+     * Locks the employees and reads their current value in one relationship table, e.g. their division,
+     * so it cannot change before the caller's write commits. Employees without payroll rows have nothing
+     * in the summary to move and are left out. A null value means the employee has no row in the table.
+     *
+     * @param sqlForIdCount e.g. SQLConstants.EmployeeDivision::lockCurrentForEmployeesWithPayroll
+     */
+    static Map<Integer, Integer> lockCurrentGrouping(Connection conn, List<Integer> employeeIds,
+                                                     IntFunction<String> sqlForIdCount) throws SQLException {
+        Map<Integer, Integer> current = new HashMap<>();
+
+        for (int start = 0; start < employeeIds.size(); start += ID_CHUNK_SIZE) {
+            List<Integer> chunk = employeeIds.subList(start, Math.min(start + ID_CHUNK_SIZE, employeeIds.size()));
+
+            try (PreparedStatement ps = conn.prepareStatement(sqlForIdCount.apply(chunk.size()))) {
+                for (int i = 0; i < chunk.size(); i++) {
+                    ps.setInt(i + 1, chunk.get(i));
+                }
+                try (ResultSet rs = ps.executeQuery()) {
+                    while (rs.next()) {
+                        current.put(rs.getInt("employee_id"), rs.getObject("current_id", Integer.class));
+                    }
+                }
+            }
+        }
+
+        return current;
+    }
+
+    /**
+     * Employees from lockCurrentGrouping whose value differs from the target, so their totals must move.
+     *
+     * @param targets value each employee will have after the write; a missing or null value means no row
+     */
+    static List<Integer> changedEmployees(Map<Integer, Integer> current, Map<Integer, Integer> targets) {
+        List<Integer> changed = new ArrayList<>();
+        for (Map.Entry<Integer, Integer> employee : current.entrySet()) {
+            if (!Objects.equals(employee.getValue(), targets.get(employee.getKey()))) {
+                changed.add(employee.getKey());
+            }
+        }
+        return changed;
+    }
+
+    /**
+     * Reads the employee_id column of a relationship lookup, e.g. everyone in a division.
+     */
+    static List<Integer> findEmployeeIds(Connection conn, String sql, int id) throws SQLException {
+        List<Integer> employeeIds = new ArrayList<>();
+
+        try (PreparedStatement ps = conn.prepareStatement(sql)) {
+            ps.setInt(1, id);
+            try (ResultSet rs = ps.executeQuery()) {
+                while (rs.next()) {
+                    employeeIds.add(rs.getInt("employee_id"));
+                }
+            }
+        }
+
+        return employeeIds;
+    }
+
+    /**
+     * Recomputes the whole summary from payroll.
+     *
+     * @return the number of summary rows written
+     */
+    static int rebuild(Connection conn) throws SQLException {
+        try (Statement stmt = conn.createStatement()) {
+            stmt.executeUpdate(SQLConstants.PayrollSummary.DELETE_ALL);
+            return stmt.executeUpdate(SQLConstants.PayrollSummary.REBUILD);
+        }
+    }
+
+    private static void apply(Connection conn, List<Integer> ids, int sign,
+                              IntFunction<String> sqlForIdCount) throws SQLException {
+        for (int start = 0; start < ids.size(); start += ID_CHUNK_SIZE) {
+            List<Integer> chunk = ids.subList(start, Math.min(start + ID_CHUNK_SIZE, ids.size()));
+
+            try (PreparedStatement ps = conn.prepareStatement(sqlForIdCount.apply(chunk.size()))) {
+                ps.setInt(1, sign);
+                ps.setInt(2, sign);
+                for (int i = 0; i < chunk.size(); i++) {
+                    ps.setInt(i + 3, chunk.get(i));
+                }
+                ps.executeUpdate();
+            }
+        }
+    }
+}
@@ -0,0 +1,80 @@
+package com.employeemgmt.dao;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
+/**
+ * Adapts an open, cursor-backed ResultSet into a lazily-evaluated Stream.
+ * The stream owns the connection, statement and result set and releases
+ * them when it is closed, so callers must use try-with-resources.
+ */
+final class ResultSetStreams {
+
+    // Rows fetched per server round trip when streaming with useCursorFetch
+    static final int STREAM_FETCH_SIZE = 1000;
+
+    @FunctionalInterface
+    interface RowMapper<T> {
+        T map(ResultSet rs) throws SQLException;
+    }
+
+    private ResultSetStreams() {
+    }
+
+    /**
+     * Executes the statement with a server-side cursor and streams the mapped rows.
+     * SQLExceptions raised while iterating are rethrown as IllegalStateException.
+     *
+     * @param conn   the connection to release when the stream is closed
+     * @param ps     a prepared statement with all parameters bound
+     * @param mapper maps the current row to an entity
+     * @return a stream that must be closed by the caller
+     * @throws SQLException if the query cannot be executed
+     */
+    static <T> Stream<T> stream(Connection conn, PreparedStatement ps, RowMapper<T> mapper) throws SQLException {
+        ResultSet rs;
+        try {
+            ps.setFetchSize(STREAM_FETCH_SIZE);
+            rs = ps.executeQuery();
+        } catch (SQLException e) {
+            closeQuietly(ps, conn);
+            throw e;
+        }
+
+        Spliterator<T> spliterator = new Spliterators.AbstractSpliterator<>(
+                Long.MAX_VALUE, Spliterator.ORDERED | Spliterator.NONNULL) {
+            @Override
+            public boolean tryAdvance(Consumer<? super T> action) {
+                try {
+                    if (!rs.next()) {
+                        return false;
+                    }
+                    action.accept(mapper.map(rs));
+                    return true;
+                } catch (SQLException e) {
+                    throw new IllegalStateException("Failed to read next row", e);
+                }
+            }
+        };
+
+        return StreamSupport.stream(spliterator, false)
+                .onClose(() -> closeQuietly(rs, ps, conn));
+    }
+
+    private static void closeQuietly(AutoCloseable... resources) {
+        for (AutoCloseable resource : resources) {
+            try {
+                resource.close();
+            } catch (Exception e) {
+                // Nothing useful to do while releasing resources
+            }
+        }
+    }
+}
@@ -1,5 +1,8 @@
 package com.employeemgmt.dao;
 
+import java.util.ArrayList;
+import java.util.List;
+
 final class SQLConstants {
 
     private SQLConstants() {
@@ -49,6 +52,93 @@ final class SQLConstants {
             SET amount = amount * (1 + ? / 100)
             WHERE amount BETWEEN ? AND ?
             """;
+
+        // Employee joined with its division name and job title (one row per employee,
+        // since employee_division and employee_job_titles are keyed by employee_id)
+        private static final String SELECT_WITH_DETAILS = """
+            SELECT e.employee_id, e.first_name, e.last_name, e.SSN, e.email,
+                   d.name AS division_name, jt.title AS job_title
+            FROM employees e
+            LEFT JOIN employee_division ed ON ed.employee_id = e.employee_id
+            LEFT JOIN division d ON d.division_id = ed.division_id
+            LEFT JOIN employee_job_titles ejt ON ejt.employee_id = e.employee_id
+            LEFT JOIN job_titles jt ON jt.job_title_id = ejt.job_title_id
+            """;
+
+        static final String FIND_BY_ID_WITH_DETAILS = SELECT_WITH_DETAILS + """
+            WHERE e.employee_id = ?
+            """;
+
+        static final String FIND_BY_SSN_WITH_DETAILS = SELECT_WITH_DETAILS + """
+            WHERE e.SSN = ?
+            """;
+
+        static final String SEARCH_BY_NAME_WITH_DETAILS = SELECT_WITH_DETAILS + """
+            WHERE e.first_name LIKE ? OR e.last_name LIKE ?
+            ORDER BY e.last_name, e.first_name
+            """;
+
+        // Names starting with the bound prefix; each LIKE 'x%' is an index range on its name column
+        static final String SEARCH_BY_NAME_PREFIX_WITH_DETAILS = SELECT_WITH_DETAILS + """
+            WHERE e.first_name LIKE ? OR e.last_name LIKE ?
+            ORDER BY e.last_name, e.first_name, e.employee_id
+            LIMIT ?
+            """;
+
+        /**
+         * Keyset pagination on (last_name, first_name, employee_id): a page starts right after the
+         * previous page's last row, so deep pages cost the same as the first. The leading
+         * last_name >= ? bound gives the optimizer an index range to seek into. Callers bind
+         * LIMIT as the page size plus one to learn whether another page follows.
+         */
+        static String searchByNamePageWithDetails(boolean filtered, boolean afterKey) {
+            StringBuilder sql = new StringBuilder(SELECT_WITH_DETAILS);
+            List<String> conditions = new ArrayList<>();
+            if (filtered) {
+                conditions.add("(e.first_name LIKE ? OR e.last_name LIKE ?)");
+            }
+            if (afterKey) {
+                conditions.add("e.last_name >= ?");
+                conditions.add("""
+                    (e.last_name > ? OR (e.last_name = ? AND (e.first_name > ?
+                        OR (e.first_name = ? AND e.employee_id > ?))))""");
+            }
+            if (!conditions.isEmpty()) {
+                sql.append("WHERE ").append(String.join("\n  AND ", conditions)).append('\n');
+            }
+            return sql.append("ORDER BY e.last_name, e.first_name, e.employee_id\nLIMIT ?\n").toString();
+        }
+
+        /**
+         * The key of every pageSize-th row of the same ordering (the last row of each page), for
+         * jumping into the middle of a result with a keyset seek. Reads only the name index, once,
+         * instead of an OFFSET scan per jump. The last parameter is the page size.
+         */
+        static String searchByNamePageStarts(boolean filtered) {
+            return """
+                SELECT last_name, first_name, employee_id
+                FROM (
+                    SELECT e.last_name, e.first_name, e.employee_id,
+                           ROW_NUMBER() OVER (ORDER BY e.last_name, e.first_name, e.employee_id) AS row_num
+                    FROM employees e
+                    %s) numbered
+                WHERE MOD(row_num, ?) = 0
+                ORDER BY row_num
+                """.formatted(filtered ? "WHERE e.first_name LIKE ? OR e.last_name LIKE ?\n" : "");
+        }
+
+        static String countByName(boolean filtered) {
+            return filtered
+                    ? "SELECT COUNT(*) FROM employees e WHERE e.first_name LIKE ? OR e.last_name LIKE ?"
+                    : "SELECT COUNT(*) FROM employees";
+        }
+
+        static String findByIdsWithDetails(int idCount) {
+            String placeholders = String.join(", ", java.util.Collections.nCopies(idCount, "?"));
+            return SELECT_WITH_DETAILS
+                    + "WHERE e.employee_id IN (" + placeholders + ")\n"
+                    + "ORDER BY e.last_name, e.first_name, e.employee_id\n";
+        }
     }
 
     static final class Payroll {
@@ -84,12 +174,185 @@ final class SQLConstants {
             ORDER BY pay_period_start DESC
             """;
 
+        // Keyset pagination on (pay_period_start, payroll_id), newest first; see Employee.searchByNamePageWithDetails
+        static final String FIND_BY_EMPLOYEE_ID_FIRST_PAGE = """
+            SELECT payroll_id, employee_id, amount, pay_period_start, pay_period_end
+            FROM payroll
+            WHERE employee_id = ?
+            ORDER BY pay_period_start DESC, payroll_id DESC
+            LIMIT ?
+            """;
+
+        static final String FIND_BY_EMPLOYEE_ID_NEXT_PAGE = """
+            SELECT payroll_id, employee_id, amount, pay_period_start, pay_period_end
+            FROM payroll
+            WHERE employee_id = ?
+              AND pay_period_start <= ?
+              AND (pay_period_start < ? OR (pay_period_start = ? AND payroll_id < ?))
+            ORDER BY pay_period_start DESC, payroll_id DESC
+            LIMIT ?
+            """;
+
+        // Key of the last row of each page of the history; see Employee.searchByNamePageStarts.
+        // Parameters: employee_id, page size
+        static final String FIND_BY_EMPLOYEE_ID_PAGE_STARTS = """
+            SELECT pay_period_start, payroll_id
+            FROM (
+                SELECT pay_period_start, payroll_id,
+                       ROW_NUMBER() OVER (ORDER BY pay_period_start DESC, payroll_id DESC) AS row_num
+                FROM payroll
+                WHERE employee_id = ?) numbered
+            WHERE MOD(row_num, ?) = 0
+            ORDER BY row_num
+            """;
+
+        static final String COUNT_BY_EMPLOYEE_ID = "SELECT COUNT(*) FROM payroll WHERE employee_id = ?";
+
         static final String FIND_BY_AMOUNT_RANGE = """
             SELECT payroll_id, employee_id, amount, pay_period_start, pay_period_end
             FROM payroll
             WHERE amount BETWEEN ? AND ?
             ORDER BY employee_id, pay_period_start DESC
             """;
+
+        // Payroll rows for a period joined with the employee's name, division and job title
+        // (one row per payroll entry; see Employee.SELECT_WITH_DETAILS)
+        static final String FIND_BY_PERIOD_END_RANGE_WITH_DETAILS = """
+            SELECT p.payroll_id, p.employee_id, p.amount, p.pay_period_start, p.pay_period_end,
+                   e.first_name, e.last_name, d.name AS division_name, jt.title AS job_title
+            FROM payroll p
+            LEFT JOIN employees e ON e.employee_id = p.employee_id
+            LEFT JOIN employee_division ed ON ed.employee_id = p.employee_id
+            LEFT JOIN division d ON d.division_id = ed.division_id
+            LEFT JOIN employee_job_titles ejt ON ejt.employee_id = p.employee_id
+            LEFT JOIN job_titles jt ON jt.job_title_id = ejt.job_title_id
+            WHERE p.pay_period_end BETWEEN ? AND ?
+            ORDER BY p.pay_period_start DESC, p.employee_id
+            """;
+
+        // Each employee's latest in-range payroll entry; the source rows of a salary raise.
+        // Parameters: min, max, min, max
+        private static final String RAISE_SOURCE = """
+            FROM payroll p
+            JOIN (
+                SELECT employee_id, MAX(pay_period_start) AS latest_start
+                FROM payroll
+                WHERE amount BETWEEN ? AND ?
+                GROUP BY employee_id
+            ) latest ON latest.employee_id = p.employee_id
+                    AND latest.latest_start = p.pay_period_start
+            WHERE p.amount BETWEEN ? AND ?
+            """;
+
+        private static final String NEXT_PERIOD_START = "TIMESTAMPADD(DAY, 1, p.pay_period_end)";
+        private static final String NEXT_PERIOD_END =
+                "TIMESTAMPADD(DAY, TIMESTAMPDIFF(DAY, p.pay_period_start, p.pay_period_end) + 1, p.pay_period_end)";
+
+        // For each source row, insert the following period (same length, starting the day after)
+        // with the raised amount. Parameters: percentage, then those of RAISE_SOURCE
+        static final String INSERT_RAISED_NEXT_PERIOD = """
+            INSERT INTO payroll (employee_id, amount, pay_period_start, pay_period_end)
+            SELECT p.employee_id,
+                   ROUND(p.amount * (1 + ? / 100), 2),
+                   %s,
+                   %s
+            """.formatted(NEXT_PERIOD_START, NEXT_PERIOD_END) + RAISE_SOURCE;
+
+        // Unique keys (employee_id, pay_period_start, pay_period_end) of the rows INSERT_RAISED_NEXT_PERIOD
+        // is about to insert. Locking the source rows keeps the insert that follows in the same
+        // transaction from seeing a different set
+        static final String FIND_RAISED_NEXT_PERIOD_KEYS = """
+            SELECT p.employee_id,
+                   %s AS next_start,
+                   %s AS next_end
+            """.formatted(NEXT_PERIOD_START, NEXT_PERIOD_END) + RAISE_SOURCE + "FOR UPDATE\n";
+
+        // Rows by their unique key (employee_id, pay_period_start, pay_period_end); 3 parameters per row
+        static String findByPeriodKeys(int keyCount) {
+            String keys = String.join(", ", java.util.Collections.nCopies(keyCount, "(?, ?, ?)"));
+            return """
+                SELECT payroll_id, employee_id, amount, pay_period_start, pay_period_end
+                FROM payroll
+                WHERE (employee_id, pay_period_start, pay_period_end) IN (%s)
+                ORDER BY payroll_id
+                """.formatted(keys);
+        }
+    }
+
+    static final class PayrollSummary {
+        private static final String INSERT_INTO = """
+            INSERT INTO payroll_monthly_summary (pay_year, pay_month, division_id, job_title_id, total, row_count)
+            """;
+
+        static final String DELETE_ALL = "DELETE FROM payroll_monthly_summary";
+
+        static final String REBUILD = INSERT_INTO + groupedPayroll("SUM(p.amount)", "COUNT(*)", "");
+
+        static final String TOTAL_BY_DIVISION = """
+            SELECT d.name AS name, SUM(s.total) AS total
+            FROM payroll_monthly_summary s
+            JOIN division d ON d.division_id = s.division_id
+            WHERE s.pay_year = ? AND s.pay_month = ? AND s.row_count > 0
+            GROUP BY d.name
+            ORDER BY d.name
+            """;
+
+        static final String TOTAL_BY_JOB_TITLE = """
+            SELECT jt.title AS name, SUM(s.total) AS total
+            FROM payroll_monthly_summary s
+            JOIN job_titles jt ON jt.job_title_id = s.job_title_id
+            WHERE s.pay_year = ? AND s.pay_month = ? AND s.row_count > 0
+            GROUP BY jt.title
+            ORDER BY jt.title
+            """;
+
+        // Adds (sign +1) or subtracts (sign -1) the given payroll rows; the first two
+        // parameters are the sign, followed by the IDs
+        static String applyDeltaForPayrollIds(int idCount) {
+            return applyDelta("p.payroll_id", idCount);
+        }
+
+        // Same as applyDeltaForPayrollIds, for every payroll row of the given employees
+        static String applyDeltaForEmployeeIds(int idCount) {
+            return applyDelta("p.employee_id", idCount);
+        }
+
+        private static String applyDelta(String idColumn, int idCount) {
+            String placeholders = String.join(", ", java.util.Collections.nCopies(idCount, "?"));
+            return INSERT_INTO
+                    + groupedPayroll("SUM(p.amount) * ?", "COUNT(*) * ?",
+                            "WHERE " + idColumn + " IN (" + placeholders + ")\n")
+                    + "ON DUPLICATE KEY UPDATE total = total + VALUES(total), row_count = row_count + VALUES(row_count)\n";
+        }
+
+        // Each listed employee that has payroll rows, locked, with its current value in a relationship
+        // table (null without a row); the IDs are the parameters
+        private static String lockCurrentGrouping(String table, String column, int idCount) {
+            String placeholders = String.join(", ", java.util.Collections.nCopies(idCount, "?"));
+            return """
+                SELECT e.employee_id, r.%s AS current_id
+                FROM employees e
+                LEFT JOIN %s r ON r.employee_id = e.employee_id
+                WHERE e.employee_id IN (%s)
+                  AND EXISTS (SELECT 1 FROM payroll p WHERE p.employee_id = e.employee_id)
+                FOR UPDATE
+                """.formatted(column, table, placeholders);
+        }
+
+        // Groups payroll rows by the month of pay_period_end and the employee's current
+        // division and job title; 0 stands in for a missing relationship
+        private static String groupedPayroll(String total, String rowCount, String where) {
+            return """
+                SELECT YEAR(p.pay_period_end), MONTH(p.pay_period_end),
+                       COALESCE(ed.division_id, 0), COALESCE(ejt.job_title_id, 0),
+                       %s, %s
+                FROM payroll p
+                LEFT JOIN employee_division ed ON ed.employee_id = p.employee_id
+                LEFT JOIN employee_job_titles ejt ON ejt.employee_id = p.employee_id
+                %sGROUP BY YEAR(p.pay_period_end), MONTH(p.pay_period_end),
+                         COALESCE(ed.division_id, 0), COALESCE(ejt.job_title_id, 0)
+                """.formatted(total, rowCount, where);
+        }
     }
 
     static final class Division {
@@ -146,6 +409,13 @@ final class SQLConstants {
             VALUES (?, ?)
             """;
 
+        // employee_id is the primary key, so this inserts or reassigns in one statement
+        static final String ASSIGN = """
+            INSERT INTO employee_division (employee_id, division_id)
+            VALUES (?, ?)
+            ON DUPLICATE KEY UPDATE division_id = VALUES(division_id)
+            """;
+
         static final String DELETE = """
             DELETE FROM employee_division
             WHERE employee_id = ? AND division_id = ?
@@ -184,6 +454,11 @@ final class SQLConstants {
             FROM employee_division
             WHERE division_id = ?
             """;
+
+        // Current division_id of the listed employees that have payroll; see PayrollMonthlySummary.lockCurrentGrouping
+        static String lockCurrentForEmployeesWithPayroll(int idCount) {
+            return PayrollSummary.lockCurrentGrouping("employee_division", "division_id", idCount);
+        }
     }
 
     static final class EmployeeJobTitle {
@@ -192,6 +467,13 @@ final class SQLConstants {
             VALUES (?, ?)
             """;
 
+        // employee_id is the primary key, so this inserts or reassigns in one statement
+        static final String ASSIGN = """
+            INSERT INTO employee_job_titles (employee_id, job_title_id)
+            VALUES (?, ?)
+            ON DUPLICATE KEY UPDATE job_title_id = VALUES(job_title_id)
+            """;
+
         static final String DELETE = """
             DELETE FROM employee_job_titles
             WHERE employee_id = ? AND job_title_id = ?
@@ -230,6 +512,11 @@ final class SQLConstants {
             FROM employee_job_titles
             WHERE job_title_id = ?
             """;
+
+        // Current job_title_id of the listed employees that have payroll; see PayrollMonthlySummary.lockCurrentGrouping
+        static String lockCurrentForEmployeesWithPayroll(int idCount) {
+            return PayrollSummary.lockCurrentGrouping("employee_job_titles", "job_title_id", idCount);
+        }
     }
 }
 
@@ -0,0 +1,49 @@
+package com.employeemgmt.db;
+
+/**
+ * Adds up how long the current thread waited for pooled connections during one measured call,
+ * so DAO metrics can tell time spent queueing for a connection from time spent in the database.
+ * Measurements nest: an inner call's wait also counts toward the call around it.
+ */
+public final class ConnectionAcquireTimer {
+
+    private static final ThreadLocal<long[]> CURRENT = new ThreadLocal<>();
+
+    private ConnectionAcquireTimer() {
+    }
+
+    /**
+     * Starts measuring on this thread.
+     *
+     * @return the enclosing measurement, to pass to stop()
+     */
+    public static long[] start() {
+        long[] outer = CURRENT.get();
+        CURRENT.set(new long[1]);
+        return outer;
+    }
+
+    /**
+     * Ends the measurement begun by the matching start() and resumes the enclosing one.
+     *
+     * @return nanoseconds spent waiting for connections since start()
+     */
+    public static long stop(long[] outer) {
+        long[] current = CURRENT.get();
+        long waited = current != null ? current[0] : 0;
+        if (outer != null) {
+            outer[0] += waited;
+            CURRENT.set(outer);
+        } else {
+            CURRENT.remove();
+        }
+        return waited;
+    }
+
+    static void record(long nanos) {
+        long[] current = CURRENT.get();
+        if (current != null) {
+            current[0] += nanos;
+        }
+    }
+}
@@ -0,0 +1,302 @@
+package com.employeemgmt.db;
+
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * Bounded pool of physical JDBC connections.
+ * Borrowed connections are handed out as proxies whose close() returns the
+ * underlying connection to the pool instead of closing the socket.
+ * Each physical connection keeps its own prepared statement cache across borrows.
+ * When a slow query log is set, every statement handed out is timed by it.
+ */
+final class ConnectionPool {
+
+    /**
+     * Opens a new physical connection when the pool has no idle one to reuse.
+     */
+    @FunctionalInterface
+    interface ConnectionFactory {
+        Connection create() throws SQLException;
+    }
+
+    private static final int VALIDATION_TIMEOUT_SECONDS = 5;
+
+    private final ConnectionFactory factory;
+    private final int maxSize;
+    private final int maxIdle;
+    private final long borrowTimeoutMs;
+    private final long validationIdleMs;
+    private final int statementCacheSize;
+    private final StatementCache.Counters statementCounters = new StatementCache.Counters();
+    private final SlowQueryLog slowQueries;
+
+    private final Semaphore permits;
+    private final Deque<IdleConnection> idle = new ArrayDeque<>();
+    private volatile boolean shutdown;
+
+    /**
+     * @param statementCacheSize prepared statements kept open per connection; 0 disables the cache
+     * @param slowQueries        times the statements of borrowed connections, or null
+     */
+    ConnectionPool(ConnectionFactory factory, int maxSize, int maxIdle,
+                   long borrowTimeoutMs, long validationIdleMs, int statementCacheSize, SlowQueryLog slowQueries) {
+        if (maxSize < 1) {
+            throw new IllegalArgumentException("Pool max size must be at least 1");
+        }
+        this.factory = factory;
+        this.maxSize = maxSize;
+        this.maxIdle = Math.max(0, Math.min(maxIdle, maxSize));
+        this.borrowTimeoutMs = borrowTimeoutMs;
+        this.validationIdleMs = validationIdleMs;
+        this.statementCacheSize = Math.max(0, statementCacheSize);
+        this.slowQueries = slowQueries;
+        this.permits = new Semaphore(maxSize, true);
+    }
+
+    /**
+     * Borrows a connection, waiting up to the borrow timeout for one to free up.
+     * Idle connections are only validated if they sat unused longer than the
+     * validation threshold.
+     *
+     * @return a pooled connection; closing it returns it to the pool
+     * @throws SQLException if the pool is exhausted or a new connection cannot be opened
+     */
+    Connection borrow() throws SQLException {
+        if (shutdown) {
+            throw new SQLException("Connection pool has been shut down");
+        }
+
+        try {
+            if (!permits.tryAcquire(borrowTimeoutMs, TimeUnit.MILLISECONDS)) {
+                throw new SQLException("Timed out after " + borrowTimeoutMs
+                        + " ms waiting for a pooled connection (max size " + maxSize + ")");
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new SQLException("Interrupted while waiting for a pooled connection", e);
+        }
+
+        try {
+            IdleConnection candidate;
+            while ((candidate = pollIdle()) != null) {
+                long idleFor = System.currentTimeMillis() - candidate.returnedAt;
+                if (idleFor < validationIdleMs || isValid(candidate.connection)) {
+                    return wrap(candidate.connection, candidate.statements);
+                }
+                discard(candidate.connection, candidate.statements);
+            }
+            Connection physical = factory.create();
+            return wrap(physical, newStatementCache(physical));
+        } catch (SQLException | RuntimeException e) {
+            permits.release();
+            throw e;
+        }
+    }
+
+    /**
+     * Opens physical connections until the pool holds count idle ones, capped at the idle limit,
+     * so the first borrowers skip the connect handshake.
+     *
+     * @return the number of connections opened
+     * @throws SQLException if a connection cannot be opened
+     */
+    int warmUp(int count) throws SQLException {
+        int target = Math.min(count, maxIdle);
+        int opened = 0;
+        for (int i = 0; i < target; i++) {
+            synchronized (idle) {
+                if (shutdown || idle.size() >= target) {
+                    break;
+                }
+            }
+            Connection physical = factory.create();
+            synchronized (idle) {
+                if (!shutdown && idle.size() < target) {
+                    idle.addLast(new IdleConnection(physical, newStatementCache(physical), System.currentTimeMillis()));
+                    opened++;
+                    continue;
+                }
+            }
+            closeQuietly(physical);
+            break;
+        }
+        return opened;
+    }
+
+    /**
+     * Closes all idle connections and rejects further borrows.
+     * Connections currently in use are closed when they are returned.
+     */
+    void shutdown() {
+        shutdown = true;
+        synchronized (idle) {
+            for (IdleConnection c : idle) {
+                discard(c.connection, c.statements);
+            }
+            idle.clear();
+        }
+    }
+
+    int getMaxSize() {
+        return maxSize;
+    }
+
+    int getIdleCount() {
+        synchronized (idle) {
+            return idle.size();
+        }
+    }
+
+    int getActiveCount() {
+        return maxSize - permits.availablePermits();
+    }
+
+    StatementCacheStats getStatementCacheStats() {
+        return statementCounters.snapshot();
+    }
+
+    private IdleConnection pollIdle() {
+        synchronized (idle) {
+            return idle.pollFirst();
+        }
+    }
+
+    private void release(Connection physical, StatementCache statements) {
+        try {
+            if (!resetForReuse(physical)) {
+                discard(physical, statements);
+                return;
+            }
+            synchronized (idle) {
+                if (!shutdown && idle.size() < maxIdle) {
+                    idle.addFirst(new IdleConnection(physical, statements, System.currentTimeMillis()));
+                    return;
+                }
+            }
+            discard(physical, statements);
+        } finally {
+            permits.release();
+        }
+    }
+
+    /**
+     * Rolls back any transaction left open by the borrower and restores autocommit,
+     * so the next borrower starts from a clean connection.
+     */
+    private boolean resetForReuse(Connection physical) {
+        try {
+            if (physical.isClosed()) {
+                return false;
+            }
+            if (!physical.getAutoCommit()) {
+                physical.rollback();
+                physical.setAutoCommit(true);
+            }
+            return true;
+        } catch (SQLException e) {
+            return false;
+        }
+    }
+
+    private boolean isValid(Connection connection) {
+        try {
+            return !connection.isClosed() && connection.isValid(VALIDATION_TIMEOUT_SECONDS);
+        } catch (SQLException e) {
+            return false;
+        }
+    }
+
+    private StatementCache newStatementCache(Connection physical) {
+        return statementCacheSize > 0 ? new StatementCache(physical, statementCacheSize, statementCounters) : null;
+    }
+
+    private static void discard(Connection physical, StatementCache statements) {
+        if (statements != null) {
+            statements.closeAll();
+        }
+        closeQuietly(physical);
+    }
+
+    private static void closeQuietly(Connection connection) {
+        try {
+            connection.close();
+        } catch (SQLException e) {
+            // Connection is being discarded anyway
+        }
+    }
+
+    private Connection wrap(Connection physical, StatementCache statements) {
+        return (Connection) Proxy.newProxyInstance(
+                Connection.class.getClassLoader(),
+                new Class<?>[]{Connection.class},
+                new PooledConnectionHandler(physical, statements));
+    }
+
+    /**
+     * @param statements the connection's prepared statement cache, or null if caching is off
+     */
+    private record IdleConnection(Connection connection, StatementCache statements, long returnedAt) {
+    }
+
+    private final class PooledConnectionHandler implements InvocationHandler {
+        private final Connection physical;
+        private final StatementCache statements;
+        private final AtomicBoolean closed = new AtomicBoolean(false);
+
+        PooledConnectionHandler(Connection physical, StatementCache statements) {
+            this.physical = physical;
+            this.statements = statements;
+        }
+
+        @Override
+        public Object invoke(Object proxy, Method method, Object[] args) throws Throwable {
+            switch (method.getName()) {
+                case "close" -> {
+                    if (closed.compareAndSet(false, true)) {
+                        release(physical, statements);
+                    }
+                    return null;
+                }
+                case "isClosed" -> {
+                    return closed.get() || physical.isClosed();
+                }
+                case "equals" -> {
+                    return proxy == args[0];
+                }
+                case "hashCode" -> {
+                    return System.identityHashCode(proxy);
+                }
+                case "toString" -> {
+                    return "PooledConnection[" + physical + "]";
+                }
+                default -> {
+                    if (closed.get()) {
+                        throw new SQLException("Connection has already been returned to the pool");
+                    }
+                    Object result;
+                    if (statements != null && StatementCache.isCacheable(method)) {
+                        result = statements.prepare((String) args[0], StatementCache.autoGeneratedKeys(args),
+                                (Connection) proxy, () -> !closed.get());
+                    } else {
+                        try {
+                            result = method.invoke(physical, args);
+                        } catch (InvocationTargetException e) {
+                            throw e.getCause();
+                        }
+                    }
+                    return slowQueries != null ? slowQueries.wrap(method, args, result) : result;
+                }
+            }
+        }
+    }
+}
@@ -15,10 +15,21 @@ import java.util.Map;
 
 /**
  * Singleton class for managing database connections.
- * Reads connection parameters from .env file in project root.
+ * Reads connection parameters from .env file in project root; DB_* system
+ * properties override values from the file.
+ * Connections are served from a bounded pool; closing one returns it to the pool.
+ * Work passed to inTransaction() shares one connection and commits once.
  */
 public class DatabaseConnectionManager {
 
+    /**
+     * A sequence of DAO calls to run inside one transaction.
+     */
+    @FunctionalInterface
+    public interface TransactionalWork<T> {
+        T execute() throws SQLException;
+    }
+
     private static final String ENV_FILE = ".env";
     private static final String DEFAULT_HOST = "localhost";
     private static final String DEFAULT_PORT = "3306";
@@ -27,11 +38,20 @@ public class DatabaseConnectionManager {
     private static final String DEFAULT_PASS = "";
     private static final int MAX_RETRY_ATTEMPTS = 3;
     private static final long RETRY_DELAY_MS = 1000;
+    private static final int DEFAULT_POOL_MAX_SIZE = 10;
+    private static final int DEFAULT_POOL_MAX_IDLE = 5;
+    private static final long DEFAULT_POOL_BORROW_TIMEOUT_MS = 10000;
+    private static final long DEFAULT_POOL_VALIDATION_IDLE_MS = 30000;
+    private static final int DEFAULT_STATEMENT_CACHE_SIZE = 100;
+    private static final long DEFAULT_SLOW_QUERY_MS = 500;
+    private static final String DEFAULT_SLOW_QUERY_LOG = "logs/slow-queries.log";
 
     private static DatabaseConnectionManager instance;
     private final String jdbcUrl;
     private final String username;
     private final String password;
+    private final ConnectionPool pool;
+    private final SlowQueryLog slowQueries;
 
     private DatabaseConnectionManager() {
         Map<String, String> envVars = loadEnvFile();
@@ -41,8 +61,35 @@ public class DatabaseConnectionManager {
         this.username = envVars.getOrDefault("DB_USER", DEFAULT_USER);
         this.password = envVars.getOrDefault("DB_PASS", DEFAULT_PASS);
 
-        this.jdbcUrl = String.format("jdbc:mysql://%s:%s/%s?useSSL=false&allowPublicKeyRetrieval=true", 
-                host, port, dbName);
+        // useCursorFetch lets statements with a fetch size stream rows from a server-side cursor;
+        // rewriteBatchedStatements collapses JDBC batches into multi-row INSERTs.
+        // useServerPrepStmts has MySQL parse each statement once per connection; the pool's statement
+        // cache keeps them open between DAO calls, and cachePrepStmts keeps the ones it closes
+        // (evicted or with a custom fetch size) prepared inside the driver.
+        // DB_JDBC_URL replaces the generated URL entirely, e.g. to point at a local stand-in database.
+        this.jdbcUrl = envVars.getOrDefault("DB_JDBC_URL", String.format(
+                "jdbc:mysql://%s:%s/%s?useSSL=false&allowPublicKeyRetrieval=true"
+                + "&useCursorFetch=true&rewriteBatchedStatements=true"
+                + "&useServerPrepStmts=true&cachePrepStmts=true&prepStmtCacheSize=250&prepStmtCacheSqlLimit=2048",
+                host, port, dbName));
+
+        // Statements slower than DB_SLOW_QUERY_MS are logged with an EXPLAIN plan; 0 turns the log off
+        long slowQueryMs = parseLong(envVars, "DB_SLOW_QUERY_MS", DEFAULT_SLOW_QUERY_MS);
+        boolean explain = !"false".equalsIgnoreCase(envVars.getOrDefault("DB_SLOW_QUERY_EXPLAIN", "true").trim());
+        this.slowQueries = slowQueryMs > 0
+                ? new SlowQueryLog(slowQueryMs,
+                        Paths.get(envVars.getOrDefault("DB_SLOW_QUERY_LOG", DEFAULT_SLOW_QUERY_LOG)),
+                        explain ? this::openPhysicalConnection : null)
+                : null;
+
+        this.pool = new ConnectionPool(
+                this::openPhysicalConnection,
+                parseInt(envVars, "DB_POOL_MAX_SIZE", DEFAULT_POOL_MAX_SIZE),
+                parseInt(envVars, "DB_POOL_MAX_IDLE", DEFAULT_POOL_MAX_IDLE),
+                parseLong(envVars, "DB_POOL_BORROW_TIMEOUT_MS", DEFAULT_POOL_BORROW_TIMEOUT_MS),
+                parseLong(envVars, "DB_POOL_VALIDATION_IDLE_MS", DEFAULT_POOL_VALIDATION_IDLE_MS),
+                parseInt(envVars, "DB_STATEMENT_CACHE_SIZE", DEFAULT_STATEMENT_CACHE_SIZE),
+                slowQueries);
     }
 
     /**
@@ -58,23 +105,84 @@ public class DatabaseConnectionManager {
     }
 
     /**
-     * Gets a new database connection with retry logic.
+     * Borrows a connection from the pool, opening a new one if none is idle.
+     * Closing the returned connection hands it back to the pool.
+     * Inside inTransaction() the transaction's connection is returned instead.
      *
      * @return a Connection object
-     * @throws SQLException if connection cannot be established after retries
+     * @throws SQLException if no connection becomes available within the borrow timeout
+     *                      or a new connection cannot be established after retries
      */
     public Connection getConnection() throws SQLException {
+        Connection bound = UnitOfWork.current();
+        if (bound != null) {
+            return bound;
+        }
+        long startNanos = System.nanoTime();
+        try {
+            return pool.borrow();
+        } finally {
+            ConnectionAcquireTimer.record(System.nanoTime() - startNanos);
+        }
+    }
+
+    /**
+     * Runs the work on one connection in a single transaction. Every DAO call made
+     * by the work on this thread uses that connection, and the transaction commits
+     * once when the work returns or rolls back if it throws. Nested calls join the
+     * outer transaction.
+     *
+     * @param work the DAO calls to run
+     * @return the work's result
+     * @throws SQLException if the work or the commit fails
+     */
+    public <T> T inTransaction(TransactionalWork<T> work) throws SQLException {
+        return UnitOfWork.run(pool, work);
+    }
+
+    /**
+     * Opens connections ahead of demand, up to DB_POOL_MAX_IDLE, so the first queries
+     * after startup do not pay for the connect handshake.
+     *
+     * @return the number of connections opened
+     * @throws SQLException if a connection cannot be established
+     */
+    public int warmUp() throws SQLException {
+        return pool.warmUp(Integer.MAX_VALUE);
+    }
+
+    /**
+     * Prepared statement cache hits and misses across all pooled connections since startup.
+     * A hit ratio well below 1 once the app is warm means DB_STATEMENT_CACHE_SIZE is too small
+     * for the number of distinct statements in use.
+     */
+    public StatementCacheStats getStatementCacheStats() {
+        return pool.getStatementCacheStats();
+    }
+
+    /**
+     * Closes all idle pooled connections and the slow query log. Connections still
+     * in use are closed as they are returned.
+     */
+    public void shutdown() {
+        pool.shutdown();
+        if (slowQueries != null) {
+            slowQueries.close();
+        }
+    }
+
+    /**
+     * Opens a new physical database connection with retry logic.
+     *
+     * @return a Connection object
+     * @throws SQLException if connection cannot be established after retries
+     */
+    private Connection openPhysicalConnection() throws SQLException {
         SQLException lastException = null;
 
         for (int attempt = 1; attempt <= MAX_RETRY_ATTEMPTS; attempt++) {
             try {
-                Connection connection = DriverManager.getConnection(jdbcUrl, username, password);
-                if (isConnectionValid(connection)) {
-                    return connection;
-                } else {
-                    closeConnection(connection);
-                    throw new SQLException("Connection validation failed");
-                }
+                return DriverManager.getConnection(jdbcUrl, username, password);
             } catch (SQLException e) {
                 lastException = e;
                 if (attempt < MAX_RETRY_ATTEMPTS) {
@@ -112,6 +220,7 @@ public class DatabaseConnectionManager {
 
     /**
      * Closes a connection safely, handling any exceptions.
+     * For pooled connections this returns them to the pool.
      *
      * @param connection the connection to close
      */
@@ -136,6 +245,22 @@ public class DatabaseConnectionManager {
         return jdbcUrl;
     }
 
+    private static int parseInt(Map<String, String> envVars, String key, int defaultValue) {
+        try {
+            return Integer.parseInt(envVars.getOrDefault(key, String.valueOf(defaultValue)));
+        } catch (NumberFormatException e) {
+            return defaultValue;
+        }
+    }
+
+    private static long parseLong(Map<String, String> envVars, String key, long defaultValue) {
+        try {
+            return Long.parseLong(envVars.getOrDefault(key, String.valueOf(defaultValue)));
+        } catch (NumberFormatException e) {
+            return defaultValue;
+        }
+    }
+
     private Map<String, String> loadEnvFile() {
         Map<String, String> envVars = new HashMap<>();
         Path envPath = Paths.get(System.getProperty("user.dir"), ENV_FILE);
@@ -160,6 +285,13 @@ public class DatabaseConnectionManager {
             // .env file not found or unreadable, use defaults
         }
 
+        // DB_* system properties take precedence over the .env file
+        for (String name : System.getProperties().stringPropertyNames()) {
+            if (name.startsWith("DB_")) {
+                envVars.put(name, System.getProperty(name));
+            }
+        }
+
         return envVars;
     }
 
@@ -200,6 +332,7 @@ public class DatabaseConnectionManager {
                 dbManager.closeConnection(connection);
                 System.out.println("Connection closed.");
             }
+            dbManager.shutdown();
         }
     }
 }
@@ -0,0 +1,432 @@
+package com.employeemgmt.db;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.sql.Connection;
+import java.sql.Date;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.time.YearMonth;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+
+import com.employeemgmt.dao.PayrollDAO;
+import com.employeemgmt.dao.PayrollDAOImpl;
+
+/**
+ * Generates a large synthetic dataset: employees with realistic names, unique SSNs,
+ * a division and job title each, and one payroll row per month for a run of months.
+ *
+ * Rows are streamed through multi-row INSERT statements and committed in chunks, so memory
+ * use stays flat whatever the size. The same seed and settings always produce the same rows.
+ * New employees are numbered after the highest existing employee_id, so the generator can be
+ * run on top of the sample data or a previous run.
+ */
+public class DatasetGenerator {
+
+    private static final int DEFAULT_EMPLOYEES = 10_000;
+    private static final int DEFAULT_PAY_PERIODS = 24;
+    private static final long DEFAULT_SEED = 42L;
+    private static final YearMonth DEFAULT_FIRST_MONTH = YearMonth.of(2023, 1);
+
+    // Rows per INSERT statement; payroll rows carry 4 parameters, well under driver limits
+    private static final int ROWS_PER_STATEMENT = 500;
+    // Employees (with all their payroll) per transaction
+    private static final int EMPLOYEES_PER_COMMIT = 1_000;
+
+    // SSNs with group number 00 are never issued, so generated ones cannot collide with real-looking data
+    private static final int SSN_SPACE = 10_000_000;
+    // Odd and not a multiple of 5, so multiplying by it permutes 0..SSN_SPACE-1
+    private static final long SSN_SCRAMBLE = 3_639_847L;
+
+    private static final String[] FIRST_NAMES = {
+            "James", "Mary", "Robert", "Patricia", "John", "Jennifer", "Michael", "Linda", "David",
+            "Elizabeth", "William", "Barbara", "Richard", "Susan", "Joseph", "Jessica", "Thomas", "Sarah",
+            "Christopher", "Karen", "Charles", "Lisa", "Daniel", "Nancy", "Matthew", "Betty", "Anthony",
+            "Sandra", "Mark", "Margaret", "Donald", "Ashley", "Steven", "Kimberly", "Andrew", "Emily",
+            "Paul", "Donna", "Joshua", "Michelle", "Kenneth", "Carol", "Kevin", "Amanda", "Brian",
+            "Melissa", "George", "Deborah", "Timothy", "Stephanie", "Ronald", "Rebecca", "Jason", "Laura",
+            "Edward", "Sharon", "Jeffrey", "Cynthia", "Ryan", "Kathleen", "Jacob", "Amy", "Gary", "Angela",
+            "Nicholas", "Shirley", "Eric", "Anna", "Jonathan", "Brenda", "Stephen", "Pamela", "Larry",
+            "Emma", "Justin", "Nicole", "Scott", "Helen", "Brandon", "Samantha", "Benjamin", "Katherine",
+            "Samuel", "Christine", "Gregory", "Debra", "Alexander", "Rachel", "Patrick", "Carolyn",
+            "Frank", "Janet", "Raymond", "Maria", "Jack", "Olivia", "Dennis", "Heather", "Jerry", "Diane"
+    };
+
+    private static final String[] LAST_NAMES = {
+            "Smith", "Johnson", "Williams", "Brown", "Jones", "Garcia", "Miller", "Davis", "Rodriguez",
+            "Martinez", "Hernandez", "Lopez", "Gonzalez", "Wilson", "Anderson", "Thomas", "Taylor",
+            "Moore", "Jackson", "Martin", "Lee", "Perez", "Thompson", "White", "Harris", "Sanchez",
+            "Clark", "Ramirez", "Lewis", "Robinson", "Walker", "Young", "Allen", "King", "Wright",
+            "Scott", "Torres", "Nguyen", "Hill", "Flores", "Green", "Adams", "Nelson", "Baker", "Hall",
+            "Rivera", "Campbell", "Mitchell", "Carter", "Roberts", "Gomez", "Phillips", "Evans", "Turner",
+            "Diaz", "Parker", "Cruz", "Edwards", "Collins", "Reyes", "Stewart", "Morris", "Morales",
+            "Murphy", "Cook", "Rogers", "Gutierrez", "Ortiz", "Morgan", "Cooper", "Peterson", "Bailey",
+            "Reed", "Kelly", "Howard", "Ramos", "Kim", "Cox", "Ward", "Richardson", "Watson", "Brooks",
+            "Chavez", "Wood", "James", "Bennett", "Gray", "Mendoza", "Ruiz", "Hughes", "Price", "Alvarez",
+            "Castillo", "Sanders", "Patel", "Myers", "Long", "Ross", "Foster", "Jimenez"
+    };
+
+    // Used only when the lookup tables are empty; matches src/db/sample-data.sql
+    private static final String[] DEFAULT_DIVISIONS = {
+            "Engineering", "Sales", "Marketing", "Human Resources", "Finance"
+    };
+
+    private static final String[][] DEFAULT_JOB_TITLES = {
+            // title, division, monthly base pay
+            {"Software Engineer", "Engineering", "7000"},
+            {"Senior Software Engineer", "Engineering", "9500"},
+            {"Lead Software Engineer", "Engineering", "11500"},
+            {"Sales Representative", "Sales", "4500"},
+            {"Sales Manager", "Sales", "8000"},
+            {"Marketing Specialist", "Marketing", "5000"},
+            {"Marketing Manager", "Marketing", "8000"},
+            {"HR Coordinator", "Human Resources", "4500"},
+            {"HR Manager", "Human Resources", "7500"},
+            {"Financial Analyst", "Finance", "6000"},
+            {"Finance Manager", "Finance", "9000"},
+            {"Product Manager", "Engineering", "9000"},
+            {"Quality Assurance Engineer", "Engineering", "6500"},
+            {"DevOps Engineer", "Engineering", "8500"},
+            {"Business Analyst", "Finance", "6500"}
+    };
+
+    private static final BigDecimal DEFAULT_BASE_PAY = new BigDecimal("6000");
+    private static final BigDecimal ANNUAL_RAISE = new BigDecimal("1.03");
+
+    private record JobTitle(int id, Integer divisionId, BigDecimal basePay) {
+    }
+
+    private final DatabaseConnectionManager dbManager = DatabaseConnectionManager.getInstance();
+    private final long seed;
+
+    public DatasetGenerator(long seed) {
+        this.seed = seed;
+    }
+
+    /**
+     * Unique generated SSN for an employee id below 10,000,000, in the never-issued form AAA-00-SSSS.
+     */
+    public static String ssnFor(int employeeId) {
+        if (employeeId < 0 || employeeId >= SSN_SPACE) {
+            throw new IllegalArgumentException("Employee id out of generated SSN range: " + employeeId);
+        }
+        long scrambled = (employeeId * SSN_SCRAMBLE) % SSN_SPACE;
+        return String.format("%03d00%04d", scrambled / 10_000, scrambled % 10_000);
+    }
+
+    /**
+     * Inserts employeeCount employees, each with payPeriods consecutive monthly payroll rows
+     * starting at firstMonth, then rebuilds payroll_monthly_summary.
+     *
+     * @return the id of the first generated employee; the rest follow consecutively
+     */
+    public int generate(int employeeCount, int payPeriods, YearMonth firstMonth) throws SQLException {
+        if (employeeCount < 1 || payPeriods < 0) {
+            throw new IllegalArgumentException("Need at least one employee and a non-negative number of pay periods");
+        }
+
+        int firstId;
+        try (Connection conn = dbManager.getConnection()) {
+            conn.setAutoCommit(false);
+            try {
+                List<JobTitle> jobTitles = loadOrCreateLookups(conn);
+                List<Integer> divisionIds = divisionIds(conn);
+                firstId = maxEmployeeId(conn) + 1;
+                if (firstId + employeeCount > SSN_SPACE) {
+                    throw new IllegalArgumentException("Generated SSNs support employee ids below " + SSN_SPACE);
+                }
+                conn.commit();
+                setBulkLoadChecks(conn, false);
+
+                for (int chunkStart = 0; chunkStart < employeeCount; chunkStart += EMPLOYEES_PER_COMMIT) {
+                    int chunkSize = Math.min(EMPLOYEES_PER_COMMIT, employeeCount - chunkStart);
+                    insertChunk(conn, firstId + chunkStart, chunkSize, payPeriods, firstMonth,
+                            jobTitles, divisionIds);
+                    conn.commit();
+                }
+            } catch (SQLException | RuntimeException e) {
+                conn.rollback();
+                throw e;
+            } finally {
+                setBulkLoadChecks(conn, true);
+                conn.setAutoCommit(true);
+            }
+        }
+
+        // Generated payroll bypasses the DAO, so recompute report totals once at the end
+        PayrollDAO payrollDAO = new PayrollDAOImpl();
+        payrollDAO.rebuildMonthlySummary();
+        return firstId;
+    }
+
+    private void insertChunk(Connection conn, int firstId, int count, int payPeriods, YearMonth firstMonth,
+                             List<JobTitle> jobTitles, List<Integer> divisionIds) throws SQLException {
+        RowWriter employees = new RowWriter(conn,
+                "INSERT INTO employees (employee_id, first_name, last_name, SSN, email) VALUES ", 5);
+        RowWriter divisions = new RowWriter(conn,
+                "INSERT INTO employee_division (employee_id, division_id) VALUES ", 2);
+        RowWriter titles = new RowWriter(conn,
+                "INSERT INTO employee_job_titles (employee_id, job_title_id) VALUES ", 2);
+        RowWriter payroll = new RowWriter(conn,
+                "INSERT INTO payroll (employee_id, amount, pay_period_start, pay_period_end) VALUES ", 4);
+
+        try (employees; divisions; titles; payroll) {
+            for (int id = firstId; id < firstId + count; id++) {
+                // One generator per employee keeps each employee's rows independent of chunking
+                Random random = new Random(seed * 1_000_003L + id);
+                String first = FIRST_NAMES[random.nextInt(FIRST_NAMES.length)];
+                String last = LAST_NAMES[random.nextInt(LAST_NAMES.length)];
+                JobTitle jobTitle = jobTitles.get(random.nextInt(jobTitles.size()));
+                int divisionId = jobTitle.divisionId() != null
+                        ? jobTitle.divisionId()
+                        : divisionIds.get(random.nextInt(divisionIds.size()));
+
+                employees.add(id, first, last, ssnFor(id), (first + "." + last + id + "@company.com").toLowerCase());
+                divisions.add(id, divisionId);
+                titles.add(id, jobTitle.id());
+
+                // Within +/-20% of the title's base, raised 3% every twelve periods
+                BigDecimal pay = jobTitle.basePay()
+                        .multiply(BigDecimal.valueOf(80 + random.nextInt(41)))
+                        .divide(BigDecimal.valueOf(100), 2, RoundingMode.HALF_UP);
+                for (int period = 0; period < payPeriods; period++) {
+                    if (period > 0 && period % 12 == 0) {
+                        pay = pay.multiply(ANNUAL_RAISE).setScale(2, RoundingMode.HALF_UP);
+                    }
+                    YearMonth month = firstMonth.plusMonths(period);
+                    payroll.add(id, pay, Date.valueOf(month.atDay(1)), Date.valueOf(month.atEndOfMonth()));
+                }
+
+                // Employees are written before the rows that reference them; payroll goes out in
+                // full-size statements and any remainder waits for the next flush
+                if (employees.rowCount() >= ROWS_PER_STATEMENT || payroll.rowCount() >= ROWS_PER_STATEMENT) {
+                    employees.flush();
+                    divisions.flush();
+                    titles.flush();
+                    payroll.flushFullStatements();
+                }
+            }
+            employees.flush();
+            divisions.flush();
+            titles.flush();
+            payroll.flush();
+        }
+    }
+
+    /**
+     * On MySQL, skips unique and foreign key checks for this session while loading.
+     * Generated ids, SSNs and references are valid by construction. Other databases are left as is.
+     */
+    private static void setBulkLoadChecks(Connection conn, boolean enabled) throws SQLException {
+        if (!"MySQL".equals(conn.getMetaData().getDatabaseProductName())) {
+            return;
+        }
+        int value = enabled ? 1 : 0;
+        try (Statement stmt = conn.createStatement()) {
+            stmt.execute("SET unique_checks = " + value + ", foreign_key_checks = " + value);
+        }
+    }
+
+    private static List<JobTitle> loadOrCreateLookups(Connection conn) throws SQLException {
+        if (count(conn, "SELECT COUNT(*) FROM division") == 0) {
+            try (PreparedStatement ps = conn.prepareStatement("INSERT INTO division (name) VALUES (?)")) {
+                for (String name : DEFAULT_DIVISIONS) {
+                    ps.setString(1, name);
+                    ps.addBatch();
+                }
+                ps.executeBatch();
+            }
+        }
+        if (count(conn, "SELECT COUNT(*) FROM job_titles") == 0) {
+            try (PreparedStatement ps = conn.prepareStatement("INSERT INTO job_titles (title) VALUES (?)")) {
+                for (String[] jobTitle : DEFAULT_JOB_TITLES) {
+                    ps.setString(1, jobTitle[0]);
+                    ps.addBatch();
+                }
+                ps.executeBatch();
+            }
+        }
+
+        Map<String, Integer> divisionsByName = new HashMap<>();
+        try (Statement stmt = conn.createStatement();
+             ResultSet rs = stmt.executeQuery("SELECT division_id, name FROM division")) {
+            while (rs.next()) {
+                divisionsByName.put(rs.getString("name"), rs.getInt("division_id"));
+            }
+        }
+
+        // Known titles get their usual division and pay; any others get a random division
+        Map<String, String[]> defaults = new HashMap<>();
+        for (String[] jobTitle : DEFAULT_JOB_TITLES) {
+            defaults.put(jobTitle[0], jobTitle);
+        }
+        List<JobTitle> jobTitles = new ArrayList<>();
+        try (Statement stmt = conn.createStatement();
+             ResultSet rs = stmt.executeQuery("SELECT job_title_id, title FROM job_titles ORDER BY job_title_id")) {
+            while (rs.next()) {
+                String[] known = defaults.get(rs.getString("title"));
+                jobTitles.add(new JobTitle(rs.getInt("job_title_id"),
+                        known == null ? null : divisionsByName.get(known[1]),
+                        known == null ? DEFAULT_BASE_PAY : new BigDecimal(known[2])));
+            }
+        }
+        return jobTitles;
+    }
+
+    private static List<Integer> divisionIds(Connection conn) throws SQLException {
+        List<Integer> ids = new ArrayList<>();
+        try (Statement stmt = conn.createStatement();
+             ResultSet rs = stmt.executeQuery("SELECT division_id FROM division ORDER BY division_id")) {
+            while (rs.next()) {
+                ids.add(rs.getInt(1));
+            }
+        }
+        return Collections.unmodifiableList(ids);
+    }
+
+    private static int maxEmployeeId(Connection conn) throws SQLException {
+        return count(conn, "SELECT COALESCE(MAX(employee_id), 0) FROM employees");
+    }
+
+    private static int count(Connection conn, String sql) throws SQLException {
+        try (Statement stmt = conn.createStatement();
+             ResultSet rs = stmt.executeQuery(sql)) {
+            rs.next();
+            return rs.getInt(1);
+        }
+    }
+
+    /**
+     * Buffers rows for one table and writes them as multi-row INSERTs of up to ROWS_PER_STATEMENT rows.
+     * Statements are cached by row count, since most flushes repeat the same few sizes.
+     */
+    private static final class RowWriter implements AutoCloseable {
+        private final Connection conn;
+        private final String insertPrefix;
+        private final int columns;
+        private final List<Object> values = new ArrayList<>();
+        private final Map<Integer, PreparedStatement> statements = new HashMap<>();
+
+        RowWriter(Connection conn, String insertPrefix, int columns) {
+            this.conn = conn;
+            this.insertPrefix = insertPrefix;
+            this.columns = columns;
+        }
+
+        void add(Object... row) {
+            Collections.addAll(values, row);
+        }
+
+        int rowCount() {
+            return values.size() / columns;
+        }
+
+        void flush() throws SQLException {
+            write(rowCount());
+        }
+
+        void flushFullStatements() throws SQLException {
+            write(rowCount() - rowCount() % ROWS_PER_STATEMENT);
+        }
+
+        private void write(int rows) throws SQLException {
+            int offset = 0;
+            while (offset < rows) {
+                int batch = Math.min(ROWS_PER_STATEMENT, rows - offset);
+                PreparedStatement ps = statements.get(batch);
+                if (ps == null) {
+                    ps = conn.prepareStatement(sqlFor(batch));
+                    statements.put(batch, ps);
+                }
+                int first = offset * columns;
+                for (int i = 0; i < batch * columns; i++) {
+                    ps.setObject(i + 1, values.get(first + i));
+                }
+                ps.executeUpdate();
+                offset += batch;
+            }
+            values.subList(0, rows * columns).clear();
+        }
+
+        private String sqlFor(int rows) {
+            String tuple = "(" + "?, ".repeat(columns - 1) + "?)";
+            StringBuilder sql = new StringBuilder(insertPrefix.length() + rows * (tuple.length() + 2));
+            sql.append(insertPrefix);
+            for (int i = 0; i < rows; i++) {
+                if (i > 0) {
+                    sql.append(", ");
+                }
+                sql.append(tuple);
+            }
+            return sql.toString();
+        }
+
+        @Override
+        public void close() throws SQLException {
+            for (PreparedStatement ps : statements.values()) {
+                ps.close();
+            }
+        }
+    }
+
+    /**
+     * Main method for generating data from the command line.
+     * Creates the schema first if needed.
+     *
+     * @param args optional --employees=N --periods=M --seed=S --first-month=YYYY-MM
+     */
+    public static void main(String[] args) {
+        int employees = DEFAULT_EMPLOYEES;
+        int periods = DEFAULT_PAY_PERIODS;
+        long seed = DEFAULT_SEED;
+        YearMonth firstMonth = DEFAULT_FIRST_MONTH;
+
+        for (String arg : args) {
+            String value = arg.substring(arg.indexOf('=') + 1);
+            if (arg.startsWith("--employees=")) {
+                employees = Integer.parseInt(value);
+            } else if (arg.startsWith("--periods=")) {
+                periods = Integer.parseInt(value);
+            } else if (arg.startsWith("--seed=")) {
+                seed = Long.parseLong(value);
+            } else if (arg.startsWith("--first-month=")) {
+                firstMonth = YearMonth.parse(value);
+            } else {
+                System.err.println("Unknown option: " + arg);
+                System.err.println("Usage: DatasetGenerator [--employees=N] [--periods=M] [--seed=S] [--first-month=YYYY-MM]");
+                System.exit(2);
+            }
+        }
+
+        DatabaseConnectionManager dbManager = DatabaseConnectionManager.getInstance();
+        boolean success = false;
+
+        try {
+            if (!new DatabaseInit().initializeIfNeeded()) {
+                System.err.println("Warning: Database initialization had issues, but continuing...");
+            }
+            System.out.printf("Generating %,d employees with %d pay periods each (seed %d)...%n",
+                    employees, periods, seed);
+            long startNanos = System.nanoTime();
+            int firstId = new DatasetGenerator(seed).generate(employees, periods, firstMonth);
+            long elapsedMs = (System.nanoTime() - startNanos) / 1_000_000;
+            System.out.printf("Inserted employees %d to %d and %,d payroll rows in %d ms.%n",
+                    firstId, firstId + employees - 1, (long) employees * periods, elapsedMs);
+            success = true;
+        } catch (SQLException | RuntimeException e) {
+            System.err.println("Dataset generation failed: " + e.getMessage());
+            e.printStackTrace();
+        } finally {
+            dbManager.shutdown();
+        }
+
+        System.exit(success ? 0 : 1);
+    }
+}
@@ -0,0 +1,40 @@
+package com.employeemgmt.db;
+
+import java.sql.SQLException;
+
+import com.employeemgmt.dao.PayrollDAO;
+import com.employeemgmt.dao.PayrollDAOImpl;
+
+/**
+ * Recomputes payroll_monthly_summary from the payroll table.
+ * Run after loading or editing payroll outside the application, e.g. a backfill.
+ */
+public class PayrollSummaryRebuild {
+
+    /**
+     * Main method for rebuilding the summary from the command line.
+     *
+     * @param args command line arguments (not used)
+     */
+    public static void main(String[] args) {
+        DatabaseConnectionManager dbManager = DatabaseConnectionManager.getInstance();
+        PayrollDAO payrollDAO = new PayrollDAOImpl();
+        boolean success = false;
+
+        try {
+            System.out.println("Rebuilding payroll_monthly_summary...");
+            long startNanos = System.nanoTime();
+            int rows = payrollDAO.rebuildMonthlySummary();
+            long elapsedMs = (System.nanoTime() - startNanos) / 1_000_000;
+            System.out.println("Wrote " + rows + " summary rows in " + elapsedMs + " ms.");
+            success = true;
+        } catch (SQLException e) {
+            System.err.println("Payroll summary rebuild failed: " + e.getMessage());
+            e.printStackTrace();
+        } finally {
+            dbManager.shutdown();
+        }
+
+        System.exit(success ? 0 : 1);
+    }
+}
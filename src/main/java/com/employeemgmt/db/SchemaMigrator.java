@@ -0,0 +1,365 @@
+package com.employeemgmt.db;
+
+import java.io.IOException;
+import java.io.Reader;
+import java.io.StringReader;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.HexFormat;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * Brings the database schema up to date from numbered migration scripts.
+ *
+ * Version 1 is src/db/schema.sql. Later versions are src/db/migrations/V&lt;n&gt;__&lt;description&gt;.sql.
+ * Applied versions are recorded in schema_version with a SHA-256 checksum of their statements,
+ * comments and whitespace excluded. An applied script whose statements later change stops startup,
+ * because the database no longer matches the files.
+ *
+ * On a database that is already current, startup costs the migration lock and one query on schema_version.
+ *
+ * Only one migrator runs at a time. Within the JVM a lock serializes them; across processes (the desktop
+ * app and ApiServer starting against the same database) MySQL's GET_LOCK does, so the second process waits
+ * and then finds the versions already applied.
+ */
+public class SchemaMigrator {
+
+    static final String BASELINE_FILE = "src/db/schema.sql";
+    static final String MIGRATIONS_DIR = "src/db/migrations";
+
+    private static final int MYSQL_DUPLICATE_KEY_NAME = 1061;
+    private static final int MYSQL_NO_SUCH_TABLE = 1146;
+    private static final int H2_FUNCTION_NOT_FOUND = 90022;
+
+    // Long enough for another process to build an index on a large payroll table
+    private static final int MIGRATION_LOCK_TIMEOUT_SECONDS = 600;
+    private static final String MIGRATION_LOCK = "employeemgmt.schema_migration";
+    private static final ReentrantLock LOCAL_LOCK = new ReentrantLock();
+
+    private static final Pattern MIGRATION_NAME = Pattern.compile("V(\\d+)__(\\w+)\\.sql");
+
+    private static final String CREATE_VERSION_TABLE = """
+        CREATE TABLE IF NOT EXISTS schema_version (
+            version INT PRIMARY KEY,
+            description VARCHAR(200) NOT NULL,
+            script VARCHAR(255) NOT NULL,
+            checksum CHAR(64) NOT NULL,
+            applied_at TIMESTAMP DEFAULT CURRENT_TIMESTAMP,
+            execution_ms INT NOT NULL
+        ) ENGINE=InnoDB DEFAULT CHARSET=utf8mb4
+        """;
+
+    private static final String SELECT_APPLIED = "SELECT version, checksum FROM schema_version ORDER BY version";
+
+    private static final String GET_LOCK = "SELECT GET_LOCK(?, ?)";
+    private static final String RELEASE_LOCK = "SELECT RELEASE_LOCK(?)";
+
+    private static final String INSERT_APPLIED = """
+        INSERT INTO schema_version (version, description, script, checksum, execution_ms)
+        VALUES (?, ?, ?, ?, ?)
+        """;
+
+    /**
+     * One migration script on disk.
+     */
+    record Migration(int version, String description, Path script) {
+    }
+
+    /**
+     * @param applied  versions applied by this run, in order
+     * @param baseline true if tables from before schema_version existed and version 1 was brought up to date over them
+     */
+    public record Result(List<Integer> applied, boolean baseline) {
+        /**
+         * @return true if this run created the schema from scratch
+         */
+        public boolean createdSchema() {
+            return !baseline && applied.contains(1);
+        }
+    }
+
+    private final DatabaseConnectionManager dbManager;
+
+    public SchemaMigrator() {
+        this.dbManager = DatabaseConnectionManager.getInstance();
+    }
+
+    /**
+     * Applies every pending migration in one transaction and records each in schema_version.
+     * MySQL commits DDL implicitly, so there only the version rows and data changes roll back on failure;
+     * a failed migration is not recorded and runs again once fixed.
+     *
+     * @throws IllegalStateException if an applied script's checksum no longer matches its file
+     * @throws SQLException if another process holds the migration lock for longer than the timeout
+     */
+    public Result migrate() throws SQLException, IOException {
+        List<Migration> migrations = discover();
+
+        LOCAL_LOCK.lock();
+        try (Connection connection = dbManager.getConnection()) {
+            boolean databaseLock = acquireDatabaseLock(connection);
+            try {
+                return migrate(connection, migrations);
+            } finally {
+                if (databaseLock) {
+                    releaseDatabaseLock(connection);
+                }
+            }
+        } finally {
+            LOCAL_LOCK.unlock();
+        }
+    }
+
+    private static Result migrate(Connection connection, List<Migration> migrations) throws SQLException, IOException {
+        Map<Integer, String> applied = appliedVersions(connection);
+        boolean baseline = false;
+
+        if (applied == null) {
+            createVersionTable(connection);
+            applied = new TreeMap<>();
+        }
+        if (applied.isEmpty()) {
+            // Schema loaded by hand or by a release before migrations: fill in whatever version 1
+            // objects are missing, once, then track it like any other version. Tables created here
+            // start empty; ones derived from existing data (payroll_monthly_summary) are filled
+            // by the later migration that introduced them, which runs below as pending
+            if (tableExists(connection, "division")) {
+                Migration first = migrations.get(0);
+                System.out.println("Existing schema found. Recording it as version " + first.version() + ".");
+                applyAll(connection, List.of(first), SchemaMigrator::isAlreadyExists);
+                applied.put(first.version(), checksum(first));
+                baseline = true;
+            }
+        }
+
+        verifyChecksums(migrations, applied);
+
+        List<Migration> pending = new ArrayList<>();
+        for (Migration migration : migrations) {
+            if (!applied.containsKey(migration.version())) {
+                pending.add(migration);
+            }
+        }
+        if (pending.isEmpty()) {
+            return new Result(List.of(), baseline);
+        }
+
+        return new Result(applyAll(connection, pending, SqlScriptExecutor.FAIL_FAST), baseline);
+    }
+
+    private static List<Integer> applyAll(Connection connection, List<Migration> pending,
+                                          SqlScriptExecutor.ErrorHandler errorHandler) throws SQLException, IOException {
+        List<Integer> appliedNow = new ArrayList<>();
+        SqlScriptExecutor executor = new SqlScriptExecutor(100, 0, errorHandler);
+        boolean autoCommit = connection.getAutoCommit();
+        connection.setAutoCommit(false);
+
+        try {
+            for (Migration migration : pending) {
+                System.out.println("Applying schema version " + migration.version() + ": " + migration.description());
+                long startNanos = System.nanoTime();
+                try (Reader reader = Files.newBufferedReader(migration.script(), StandardCharsets.UTF_8)) {
+                    executor.execute(connection, reader);
+                }
+                int elapsedMs = (int) ((System.nanoTime() - startNanos) / 1_000_000);
+                record(connection, migration, checksum(migration), elapsedMs);
+                appliedNow.add(migration.version());
+            }
+            connection.commit();
+            return appliedNow;
+        } catch (SQLException | IOException | RuntimeException e) {
+            connection.rollback();
+            throw e;
+        } finally {
+            connection.setAutoCommit(autoCommit);
+        }
+    }
+
+    /**
+     * @return applied version to checksum, or null if schema_version does not exist yet
+     * @throws SQLException for any other failure, so a lost connection is not mistaken for an unversioned database
+     */
+    private static Map<Integer, String> appliedVersions(Connection connection) throws SQLException {
+        Map<Integer, String> applied = new TreeMap<>();
+        try (Statement stmt = connection.createStatement();
+             ResultSet rs = stmt.executeQuery(SELECT_APPLIED)) {
+            while (rs.next()) {
+                applied.put(rs.getInt("version"), rs.getString("checksum"));
+            }
+            return applied;
+        } catch (SQLException e) {
+            if (isMissingTable(e)) {
+                return null;
+            }
+            throw e;
+        }
+    }
+
+    /**
+     * Waits for MySQL's named lock, which belongs to the session and so survives the implicit commits
+     * of DDL statements.
+     *
+     * @return false if the database has no GET_LOCK (H2), leaving only the in-process lock
+     */
+    private static boolean acquireDatabaseLock(Connection connection) throws SQLException {
+        try (PreparedStatement ps = connection.prepareStatement(GET_LOCK)) {
+            ps.setString(1, MIGRATION_LOCK);
+            ps.setInt(2, MIGRATION_LOCK_TIMEOUT_SECONDS);
+            try (ResultSet rs = ps.executeQuery()) {
+                rs.next();
+                if (rs.getInt(1) != 1) {
+                    throw new SQLException("Timed out after " + MIGRATION_LOCK_TIMEOUT_SECONDS
+                            + " s waiting for another process to finish migrating the schema");
+                }
+                return true;
+            }
+        } catch (SQLException e) {
+            if (e.getErrorCode() == H2_FUNCTION_NOT_FOUND) {
+                return false;
+            }
+            throw e;
+        }
+    }
+
+    private static void releaseDatabaseLock(Connection connection) {
+        try (PreparedStatement ps = connection.prepareStatement(RELEASE_LOCK)) {
+            ps.setString(1, MIGRATION_LOCK);
+            ps.executeQuery().close();
+        } catch (SQLException e) {
+            // MySQL releases it when the session ends
+            System.err.println("Warning: could not release schema migration lock: " + e.getMessage());
+        }
+    }
+
+    private static void createVersionTable(Connection connection) throws SQLException {
+        try (Statement stmt = connection.createStatement()) {
+            stmt.execute(CREATE_VERSION_TABLE);
+        }
+    }
+
+    private static void record(Connection connection, Migration migration, String checksum, int elapsedMs)
+            throws SQLException {
+        try (PreparedStatement ps = connection.prepareStatement(INSERT_APPLIED)) {
+            ps.setInt(1, migration.version());
+            ps.setString(2, migration.description());
+            ps.setString(3, migration.script().getFileName().toString());
+            ps.setString(4, checksum);
+            ps.setInt(5, elapsedMs);
+            ps.executeUpdate();
+        }
+    }
+
+    private static void verifyChecksums(List<Migration> migrations, Map<Integer, String> applied) throws IOException {
+        for (Migration migration : migrations) {
+            String recorded = applied.get(migration.version());
+            if (recorded != null && !recorded.equals(checksum(migration))) {
+                throw new IllegalStateException("Schema version " + migration.version() + " (" + migration.script()
+                        + ") was changed after it was applied. Restore the file and add a new migration instead.");
+            }
+        }
+        int latestKnown = migrations.get(migrations.size() - 1).version();
+        for (int version : applied.keySet()) {
+            if (version > latestKnown) {
+                System.err.println("Warning: database has schema version " + version
+                        + ", newer than any migration in " + MIGRATIONS_DIR + ".");
+            }
+        }
+    }
+
+    /**
+     * Scripts ordered by version. Version numbers must be unique.
+     */
+    static List<Migration> discover() throws IOException {
+        Path root = Paths.get(System.getProperty("user.dir"));
+        Map<Integer, Migration> byVersion = new TreeMap<>();
+        byVersion.put(1, new Migration(1, "initial schema", root.resolve(BASELINE_FILE)));
+
+        Path dir = root.resolve(MIGRATIONS_DIR);
+        if (Files.isDirectory(dir)) {
+            try (DirectoryStream<Path> files = Files.newDirectoryStream(dir, "*.sql")) {
+                for (Path file : files) {
+                    Matcher m = MIGRATION_NAME.matcher(file.getFileName().toString());
+                    if (!m.matches()) {
+                        throw new IllegalStateException("Migration file name must look like V2__add_index.sql: " + file);
+                    }
+                    int version = Integer.parseInt(m.group(1));
+                    Migration migration = new Migration(version, m.group(2).replace('_', ' '), file);
+                    Migration clash = byVersion.putIfAbsent(version, migration);
+                    if (clash != null) {
+                        throw new IllegalStateException("Schema version " + version + " is defined by both "
+                                + clash.script() + " and " + file);
+                    }
+                }
+            }
+        }
+        return new ArrayList<>(byVersion.values());
+    }
+
+    /**
+     * SHA-256 over the script's statements as executed, so editing comments or layout does not count as a change.
+     */
+    static String checksum(Migration migration) throws IOException {
+        MessageDigest digest;
+        try {
+            digest = MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 not available", e);
+        }
+
+        String content = Files.readString(migration.script(), StandardCharsets.UTF_8);
+        try (SqlScriptReader reader = new SqlScriptReader(new StringReader(content))) {
+            String statement;
+            while ((statement = reader.nextStatement()) != null) {
+                digest.update(statement.replaceAll("\\s+", " ").getBytes(StandardCharsets.UTF_8));
+                digest.update((byte) ';');
+            }
+        }
+        return HexFormat.of().formatHex(digest.digest());
+    }
+
+    /**
+     * MySQL reports an existing table as 42S01 and an existing index as error 1061;
+     * H2 uses 42S01 and 42S11.
+     */
+    private static boolean isAlreadyExists(String statement, SQLException e) {
+        return "42S01".equals(e.getSQLState())
+                || "42S11".equals(e.getSQLState())
+                || e.getErrorCode() == MYSQL_DUPLICATE_KEY_NAME
+                || String.valueOf(e.getMessage()).contains("already exists");
+    }
+
+    /**
+     * MySQL reports a missing table as 42S02 (error 1146); H2 uses 42S02, or 42S04 in MySQL mode.
+     */
+    private static boolean isMissingTable(SQLException e) {
+        return "42S02".equals(e.getSQLState())
+                || "42S04".equals(e.getSQLState())
+                || e.getErrorCode() == MYSQL_NO_SUCH_TABLE;
+    }
+
+    // A probe query rather than DatabaseMetaData, which is case-sensitive about table names on some databases
+    private static boolean tableExists(Connection connection, String tableName) {
+        try (Statement stmt = connection.createStatement();
+             ResultSet rs = stmt.executeQuery("SELECT 1 FROM " + tableName + " WHERE 1 = 0")) {
+            return true;
+        } catch (SQLException e) {
+            return false;
+        }
+    }
+}
@@ -0,0 +1,380 @@
+package com.employeemgmt.db;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.Reader;
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.sql.Blob;
+import java.sql.Clob;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.ResultSetMetaData;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.sql.Types;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.List;
+import java.util.Map;
+import java.util.StringJoiner;
+import java.util.TreeMap;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.logging.FileHandler;
+import java.util.logging.Formatter;
+import java.util.logging.Level;
+import java.util.logging.LogRecord;
+import java.util.regex.Pattern;
+
+/**
+ * Writes every statement that takes longer than a threshold to execute to a rolling log file,
+ * with its SQL, bound parameters and the DAO method that ran it, so the query shapes in
+ * SQLConstants that need an index can be found from real traffic.
+ *
+ * Statements handed out by the pool are wrapped to record parameters as they are bound and to
+ * time each execute call. Time spent reading the rows afterwards is not included. Anything
+ * shaped like an SSN is redacted from parameters and SQL before it is written.
+ *
+ * The database's EXPLAIN plan for a slow statement is fetched on a background thread and written
+ * as a follow-up entry with the same number. Each distinct SQL string is explained at most once per
+ * EXPLAIN_INTERVAL_MS. The thread opens its own connection for each plan rather than borrowing from
+ * the pool, since a saturated pool is a common reason for statements to be slow; being a single
+ * thread, it holds at most one extra connection at a time.
+ */
+final class SlowQueryLog {
+
+    // Nine digits with optional dashes and no digits on either side, e.g. 123-45-6789 or 123456789
+    private static final Pattern SSN = Pattern.compile("(?<!\\d)\\d{3}-?\\d{2}-?\\d{4}(?!\\d)");
+    private static final Pattern WHITESPACE = Pattern.compile("\\s+");
+    private static final Pattern EXPLAINABLE = Pattern.compile(
+            "^\\s*(SELECT|WITH|INSERT|UPDATE|DELETE|REPLACE)\\b", Pattern.CASE_INSENSITIVE);
+    private static final String EXPLAIN_PREFIX = "EXPLAIN ";
+
+    // Generated multi-row INSERTs can run to thousands of placeholders; the start is enough to recognise them
+    private static final int MAX_SQL_CHARS = 2000;
+    private static final int MAX_PARAMS = 50;
+    private static final int MAX_FILE_BYTES = 10 * 1024 * 1024;
+    private static final int MAX_FILES = 5;
+    private static final long EXPLAIN_INTERVAL_MS = 10 * 60 * 1000;
+    // Slow statements queued for EXPLAIN beyond this are logged without a plan
+    private static final int EXPLAIN_QUEUE_SIZE = 50;
+    private static final DateTimeFormatter TIMESTAMP = DateTimeFormatter.ofPattern("yyyy-MM-dd HH:mm:ss.SSS");
+
+    private final long thresholdNanos;
+    private final Path file;
+    private final ConnectionPool.ConnectionFactory explainConnections;
+    private final ThreadPoolExecutor explainer;
+    private final Map<String, Long> lastExplained = new ConcurrentHashMap<>();
+    private final AtomicLong entries = new AtomicLong();
+
+    private FileHandler handler;
+    private boolean unavailable;
+
+    /**
+     * @param thresholdMillis    statements taking at least this long are logged
+     * @param file               log file; older entries roll over to file.1 ... file.4
+     * @param explainConnections opens the connection each EXPLAIN runs on and then closes, or null to log without plans
+     */
+    SlowQueryLog(long thresholdMillis, Path file, ConnectionPool.ConnectionFactory explainConnections) {
+        this.thresholdNanos = TimeUnit.MILLISECONDS.toNanos(thresholdMillis);
+        this.file = file;
+        this.explainConnections = explainConnections;
+        this.explainer = new ThreadPoolExecutor(1, 1, 0, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(EXPLAIN_QUEUE_SIZE), runnable -> {
+                    Thread thread = new Thread(runnable, "slow-query-explain");
+                    thread.setDaemon(true);
+                    return thread;
+                }, new ThreadPoolExecutor.DiscardPolicy());
+    }
+
+    /**
+     * Wraps the statement a Connection method returned so its executions are timed;
+     * any other result is returned as is.
+     */
+    Object wrap(Method method, Object[] args, Object result) {
+        if (result instanceof PreparedStatement statement && method.getName().equals("prepareStatement")) {
+            return Proxy.newProxyInstance(PreparedStatement.class.getClassLoader(),
+                    new Class<?>[]{PreparedStatement.class}, new TimedStatementHandler(statement, (String) args[0]));
+        }
+        if (result instanceof Statement statement && method.getName().equals("createStatement")) {
+            return Proxy.newProxyInstance(Statement.class.getClassLoader(),
+                    new Class<?>[]{Statement.class}, new TimedStatementHandler(statement, null));
+        }
+        return result;
+    }
+
+    /**
+     * Stops fetching plans and closes the log file.
+     */
+    synchronized void close() {
+        explainer.shutdownNow();
+        if (handler != null) {
+            handler.close();
+            handler = null;
+        }
+        unavailable = true;
+    }
+
+    private void slow(String sql, Map<Integer, Object> params, int batchRows, long elapsedNanos) {
+        if (sql.regionMatches(true, 0, EXPLAIN_PREFIX, 0, EXPLAIN_PREFIX.length())) {
+            return;
+        }
+        long id = entries.incrementAndGet();
+        StringBuilder entry = new StringBuilder()
+                .append(String.format("#%d %.1f ms %s [%s]\n", id, elapsedNanos / 1e6, caller(),
+                        Thread.currentThread().getName()))
+                .append("  SQL: ").append(redact(abbreviate(WHITESPACE.matcher(sql.trim()).replaceAll(" "))))
+                .append('\n');
+        if (batchRows > 0) {
+            entry.append("  batch of ").append(batchRows).append(" rows, first row: ");
+        } else {
+            entry.append("  params: ");
+        }
+        entry.append(formatParams(params)).append('\n');
+        write(entry.toString());
+
+        if (explainConnections != null && EXPLAINABLE.matcher(sql).find() && claimExplain(sql)) {
+            Map<Integer, Object> values = new TreeMap<>(params);
+            explainer.execute(() -> explain(id, sql, values));
+        }
+    }
+
+    private boolean claimExplain(String sql) {
+        long now = System.currentTimeMillis();
+        Long previous = lastExplained.get(sql);
+        if (previous != null && now - previous < EXPLAIN_INTERVAL_MS) {
+            return false;
+        }
+        // Only the thread that swaps in its timestamp queues the EXPLAIN
+        return previous == null
+                ? lastExplained.putIfAbsent(sql, now) == null
+                : lastExplained.replace(sql, previous, now);
+    }
+
+    private void explain(long id, String sql, Map<Integer, Object> params) {
+        StringBuilder entry = new StringBuilder(String.format("#%d EXPLAIN\n", id));
+        try (Connection conn = explainConnections.create();
+             PreparedStatement ps = conn.prepareStatement(EXPLAIN_PREFIX + sql)) {
+            for (Map.Entry<Integer, Object> param : params.entrySet()) {
+                if (param.getValue() == null) {
+                    ps.setNull(param.getKey(), Types.NULL);
+                } else {
+                    ps.setObject(param.getKey(), param.getValue());
+                }
+            }
+            try (ResultSet rs = ps.executeQuery()) {
+                ResultSetMetaData meta = rs.getMetaData();
+                StringJoiner header = new StringJoiner(" | ", "  ", "\n");
+                for (int column = 1; column <= meta.getColumnCount(); column++) {
+                    header.add(meta.getColumnLabel(column));
+                }
+                entry.append(header);
+                while (rs.next()) {
+                    StringJoiner row = new StringJoiner(" | ", "  ", "\n");
+                    for (int column = 1; column <= meta.getColumnCount(); column++) {
+                        // Multi-line plans (e.g. H2's) stay indented under the entry
+                        row.add(redact(abbreviate(String.valueOf(rs.getString(column)))).replace("\n", "\n  "));
+                    }
+                    entry.append(row);
+                }
+            }
+        } catch (SQLException | RuntimeException e) {
+            entry.append("  failed: ").append(redact(String.valueOf(e.getMessage()))).append('\n');
+        }
+        write(entry.toString());
+    }
+
+    // The first application frame outside this package, plus the DAO method above it when that frame
+    // is a helper, e.g. "PayrollMonthlySummary.apply via PayrollDAOImpl.insert"
+    private static String caller() {
+        List<StackWalker.StackFrame> frames = StackWalker.getInstance().walk(stack -> stack
+                .filter(f -> f.getClassName().startsWith("com.employeemgmt.")
+                        && !f.getClassName().startsWith("com.employeemgmt.db."))
+                .limit(8)
+                .toList());
+        if (frames.isEmpty()) {
+            return "unknown";
+        }
+        String first = describe(frames.get(0));
+        if (frames.get(0).getClassName().endsWith("DAOImpl")) {
+            return first;
+        }
+        return frames.stream()
+                .filter(f -> f.getClassName().endsWith("DAOImpl"))
+                .findFirst()
+                .map(dao -> first + " via " + describe(dao))
+                .orElse(first);
+    }
+
+    private static String describe(StackWalker.StackFrame frame) {
+        String className = frame.getClassName();
+        String method = frame.getMethodName();
+        // lambda$findAll$2 -> findAll
+        if (method.startsWith("lambda$")) {
+            int end = method.indexOf('$', "lambda$".length());
+            method = method.substring("lambda$".length(), end > 0 ? end : method.length());
+        }
+        return className.substring(className.lastIndexOf('.') + 1) + "." + method;
+    }
+
+    private static String abbreviate(String text) {
+        return text.length() <= MAX_SQL_CHARS
+                ? text
+                : text.substring(0, MAX_SQL_CHARS) + " ... (" + text.length() + " chars)";
+    }
+
+    private static String formatParams(Map<Integer, Object> params) {
+        if (params.isEmpty()) {
+            return "none";
+        }
+        StringJoiner joined = new StringJoiner(", ");
+        int shown = 0;
+        for (Map.Entry<Integer, Object> param : params.entrySet()) {
+            if (shown++ == MAX_PARAMS) {
+                joined.add("... " + (params.size() - MAX_PARAMS) + " more");
+                break;
+            }
+            joined.add("[" + param.getKey() + "] " + formatValue(param.getValue()));
+        }
+        return joined.toString();
+    }
+
+    private static String formatValue(Object value) {
+        if (value == null) {
+            return "NULL";
+        }
+        if (value instanceof CharSequence text) {
+            return "'" + redact(text.toString()) + "'";
+        }
+        if (value instanceof byte[] || value instanceof InputStream || value instanceof Reader
+                || value instanceof Blob || value instanceof Clob) {
+            return "<binary>";
+        }
+        return redact(value.toString());
+    }
+
+    private static String redact(String text) {
+        return SSN.matcher(text).replaceAll("***-**-****");
+    }
+
+    private void write(String entry) {
+        FileHandler out = handler();
+        if (out != null) {
+            out.publish(new LogRecord(Level.INFO, entry));
+            out.flush();
+        }
+    }
+
+    // Opened on the first slow statement, so runs without one leave no file behind
+    private synchronized FileHandler handler() {
+        if (handler == null && !unavailable) {
+            try {
+                Path parent = file.toAbsolutePath().getParent();
+                if (parent != null) {
+                    Files.createDirectories(parent);
+                }
+                FileHandler opened = new FileHandler(
+                        file.toAbsolutePath().toString().replace("%", "%%") + ".%g", MAX_FILE_BYTES, MAX_FILES, true);
+                opened.setEncoding(StandardCharsets.UTF_8.name());
+                opened.setFormatter(new Formatter() {
+                    @Override
+                    public String format(LogRecord record) {
+                        return LocalDateTime.now().format(TIMESTAMP) + " " + record.getMessage();
+                    }
+                });
+                handler = opened;
+            } catch (IOException | RuntimeException e) {
+                unavailable = true;
+                System.err.println("Warning: slow query log disabled, cannot open " + file + ": " + e.getMessage());
+            }
+        }
+        return handler;
+    }
+
+    private final class TimedStatementHandler implements InvocationHandler {
+        private final Statement statement;
+        // Null for plain statements, whose SQL arrives with each execute call
+        private final String sql;
+        private final Map<Integer, Object> params = new TreeMap<>();
+        private Map<Integer, Object> firstBatchRow;
+        private int batchRows;
+
+        TimedStatementHandler(Statement statement, String sql) {
+            this.statement = statement;
+            this.sql = sql;
+        }
+
+        @Override
+        public Object invoke(Object proxy, Method method, Object[] args) throws Throwable {
+            String name = method.getName();
+            switch (name) {
+                case "equals" -> {
+                    return proxy == args[0];
+                }
+                case "hashCode" -> {
+                    return System.identityHashCode(proxy);
+                }
+                case "toString" -> {
+                    return "TimedStatement[" + statement + "]";
+                }
+                case "clearParameters" -> params.clear();
+                case "addBatch" -> {
+                    if (batchRows++ == 0) {
+                        firstBatchRow = new TreeMap<>(params);
+                    }
+                }
+                case "clearBatch" -> clearBatch();
+                default -> {
+                    if (name.startsWith("execute")) {
+                        return execute(method, args);
+                    }
+                    if (name.startsWith("set") && args != null && args.length >= 2 && args[0] instanceof Integer index) {
+                        params.put(index, name.equals("setNull") ? null : args[1]);
+                    }
+                }
+            }
+            return invokeDelegate(method, args);
+        }
+
+        private Object execute(Method method, Object[] args) throws Throwable {
+            long startNanos = System.nanoTime();
+            try {
+                return invokeDelegate(method, args);
+            } finally {
+                long elapsed = System.nanoTime() - startNanos;
+                boolean batch = method.getName().endsWith("Batch");
+                String executed = args != null && args.length > 0 && args[0] instanceof String text ? text : sql;
+                if (elapsed >= thresholdNanos && executed != null) {
+                    slow(executed, batch && firstBatchRow != null ? firstBatchRow : params,
+                            batch ? Math.max(batchRows, 1) : 0, elapsed);
+                }
+                if (batch) {
+                    clearBatch();
+                }
+            }
+        }
+
+        private void clearBatch() {
+            firstBatchRow = null;
+            batchRows = 0;
+        }
+
+        private Object invokeDelegate(Method method, Object[] args) throws Throwable {
+            try {
+                return method.invoke(statement, args);
+            } catch (InvocationTargetException e) {
+                throw e.getCause();
+            }
+        }
+    }
+}
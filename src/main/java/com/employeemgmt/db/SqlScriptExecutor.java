@@ -0,0 +1,153 @@
+package com.employeemgmt.db;
+
+import java.io.IOException;
+import java.io.Reader;
+import java.sql.BatchUpdateException;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+
+/**
+ * Runs a SQL script statement by statement as it is read.
+ *
+ * Consecutive INSERT and REPLACE statements go to the server as one JDBC batch. Other statements
+ * run one at a time after any pending batch, so script order is preserved. When the connection
+ * is not in auto-commit mode, work is committed every commitInterval statements, which keeps
+ * transactions short on large seed scripts. The caller commits the remainder.
+ */
+public final class SqlScriptExecutor {
+
+    /**
+     * Decides what happens when a statement fails.
+     */
+    @FunctionalInterface
+    public interface ErrorHandler {
+        /**
+         * @return true to skip the statement and continue, false to stop and rethrow
+         */
+        boolean shouldContinue(String statement, SQLException e);
+    }
+
+    public static final ErrorHandler FAIL_FAST = (statement, e) -> false;
+
+    private final int batchSize;
+    private final int commitInterval;
+    private final ErrorHandler errorHandler;
+
+    /**
+     * @param batchSize      maximum statements per JDBC batch
+     * @param commitInterval statements between commits when auto-commit is off; 0 leaves commits to the caller
+     */
+    public SqlScriptExecutor(int batchSize, int commitInterval, ErrorHandler errorHandler) {
+        if (batchSize < 1 || commitInterval < 0) {
+            throw new IllegalArgumentException("batchSize must be positive and commitInterval non-negative");
+        }
+        this.batchSize = batchSize;
+        this.commitInterval = commitInterval;
+        this.errorHandler = errorHandler;
+    }
+
+    /**
+     * Executes every statement in the script. The reader is closed afterwards.
+     *
+     * @return the number of statements that ran successfully
+     * @throws SQLException the first failure the error handler did not accept
+     */
+    public int execute(Connection connection, Reader script) throws SQLException, IOException {
+        boolean chunkedCommits = commitInterval > 0 && !connection.getAutoCommit();
+        List<String> batch = new ArrayList<>(batchSize);
+        int succeeded = 0;
+        int sinceCommit = 0;
+
+        try (SqlScriptReader reader = new SqlScriptReader(script);
+             Statement stmt = connection.createStatement()) {
+            String sql;
+            while ((sql = reader.nextStatement()) != null) {
+                if (isBatchable(sql)) {
+                    batch.add(sql);
+                    if (batch.size() < batchSize) {
+                        continue;
+                    }
+                    succeeded += executeBatch(stmt, batch);
+                    sinceCommit += batch.size();
+                    batch.clear();
+                } else {
+                    succeeded += executeBatch(stmt, batch);
+                    sinceCommit += batch.size();
+                    batch.clear();
+                    succeeded += executeSingle(stmt, sql);
+                    sinceCommit++;
+                }
+
+                if (chunkedCommits && sinceCommit >= commitInterval) {
+                    connection.commit();
+                    sinceCommit = 0;
+                }
+            }
+            succeeded += executeBatch(stmt, batch);
+        }
+        return succeeded;
+    }
+
+    private int executeSingle(Statement stmt, String sql) throws SQLException {
+        try {
+            stmt.execute(sql);
+            return 1;
+        } catch (SQLException e) {
+            if (errorHandler.shouldContinue(sql, e)) {
+                return 0;
+            }
+            throw e;
+        }
+    }
+
+    private int executeBatch(Statement stmt, List<String> batch) throws SQLException {
+        if (batch.isEmpty()) {
+            return 0;
+        }
+        for (String sql : batch) {
+            stmt.addBatch(sql);
+        }
+        try {
+            stmt.executeBatch();
+            return batch.size();
+        } catch (BatchUpdateException e) {
+            stmt.clearBatch();
+            return recoverBatch(stmt, batch, e);
+        }
+    }
+
+    /**
+     * Drivers either stop at the first failed statement (fewer update counts than statements)
+     * or run them all and mark failures with EXECUTE_FAILED. Only statements that did not run
+     * are retried, so nothing is applied twice.
+     */
+    private int recoverBatch(Statement stmt, List<String> batch, BatchUpdateException e) throws SQLException {
+        int[] counts = e.getUpdateCounts();
+        if (counts.length >= batch.size()) {
+            int succeeded = 0;
+            for (int i = 0; i < batch.size(); i++) {
+                if (counts[i] != Statement.EXECUTE_FAILED) {
+                    succeeded++;
+                } else if (!errorHandler.shouldContinue(batch.get(i), e)) {
+                    throw e;
+                }
+            }
+            return succeeded;
+        }
+
+        int failed = counts.length;
+        if (!errorHandler.shouldContinue(batch.get(failed), e)) {
+            throw e;
+        }
+        return failed + executeBatch(stmt, new ArrayList<>(batch.subList(failed + 1, batch.size())));
+    }
+
+    private static boolean isBatchable(String sql) {
+        String head = sql.substring(0, Math.min(sql.length(), 8)).toUpperCase(Locale.ROOT);
+        return head.startsWith("INSERT") || head.startsWith("REPLACE");
+    }
+}
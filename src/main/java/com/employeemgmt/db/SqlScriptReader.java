@@ -0,0 +1,174 @@
+package com.employeemgmt.db;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.PushbackReader;
+import java.io.Reader;
+import java.util.Locale;
+
+/**
+ * Reads SQL statements one at a time from a script without loading the whole file.
+ *
+ * Follows MySQL client rules: statements end at the current delimiter (";" unless changed with a
+ * DELIMITER line), delimiters inside '...', "..." or `...` do not count, backslash escapes inside
+ * quotes, and "-- " (dash dash whitespace), "#" and C-style comments are dropped. Comments of the
+ * form /*! ... *&#47; and /*+ ... *&#47; are MySQL version gates and optimizer hints, so they are kept.
+ */
+public final class SqlScriptReader implements Closeable {
+
+    private static final String DELIMITER_COMMAND = "DELIMITER";
+
+    private final PushbackReader in;
+    private String delimiter = ";";
+
+    public SqlScriptReader(Reader reader) {
+        this.in = new PushbackReader(reader, 2);
+    }
+
+    /**
+     * @return the next statement without its delimiter and surrounding whitespace, or null at end of script
+     */
+    public String nextStatement() throws IOException {
+        StringBuilder sql = new StringBuilder();
+
+        int c;
+        while ((c = in.read()) != -1) {
+            char ch = (char) c;
+
+            if (ch == '\'' || ch == '"' || ch == '`') {
+                sql.append(ch);
+                readQuoted(ch, sql);
+            } else if (ch == '-' && peekIs('-') && isCommentStart()) {
+                skipLine();
+                appendSpace(sql);
+            } else if (ch == '#') {
+                skipLine();
+                appendSpace(sql);
+            } else if (ch == '/' && peekIs('*')) {
+                in.read();
+                if (peekIs('!') || peekIs('+')) {
+                    sql.append("/*");
+                    readUntilCommentEnd(sql);
+                    sql.append("*/");
+                } else {
+                    readUntilCommentEnd(null);
+                    appendSpace(sql);
+                }
+            } else if (Character.isWhitespace(ch)) {
+                // DELIMITER is a client command on its own line, not SQL
+                if (isDelimiterCommand(sql)) {
+                    delimiter = readDelimiter(ch);
+                    sql.setLength(0);
+                } else {
+                    appendSpace(sql);
+                }
+            } else {
+                sql.append(ch);
+                if (endsWithDelimiter(sql)) {
+                    sql.setLength(sql.length() - delimiter.length());
+                    String statement = sql.toString().trim();
+                    if (!statement.isEmpty()) {
+                        return statement;
+                    }
+                    sql.setLength(0);
+                }
+            }
+        }
+
+        String statement = sql.toString().trim();
+        return statement.isEmpty() || isDelimiterCommand(sql) ? null : statement;
+    }
+
+    @Override
+    public void close() throws IOException {
+        in.close();
+    }
+
+    private void readQuoted(char quote, StringBuilder sql) throws IOException {
+        int c;
+        while ((c = in.read()) != -1) {
+            char ch = (char) c;
+            sql.append(ch);
+            if (ch == '\\' && quote != '`') {
+                int escaped = in.read();
+                if (escaped != -1) {
+                    sql.append((char) escaped);
+                }
+            } else if (ch == quote) {
+                // A doubled quote is an escaped quote; the next call continues the same literal
+                return;
+            }
+        }
+    }
+
+    private void readUntilCommentEnd(StringBuilder keep) throws IOException {
+        int c;
+        while ((c = in.read()) != -1) {
+            if (c == '*' && peekIs('/')) {
+                in.read();
+                return;
+            }
+            if (keep != null) {
+                keep.append((char) c);
+            }
+        }
+    }
+
+    // "--" starts a comment only when followed by whitespace or end of input
+    private boolean isCommentStart() throws IOException {
+        int second = in.read();
+        int third = in.read();
+        if (third != -1) {
+            in.unread(third);
+        }
+        in.unread(second);
+        return third == -1 || Character.isWhitespace(third);
+    }
+
+    private void skipLine() throws IOException {
+        int c;
+        while ((c = in.read()) != -1 && c != '\n') {
+            // discard
+        }
+    }
+
+    private boolean peekIs(char expected) throws IOException {
+        int c = in.read();
+        if (c != -1) {
+            in.unread(c);
+        }
+        return c == expected;
+    }
+
+    // Leading whitespace is dropped, so a statement's first word starts at index 0
+    private static void appendSpace(StringBuilder sql) {
+        if (sql.length() > 0) {
+            sql.append(' ');
+        }
+    }
+
+    private boolean endsWithDelimiter(StringBuilder sql) {
+        int start = sql.length() - delimiter.length();
+        return start >= 0 && sql.indexOf(delimiter, start) == start;
+    }
+
+    private static boolean isDelimiterCommand(StringBuilder sql) {
+        return sql.length() == DELIMITER_COMMAND.length()
+                && sql.toString().toUpperCase(Locale.ROOT).equals(DELIMITER_COMMAND);
+    }
+
+    private String readDelimiter(char separator) throws IOException {
+        StringBuilder line = new StringBuilder();
+        if (separator != '\n') {
+            int c;
+            while ((c = in.read()) != -1 && c != '\n') {
+                line.append((char) c);
+            }
+        }
+        String value = line.toString().trim();
+        if (value.isEmpty()) {
+            throw new IOException("DELIMITER command without a delimiter");
+        }
+        return value;
+    }
+}
@@ -0,0 +1,219 @@
+package com.employeemgmt.db;
+
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Set;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Keeps the prepared statements of one physical connection open after the DAO closes them,
+ * keyed by SQL text, so the next prepareStatement() with the same SQLConstants string skips
+ * the parse (and, with server-side prepares, the round trip that prepares it).
+ *
+ * DAOs receive proxies whose close() puts the statement back instead of closing it.
+ * A statement is only reused once it has been put back, so two open statements with the
+ * same SQL on one connection are two separate statements. Statements whose fetch size,
+ * row limit or timeout were changed are closed for real rather than reused with those settings.
+ * The least recently used statement is closed when the cache is full.
+ */
+final class StatementCache {
+
+    /**
+     * Hit and miss counters shared by the caches of every connection in a pool.
+     */
+    static final class Counters {
+        final LongAdder hits = new LongAdder();
+        final LongAdder misses = new LongAdder();
+        final LongAdder evictions = new LongAdder();
+
+        StatementCacheStats snapshot() {
+            return new StatementCacheStats(hits.sum(), misses.sum(), evictions.sum());
+        }
+    }
+
+    /**
+     * Whether the pooled connection a statement came from is still held by its borrower.
+     */
+    @FunctionalInterface
+    interface Lease {
+        boolean isActive();
+    }
+
+    private record Key(String sql, int autoGeneratedKeys) {
+    }
+
+    // Statement settings that outlive an execution; a statement that changed one is not reused
+    private static final Set<String> STATEFUL_SETTERS = Set.of(
+            "setFetchSize", "setFetchDirection", "setMaxRows", "setLargeMaxRows", "setMaxFieldSize",
+            "setQueryTimeout", "setEscapeProcessing", "setCursorName", "setPoolable", "closeOnCompletion");
+
+    private final Connection physical;
+    private final int maxSize;
+    private final Counters counters;
+    // Access order, so iteration starts at the least recently used statement
+    private final LinkedHashMap<Key, PreparedStatement> idle = new LinkedHashMap<>(32, 0.75f, true);
+
+    StatementCache(Connection physical, int maxSize, Counters counters) {
+        this.physical = physical;
+        this.maxSize = maxSize;
+        this.counters = counters;
+    }
+
+    /**
+     * Returns a cached statement for the SQL, or prepares one on a miss.
+     *
+     * @param logical the pooled connection proxy that getConnection() on the statement should return
+     * @param lease   tells whether that pooled connection is still borrowed when the statement is closed
+     */
+    PreparedStatement prepare(String sql, int autoGeneratedKeys, Connection logical, Lease lease)
+            throws SQLException {
+        Key key = new Key(sql, autoGeneratedKeys);
+        PreparedStatement statement;
+        synchronized (this) {
+            statement = idle.remove(key);
+        }
+        if (statement != null) {
+            counters.hits.increment();
+        } else {
+            counters.misses.increment();
+            statement = physical.prepareStatement(sql, autoGeneratedKeys);
+        }
+        return (PreparedStatement) Proxy.newProxyInstance(
+                PreparedStatement.class.getClassLoader(),
+                new Class<?>[]{PreparedStatement.class},
+                new CachedStatementHandler(key, statement, logical, lease));
+    }
+
+    /**
+     * Closes every cached statement; called before the physical connection is closed.
+     */
+    synchronized void closeAll() {
+        for (PreparedStatement statement : idle.values()) {
+            closeQuietly(statement);
+        }
+        idle.clear();
+    }
+
+    private void putBack(Key key, PreparedStatement statement) {
+        try {
+            ResultSet open = statement.getResultSet();
+            if (open != null) {
+                open.close();
+            }
+            statement.clearParameters();
+            statement.clearBatch();
+        } catch (SQLException e) {
+            closeQuietly(statement);
+            return;
+        }
+
+        synchronized (this) {
+            if (idle.putIfAbsent(key, statement) != null) {
+                // Another statement for the same SQL came back first
+                closeQuietly(statement);
+                return;
+            }
+            while (idle.size() > maxSize) {
+                Iterator<PreparedStatement> eldest = idle.values().iterator();
+                closeQuietly(eldest.next());
+                eldest.remove();
+                counters.evictions.increment();
+            }
+        }
+    }
+
+    private static void closeQuietly(PreparedStatement statement) {
+        try {
+            statement.close();
+        } catch (SQLException e) {
+            // Statement is being discarded anyway
+        }
+    }
+
+    private final class CachedStatementHandler implements InvocationHandler {
+        private final Key key;
+        private final PreparedStatement statement;
+        private final Connection logical;
+        private final Lease lease;
+        private boolean closed;
+        private boolean reusable = true;
+
+        CachedStatementHandler(Key key, PreparedStatement statement, Connection logical, Lease lease) {
+            this.key = key;
+            this.statement = statement;
+            this.logical = logical;
+            this.lease = lease;
+        }
+
+        @Override
+        public Object invoke(Object proxy, Method method, Object[] args) throws Throwable {
+            String name = method.getName();
+            switch (name) {
+                case "close" -> {
+                    if (!closed) {
+                        closed = true;
+                        // After the connection went back to the pool, another borrower may be using its cache
+                        if (reusable && lease.isActive()) {
+                            putBack(key, statement);
+                        } else {
+                            closeQuietly(statement);
+                        }
+                    }
+                    return null;
+                }
+                case "isClosed" -> {
+                    return closed || statement.isClosed();
+                }
+                case "getConnection" -> {
+                    return logical;
+                }
+                case "equals" -> {
+                    return proxy == args[0];
+                }
+                case "hashCode" -> {
+                    return System.identityHashCode(proxy);
+                }
+                case "toString" -> {
+                    return "CachedStatement[" + statement + "]";
+                }
+                default -> {
+                    if (closed) {
+                        throw new SQLException("Statement has already been closed");
+                    }
+                    if (STATEFUL_SETTERS.contains(name)) {
+                        reusable = false;
+                    }
+                    try {
+                        return method.invoke(statement, args);
+                    } catch (InvocationTargetException e) {
+                        throw e.getCause();
+                    }
+                }
+            }
+        }
+    }
+
+    /**
+     * True for prepareStatement(String) and prepareStatement(String, int autoGeneratedKeys), the two forms
+     * the DAOs use. Other forms (scrollable or updatable result sets, key column lists) are not cached.
+     */
+    static boolean isCacheable(Method method) {
+        Class<?>[] types = method.getParameterTypes();
+        return method.getName().equals("prepareStatement")
+                && (types.length == 1 || (types.length == 2 && types[1] == int.class))
+                && types[0] == String.class;
+    }
+
+    static int autoGeneratedKeys(Object[] args) {
+        return args.length == 2 ? (Integer) args[1] : Statement.NO_GENERATED_KEYS;
+    }
+}
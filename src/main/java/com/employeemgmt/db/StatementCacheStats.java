@@ -0,0 +1,25 @@
+package com.employeemgmt.db;
+
+/**
+ * Prepared statement cache counters since startup, summed over every pooled connection.
+ *
+ * @param hits      prepareStatement() calls served from the cache
+ * @param misses    prepareStatement() calls that prepared a new statement
+ * @param evictions statements closed to make room for another
+ */
+public record StatementCacheStats(long hits, long misses, long evictions) {
+
+    /**
+     * @return hits as a fraction of all lookups, or 0 before the first lookup
+     */
+    public double hitRatio() {
+        long lookups = hits + misses;
+        return lookups == 0 ? 0.0 : (double) hits / lookups;
+    }
+
+    @Override
+    public String toString() {
+        return String.format("statement cache: %d hits, %d misses (%.1f%% hit ratio), %d evictions",
+                hits, misses, hitRatio() * 100, evictions);
+    }
+}
@@ -0,0 +1,122 @@
+package com.employeemgmt.db;
+
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.sql.Connection;
+import java.sql.SQLException;
+
+/**
+ * Binds one pooled connection to the current thread for the length of a transaction.
+ * While a unit of work is active, DatabaseConnectionManager.getConnection() hands out
+ * the bound connection, so DAOs join the transaction without any changes of their own.
+ */
+final class UnitOfWork {
+
+    private static final ThreadLocal<Connection> BOUND = new ThreadLocal<>();
+
+    private UnitOfWork() {
+    }
+
+    /**
+     * Returns a handle on the connection bound to the current thread, or null if no
+     * unit of work is active. Closing the handle, or calling commit, rollback or
+     * setAutoCommit on it, has no effect: the unit of work owns the transaction.
+     */
+    static Connection current() {
+        Connection bound = BOUND.get();
+        if (bound == null) {
+            return null;
+        }
+        return (Connection) Proxy.newProxyInstance(
+                Connection.class.getClassLoader(),
+                new Class<?>[]{Connection.class},
+                new ParticipantHandler(bound));
+    }
+
+    /**
+     * Runs the work in a transaction on a single connection and commits once.
+     * If a unit of work is already active on this thread the work joins it instead,
+     * and the outermost caller commits.
+     *
+     * @param pool source of the connection
+     * @param work the statements to run
+     * @return the work's result
+     * @throws SQLException if the work or the commit fails; the transaction is rolled back
+     */
+    static <T> T run(ConnectionPool pool, DatabaseConnectionManager.TransactionalWork<T> work) throws SQLException {
+        if (BOUND.get() != null) {
+            return work.execute();
+        }
+
+        try (Connection conn = pool.borrow()) {
+            conn.setAutoCommit(false);
+            BOUND.set(conn);
+            try {
+                T result = work.execute();
+                conn.commit();
+                return result;
+            } catch (SQLException | RuntimeException e) {
+                rollbackQuietly(conn, e);
+                throw e;
+            } finally {
+                BOUND.remove();
+            }
+        }
+    }
+
+    private static void rollbackQuietly(Connection conn, Exception cause) {
+        try {
+            conn.rollback();
+        } catch (SQLException rollbackFailure) {
+            cause.addSuppressed(rollbackFailure);
+        }
+    }
+
+    private static final class ParticipantHandler implements InvocationHandler {
+        private final Connection bound;
+
+        ParticipantHandler(Connection bound) {
+            this.bound = bound;
+        }
+
+        @Override
+        public Object invoke(Object proxy, Method method, Object[] args) throws Throwable {
+            switch (method.getName()) {
+                case "close", "commit", "setAutoCommit" -> {
+                    // A DAO managing its own transaction defers to the enclosing one
+                    return null;
+                }
+                case "rollback" -> {
+                    // Savepoint rollbacks stay local; a full rollback is left to run(),
+                    // which sees the DAO's exception and rolls everything back
+                    return args == null ? null : invokeBound(method, args);
+                }
+                case "getAutoCommit" -> {
+                    return false;
+                }
+                case "equals" -> {
+                    return proxy == args[0];
+                }
+                case "hashCode" -> {
+                    return System.identityHashCode(proxy);
+                }
+                case "toString" -> {
+                    return "TransactionBoundConnection[" + bound + "]";
+                }
+                default -> {
+                    return invokeBound(method, args);
+                }
+            }
+        }
+
+        private Object invokeBound(Method method, Object[] args) throws Throwable {
+            try {
+                return method.invoke(bound, args);
+            } catch (InvocationTargetException e) {
+                throw e.getCause();
+            }
+        }
+    }
+}
@@ -0,0 +1,19 @@
+package com.employeemgmt.metrics;
+
+/**
+ * JMX view of one cache in front of the database, registered as com.employeemgmt:type=Cache,name=...
+ * All figures are totals since startup.
+ */
+public interface CacheMXBean {
+
+    String getName();
+
+    long getHits();
+
+    long getMisses();
+
+    /**
+     * Hits as a fraction of all lookups, or 0 before the first lookup.
+     */
+    double getHitRatio();
+}
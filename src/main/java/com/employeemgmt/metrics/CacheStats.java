@@ -0,0 +1,54 @@
+package com.employeemgmt.metrics;
+
+import java.util.function.LongSupplier;
+
+/**
+ * Hit and miss counts of one cache, read from the cache's own counters when asked.
+ */
+public final class CacheStats implements CacheMXBean {
+
+    private final String name;
+    private final LongSupplier hits;
+    private final LongSupplier misses;
+
+    // Lookups at the previous periodic log line, to report what happened since
+    private long loggedLookups;
+
+    CacheStats(String name, LongSupplier hits, LongSupplier misses) {
+        this.name = name;
+        this.hits = hits;
+        this.misses = misses;
+    }
+
+    /**
+     * @return lookups since the previous call to this method
+     */
+    synchronized long sinceLastLog() {
+        long lookups = getHits() + getMisses();
+        long delta = lookups - loggedLookups;
+        loggedLookups = lookups;
+        return delta;
+    }
+
+    @Override
+    public String getName() {
+        return name;
+    }
+
+    @Override
+    public long getHits() {
+        return hits.getAsLong();
+    }
+
+    @Override
+    public long getMisses() {
+        return misses.getAsLong();
+    }
+
+    @Override
+    public double getHitRatio() {
+        long hitCount = getHits();
+        long lookups = hitCount + getMisses();
+        return lookups == 0 ? 0.0 : (double) hitCount / lookups;
+    }
+}
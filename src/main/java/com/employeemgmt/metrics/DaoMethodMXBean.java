@@ -0,0 +1,38 @@
+package com.employeemgmt.metrics;
+
+/**
+ * JMX view of one DAO method, registered as com.employeemgmt:type=DaoMethod,dao=...,method=...
+ * All figures are totals since startup.
+ */
+public interface DaoMethodMXBean {
+
+    String getDao();
+
+    String getMethod();
+
+    long getCalls();
+
+    long getErrors();
+
+    /**
+     * Rows returned by queries, or rows affected by writes.
+     */
+    long getRows();
+
+    double getMeanMillis();
+
+    double getP50Millis();
+
+    double getP95Millis();
+
+    double getP99Millis();
+
+    double getMaxMillis();
+
+    /**
+     * Average time per call spent waiting for a pooled connection, included in the latencies above.
+     */
+    double getMeanConnectionAcquireMillis();
+
+    double getMaxConnectionAcquireMillis();
+}
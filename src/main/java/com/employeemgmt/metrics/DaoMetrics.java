@@ -0,0 +1,297 @@
+package com.employeemgmt.metrics;
+
+import com.employeemgmt.db.ConnectionAcquireTimer;
+
+import java.lang.management.ManagementFactory;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.function.LongSupplier;
+import java.util.function.ToLongFunction;
+import java.util.stream.Stream;
+import javax.management.JMException;
+import javax.management.MBeanServer;
+import javax.management.ObjectName;
+
+/**
+ * Per-method call counts, latency histograms, row counts and connection wait for the DAO layer.
+ *
+ * The Metered*DAO decorators record into one instance through a Recorder per DAO. Each method's
+ * stats are published over JMX as a DaoMethodMXBean the first time the method is called, and
+ * startPeriodicLog() prints the methods that took the most time in each interval.
+ *
+ * Caches in front of the database are registered with registerCache() and reported the same
+ * way, as a CacheMXBean and in the periodic log, so their hit ratio can be read next to the
+ * DAO calls they save.
+ */
+public final class DaoMetrics {
+
+    /**
+     * A DAO call that may fail with SQLException.
+     */
+    @FunctionalInterface
+    public interface SqlCall<T> {
+        T call() throws SQLException;
+    }
+
+    /**
+     * A DAO call with no result.
+     */
+    @FunctionalInterface
+    public interface SqlAction {
+        void run() throws SQLException;
+    }
+
+    static final String JMX_DOMAIN = "com.employeemgmt";
+    private static final int LOG_TOP_METHODS = 10;
+
+    private final Map<String, MethodStats> stats = new ConcurrentHashMap<>();
+    private final Map<String, CacheStats> caches = new ConcurrentHashMap<>();
+    private final MBeanServer mbeanServer;
+    private final List<ObjectName> registered = new ArrayList<>();
+    private ScheduledExecutorService logger;
+
+    /**
+     * Publishes stats on the platform MBean server.
+     */
+    public DaoMetrics() {
+        this(ManagementFactory.getPlatformMBeanServer());
+    }
+
+    /**
+     * @param mbeanServer where to publish stats, or null to keep them in memory only
+     */
+    public DaoMetrics(MBeanServer mbeanServer) {
+        this.mbeanServer = mbeanServer;
+    }
+
+    /**
+     * @param dao name shown in logs and JMX, e.g. "EmployeeDAO"
+     */
+    public Recorder forDao(String dao) {
+        return new Recorder(dao);
+    }
+
+    /**
+     * Stats for every method called so far.
+     */
+    public Collection<MethodStats> all() {
+        return List.copyOf(stats.values());
+    }
+
+    /**
+     * Publishes a cache's hit and miss counters, which are read each time they are reported.
+     *
+     * @param name shown in logs and JMX, e.g. "StatementCache"
+     */
+    public void registerCache(String name, LongSupplier hits, LongSupplier misses) {
+        CacheStats cache = new CacheStats(name, hits, misses);
+        caches.put(name, cache);
+        register(cache, "type=Cache,name=" + name, name);
+    }
+
+    /**
+     * Stats for every registered cache.
+     */
+    public Collection<CacheStats> caches() {
+        return List.copyOf(caches.values());
+    }
+
+    /**
+     * Prints a summary every interval of the methods with the most total time in that interval,
+     * followed by the registered caches. Intervals with no DAO calls or cache lookups print nothing.
+     */
+    public synchronized void startPeriodicLog(long intervalSeconds) {
+        if (logger != null || intervalSeconds <= 0) {
+            return;
+        }
+        logger = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "dao-metrics-log");
+            thread.setDaemon(true);
+            return thread;
+        });
+        logger.scheduleAtFixedRate(() -> log(intervalSeconds), intervalSeconds, intervalSeconds, TimeUnit.SECONDS);
+    }
+
+    /**
+     * Stops the periodic log and removes the JMX beans.
+     */
+    public synchronized void close() {
+        if (logger != null) {
+            logger.shutdownNow();
+            logger = null;
+        }
+        if (mbeanServer != null) {
+            synchronized (registered) {
+                for (ObjectName name : registered) {
+                    try {
+                        mbeanServer.unregisterMBean(name);
+                    } catch (JMException e) {
+                        // Already gone
+                    }
+                }
+                registered.clear();
+            }
+        }
+    }
+
+    private void log(long intervalSeconds) {
+        record Interval(MethodStats stats, long calls, long nanos) {
+        }
+        List<Interval> active = new ArrayList<>();
+        for (MethodStats method : stats.values()) {
+            long[] delta = method.sinceLastLog();
+            if (delta[0] > 0) {
+                active.add(new Interval(method, delta[0], delta[1]));
+            }
+        }
+        record CacheInterval(CacheStats stats, long lookups) {
+        }
+        List<CacheInterval> activeCaches = new ArrayList<>();
+        for (CacheStats cache : caches.values()) {
+            long lookups = cache.sinceLastLog();
+            if (lookups > 0) {
+                activeCaches.add(new CacheInterval(cache, lookups));
+            }
+        }
+        if (active.isEmpty() && activeCaches.isEmpty()) {
+            return;
+        }
+        active.sort(Comparator.comparingLong(Interval::nanos).reversed());
+
+        StringBuilder out = new StringBuilder(String.format(
+                "DAO metrics, last %d s (by time; percentiles since startup):%n", intervalSeconds));
+        for (Interval interval : active.subList(0, Math.min(LOG_TOP_METHODS, active.size()))) {
+            MethodStats method = interval.stats();
+            long calls = method.getCalls();
+            out.append(String.format(
+                    "  %-45s %7d calls %9.1f ms  p50 %7.2f  p95 %7.2f  p99 %7.2f  max %8.2f ms  "
+                            + "%6.1f rows/call  %5.2f ms conn wait  %d errors%n",
+                    method.getDao() + "." + method.getMethod(), interval.calls(),
+                    MethodStats.millis(interval.nanos()), method.getP50Millis(), method.getP95Millis(),
+                    method.getP99Millis(), method.getMaxMillis(),
+                    calls == 0 ? 0.0 : (double) method.getRows() / calls,
+                    method.getMeanConnectionAcquireMillis(), method.getErrors()));
+        }
+        activeCaches.sort(Comparator.comparing(interval -> interval.stats().getName()));
+        for (CacheInterval interval : activeCaches) {
+            CacheStats cache = interval.stats();
+            out.append(String.format("  %-45s %7d lookups  %5.1f%% hit ratio  (%d hits, %d misses)%n",
+                    "cache " + cache.getName(), interval.lookups(), cache.getHitRatio() * 100,
+                    cache.getHits(), cache.getMisses()));
+        }
+        System.out.print(out);
+    }
+
+    private MethodStats stats(String dao, String method) {
+        String key = dao + "." + method;
+        MethodStats existing = stats.get(key);
+        if (existing != null) {
+            return existing;
+        }
+        return stats.computeIfAbsent(key, k -> {
+            MethodStats created = new MethodStats(dao, method);
+            register(created, "type=DaoMethod,dao=" + dao + ",method=" + method, key);
+            return created;
+        });
+    }
+
+    private void register(Object bean, String properties, String label) {
+        if (mbeanServer == null) {
+            return;
+        }
+        try {
+            ObjectName name = new ObjectName(JMX_DOMAIN + ":" + properties);
+            mbeanServer.registerMBean(bean, name);
+            synchronized (registered) {
+                registered.add(name);
+            }
+        } catch (JMException e) {
+            System.err.println("Warning: DAO metrics for " + label + " not published over JMX: " + e.getMessage());
+        }
+    }
+
+    /**
+     * Rows returned by a query result, or rows affected when a write returns an update count.
+     */
+    static long rowsOf(Object result) {
+        if (result instanceof Collection<?> rows) {
+            return rows.size();
+        }
+        if (result instanceof Map<?, ?> rows) {
+            return rows.size();
+        }
+        if (result instanceof Optional<?> row) {
+            return row.isPresent() ? 1 : 0;
+        }
+        if (result instanceof Integer count) {
+            return count;
+        }
+        if (result instanceof Boolean changed) {
+            return changed ? 1 : 0;
+        }
+        return result != null ? 1 : 0;
+    }
+
+    /**
+     * Times calls to one DAO's methods. Method names should be unique within the DAO,
+     * so overloads need distinct names.
+     */
+    public final class Recorder {
+
+        private final String dao;
+
+        private Recorder(String dao) {
+            this.dao = dao;
+        }
+
+        public <T> T call(String method, SqlCall<T> work) throws SQLException {
+            return call(method, work, DaoMetrics::rowsOf);
+        }
+
+        /**
+         * @param rows counts the rows in the result, for results rowsOf does not understand
+         */
+        public <T> T call(String method, SqlCall<T> work, ToLongFunction<? super T> rows) throws SQLException {
+            MethodStats methodStats = stats(dao, method);
+            long[] outer = ConnectionAcquireTimer.start();
+            long startNanos = System.nanoTime();
+            boolean failed = true;
+            try {
+                T result = work.call();
+                methodStats.addRows(rows.applyAsLong(result));
+                failed = false;
+                return result;
+            } finally {
+                long elapsed = System.nanoTime() - startNanos;
+                methodStats.record(elapsed, ConnectionAcquireTimer.stop(outer), failed);
+            }
+        }
+
+        public void run(String method, SqlAction work) throws SQLException {
+            call(method, () -> {
+                work.run();
+                return null;
+            }, ignored -> 0);
+        }
+
+        /**
+         * Times opening the stream, which runs the query; rows are counted as the caller reads them
+         * and recorded when the stream is closed.
+         */
+        public <T> Stream<T> stream(String method, SqlCall<Stream<T>> work) throws SQLException {
+            MethodStats methodStats = stats(dao, method);
+            Stream<T> stream = call(method, work, ignored -> 0);
+            long[] read = new long[1];
+            return stream.peek(row -> read[0]++).onClose(() -> methodStats.addRows(read[0]));
+        }
+    }
+}
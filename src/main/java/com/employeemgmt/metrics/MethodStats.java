@@ -0,0 +1,119 @@
+package com.employeemgmt.metrics;
+
+import java.util.concurrent.atomic.LongAccumulator;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Call count, latency, rows and connection wait for one DAO method. Lock-free, so recording
+ * from many request threads at once does not serialize them.
+ */
+public final class MethodStats implements DaoMethodMXBean {
+
+    private final String dao;
+    private final String method;
+    private final LatencyHistogram latency = new LatencyHistogram();
+    private final LongAdder errors = new LongAdder();
+    private final LongAdder rows = new LongAdder();
+    private final LongAdder acquireNanos = new LongAdder();
+    private final LongAccumulator maxAcquireNanos = new LongAccumulator(Math::max, 0);
+
+    // Totals at the previous periodic log line, to report what happened since
+    private long loggedCalls;
+    private long loggedNanos;
+
+    MethodStats(String dao, String method) {
+        this.dao = dao;
+        this.method = method;
+    }
+
+    void record(long elapsedNanos, long connectionAcquireNanos, boolean failed) {
+        latency.record(elapsedNanos);
+        acquireNanos.add(connectionAcquireNanos);
+        maxAcquireNanos.accumulate(connectionAcquireNanos);
+        if (failed) {
+            errors.increment();
+        }
+    }
+
+    void addRows(long count) {
+        rows.add(count);
+    }
+
+    /**
+     * @return calls and nanoseconds since the previous call to this method
+     */
+    synchronized long[] sinceLastLog() {
+        long calls = latency.count();
+        long nanos = latency.totalNanos();
+        long[] delta = {calls - loggedCalls, nanos - loggedNanos};
+        loggedCalls = calls;
+        loggedNanos = nanos;
+        return delta;
+    }
+
+    @Override
+    public String getDao() {
+        return dao;
+    }
+
+    @Override
+    public String getMethod() {
+        return method;
+    }
+
+    @Override
+    public long getCalls() {
+        return latency.count();
+    }
+
+    @Override
+    public long getErrors() {
+        return errors.sum();
+    }
+
+    @Override
+    public long getRows() {
+        return rows.sum();
+    }
+
+    @Override
+    public double getMeanMillis() {
+        long calls = latency.count();
+        return calls == 0 ? 0 : millis(latency.totalNanos()) / calls;
+    }
+
+    @Override
+    public double getP50Millis() {
+        return millis(latency.percentileNanos(50));
+    }
+
+    @Override
+    public double getP95Millis() {
+        return millis(latency.percentileNanos(95));
+    }
+
+    @Override
+    public double getP99Millis() {
+        return millis(latency.percentileNanos(99));
+    }
+
+    @Override
+    public double getMaxMillis() {
+        return millis(latency.maxNanos());
+    }
+
+    @Override
+    public double getMeanConnectionAcquireMillis() {
+        long calls = latency.count();
+        return calls == 0 ? 0 : millis(acquireNanos.sum()) / calls;
+    }
+
+    @Override
+    public double getMaxConnectionAcquireMillis() {
+        return millis(maxAcquireNanos.get());
+    }
+
+    static double millis(long nanos) {
+        return nanos / 1e6;
+    }
+}
@@ -9,6 +9,10 @@ public class Payroll {
     private BigDecimal amount;
     private LocalDate payPeriodStart;
     private LocalDate payPeriodEnd;
+    private String employeeFirstName;
+    private String employeeLastName;
+    private String divisionName;
+    private String jobTitleName;
 
     public Payroll() {
     }
@@ -76,6 +80,38 @@ public class Payroll {
         this.payPeriodEnd = payPeriodEnd;
     }
 
+    public String getEmployeeFirstName() {
+        return employeeFirstName;
+    }
+
+    public void setEmployeeFirstName(String employeeFirstName) {
+        this.employeeFirstName = employeeFirstName;
+    }
+
+    public String getEmployeeLastName() {
+        return employeeLastName;
+    }
+
+    public void setEmployeeLastName(String employeeLastName) {
+        this.employeeLastName = employeeLastName;
+    }
+
+    public String getDivisionName() {
+        return divisionName;
+    }
+
+    public void setDivisionName(String divisionName) {
+        this.divisionName = divisionName;
+    }
+
+    public String getJobTitleName() {
+        return jobTitleName;
+    }
+
+    public void setJobTitleName(String jobTitleName) {
+        this.jobTitleName = jobTitleName;
+    }
+
     @Override
     public String toString() {
         return String.format("Payroll[ID: %d, Employee ID: %d, Amount: $%.2f, Period: %s to %s]",
@@ -0,0 +1,108 @@
+package com.employeemgmt.service;
+
+import com.employeemgmt.model.Employee;
+
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.stream.Stream;
+
+/**
+ * In-memory prefix index over employee first and last names.
+ * Each name is stored as a sorted key, so a prefix lookup is a range scan
+ * costing O(log n + limit) regardless of how many employees are indexed.
+ */
+public class EmployeeNameIndex {
+
+    // Separates the normalized name from the employee ID so equal names get distinct keys
+    private static final char KEY_SEPARATOR = '\u0000';
+
+    private final ConcurrentSkipListMap<String, Integer> byName = new ConcurrentSkipListMap<>();
+    private final Map<Integer, String[]> keysById = new ConcurrentHashMap<>();
+    private volatile boolean loaded;
+
+    /**
+     * Indexes every employee from the stream and marks the index as ready.
+     *
+     * @param employees all employees; the caller is responsible for closing the stream
+     */
+    public void load(Stream<Employee> employees) {
+        employees.forEach(this::put);
+        loaded = true;
+    }
+
+    public boolean isLoaded() {
+        return loaded;
+    }
+
+    public int size() {
+        return keysById.size();
+    }
+
+    /**
+     * Adds an employee or replaces the names indexed for an existing one.
+     *
+     * @param employee the employee; ignored if it has no ID yet
+     */
+    public synchronized void put(Employee employee) {
+        Integer employeeId = employee.getEmployeeId();
+        if (employeeId == null) {
+            return;
+        }
+        remove(employeeId);
+
+        String[] keys = {
+                key(employee.getFirstName(), employeeId),
+                key(employee.getLastName(), employeeId)
+        };
+        for (String key : keys) {
+            byName.put(key, employeeId);
+        }
+        keysById.put(employeeId, keys);
+    }
+
+    public synchronized void remove(int employeeId) {
+        String[] keys = keysById.remove(employeeId);
+        if (keys != null) {
+            for (String key : keys) {
+                byName.remove(key);
+            }
+        }
+    }
+
+    /**
+     * Finds employees whose first or last name starts with the prefix (case-insensitive).
+     *
+     * @param prefix the typed text
+     * @param limit  maximum number of IDs to return
+     * @return matching employee IDs in name order, without duplicates
+     */
+    public List<Integer> findByPrefix(String prefix, int limit) {
+        String normalized = normalize(prefix);
+        if (normalized.isEmpty() || limit <= 0) {
+            return List.of();
+        }
+
+        Set<Integer> matches = new LinkedHashSet<>();
+        for (Integer employeeId : byName.subMap(normalized, true, normalized + Character.MAX_VALUE, false).values()) {
+            matches.add(employeeId);
+            if (matches.size() >= limit) {
+                break;
+            }
+        }
+        return new ArrayList<>(matches);
+    }
+
+    private static String key(String name, int employeeId) {
+        return normalize(name) + KEY_SEPARATOR + employeeId;
+    }
+
+    private static String normalize(String name) {
+        return name == null ? "" : name.trim().toLowerCase(Locale.ROOT);
+    }
+}
@@ -5,7 +5,9 @@ import com.employeemgmt.dao.EmployeeDAO;
 import com.employeemgmt.dao.EmployeeDivisionDAO;
 import com.employeemgmt.dao.EmployeeJobTitleDAO;
 import com.employeemgmt.dao.JobTitleDAO;
+import com.employeemgmt.dao.Page;
 import com.employeemgmt.dao.PayrollDAO;
+import com.employeemgmt.db.DatabaseConnectionManager;
 import com.employeemgmt.model.Division;
 import com.employeemgmt.model.Employee;
 import com.employeemgmt.model.EmployeeDivision;
@@ -15,12 +17,14 @@ import com.employeemgmt.model.Payroll;
 
 import java.math.BigDecimal;
 import java.sql.SQLException;
-import java.time.LocalDate;
-import java.time.temporal.ChronoUnit;
-import java.util.HashMap;
+import java.time.YearMonth;
+import java.util.ArrayList;
+import java.util.HashSet;
 import java.util.List;
-import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.stream.Stream;
 
 public class EmployeeService {
 
@@ -30,6 +34,9 @@ public class EmployeeService {
     private final EmployeeDivisionDAO employeeDivisionDAO;
     private final EmployeeJobTitleDAO employeeJobTitleDAO;
     private final PayrollDAO payrollDAO;
+    private final EmployeeNameIndex nameIndex = new EmployeeNameIndex();
+    private final DatabaseConnectionManager dbManager = DatabaseConnectionManager.getInstance();
+    private final List<PayrollChangeListener> listeners = new CopyOnWriteArrayList<>();
 
     public EmployeeService(EmployeeDAO employeeDAO,
                            DivisionDAO divisionDAO,
@@ -45,25 +52,33 @@ public class EmployeeService {
         this.payrollDAO = payrollDAO;
     }
 
+    /**
+     * Registers a listener for committed writes that change monthly payroll totals,
+     * e.g. a report cache.
+     */
+    public void addPayrollChangeListener(PayrollChangeListener listener) {
+        listeners.add(listener);
+    }
+
     // --- Create employee ---
     public Employee addEmployee(Employee employee, int divisionId, int jobTitleId) throws SQLException {
-        // Insert the employee first to get the generated employee ID
-        Employee inserted = employeeDAO.insert(employee);
+        // Employee row and both relationships share one connection and commit together
+        Employee inserted = dbManager.inTransaction(() -> {
+            // Insert the employee first to get the generated employee ID
+            Employee created = employeeDAO.insert(employee);
 
-        if (inserted.getEmployeeId() == null) {
-            throw new SQLException("Failed to obtain generated employee ID after insert");
-        }
-
-        // Create division relationship
-        EmployeeDivision newDivision = new EmployeeDivision(inserted.getEmployeeId(), divisionId);
-        employeeDivisionDAO.insert(newDivision);
+            if (created.getEmployeeId() == null) {
+                throw new SQLException("Failed to obtain generated employee ID after insert");
+            }
 
-        // Create job title relationship
-        EmployeeJobTitle newJobTitle = new EmployeeJobTitle(inserted.getEmployeeId(), jobTitleId);
-        employeeJobTitleDAO.insert(newJobTitle);
+            employeeDivisionDAO.insert(new EmployeeDivision(created.getEmployeeId(), divisionId));
+            employeeJobTitleDAO.insert(new EmployeeJobTitle(created.getEmployeeId(), jobTitleId));
+            return created;
+        });
 
         // Enrich employee with division and job title names for immediate display
         enrichEmployeeWithDivisionAndJobTitle(inserted);
+        nameIndex.put(inserted);
 
         return inserted;
     }
@@ -71,27 +86,56 @@ public class EmployeeService {
     // --- Lookups ---
 
     public Optional<Employee> findById(int id) throws SQLException {
-        Optional<Employee> employee = employeeDAO.findById(id);
-        if (employee.isPresent()) {
-            enrichEmployeeWithDivisionAndJobTitle(employee.get());
-        }
-        return employee;
+        return employeeDAO.findByIdWithDetails(id);
     }
 
     public Optional<Employee> findBySSN(String ssn) throws SQLException {
-        Optional<Employee> employee = employeeDAO.findBySSN(ssn);
-        if (employee.isPresent()) {
-            enrichEmployeeWithDivisionAndJobTitle(employee.get());
-        }
-        return employee;
+        return employeeDAO.findBySSNWithDetails(ssn);
     }
 
     public List<Employee> findByNameFragment(String fragment) throws SQLException {
-        List<Employee> employees = employeeDAO.searchByName(fragment);
-        for (Employee employee : employees) {
-            enrichEmployeeWithDivisionAndJobTitle(employee);
+        return employeeDAO.searchByNameWithDetails(fragment);
+    }
+
+    /**
+     * One page of the name search, ordered by last name, first name and id.
+     *
+     * @param fragment  matched anywhere in the first or last name; blank lists everyone
+     * @param pageToken null for the first page, otherwise the previous page's nextToken
+     */
+    public Page<Employee> findByNameFragment(String fragment, String pageToken, int pageSize) throws SQLException {
+        return employeeDAO.searchByNameWithDetails(fragment, pageToken, pageSize);
+    }
+
+    /**
+     * The page token that starts each page of the name search after the first, for scrolling straight
+     * to the middle of a large result: element i continues after page i.
+     */
+    public List<String> findPageTokensByNameFragment(String fragment, int pageSize) throws SQLException {
+        return employeeDAO.searchByNamePageTokens(fragment, pageSize);
+    }
+
+    public int countByNameFragment(String fragment) throws SQLException {
+        return employeeDAO.countByName(fragment);
+    }
+
+    // --- Search-as-you-type ---
+
+    /**
+     * Loads every employee name into the in-memory prefix index.
+     * Until this completes, prefix searches fall back to the database.
+     */
+    public void loadNameIndex() throws SQLException {
+        try (Stream<Employee> employees = employeeDAO.streamAll()) {
+            nameIndex.load(employees);
+        }
+    }
+
+    public List<Employee> findByNamePrefix(String prefix, int limit) throws SQLException {
+        if (!nameIndex.isLoaded()) {
+            return employeeDAO.searchByNamePrefixWithDetails(prefix, limit);
         }
-        return employees;
+        return employeeDAO.findByIdsWithDetails(nameIndex.findByPrefix(prefix, limit));
     }
 
     private void enrichEmployeeWithDivisionAndJobTitle(Employee employee) throws SQLException {
@@ -99,18 +143,11 @@ public class EmployeeService {
             return;
         }
 
-        List<EmployeeDivision> employeeDivisions = employeeDivisionDAO.findByEmployeeId(employee.getEmployeeId());
-        if (!employeeDivisions.isEmpty()) {
-            EmployeeDivision empDiv = employeeDivisions.get(0);
-            Optional<Division> division = divisionDAO.findById(empDiv.getDivisionId());
-            division.ifPresent(d -> employee.setDivisionName(d.getName()));
-        }
-
-        List<EmployeeJobTitle> employeeJobTitles = employeeJobTitleDAO.findByEmployeeId(employee.getEmployeeId());
-        if (!employeeJobTitles.isEmpty()) {
-            EmployeeJobTitle empJob = employeeJobTitles.get(0);
-            Optional<JobTitle> jobTitle = jobTitleDAO.findById(empJob.getJobTitleId());
-            jobTitle.ifPresent(jt -> employee.setJobTitleName(jt.getTitle()));
+        // Single joined lookup instead of separate relationship and name queries
+        Optional<Employee> detailed = employeeDAO.findByIdWithDetails(employee.getEmployeeId());
+        if (detailed.isPresent()) {
+            employee.setDivisionName(detailed.get().getDivisionName());
+            employee.setJobTitleName(detailed.get().getJobTitleName());
         }
     }
 
@@ -121,103 +158,86 @@ public class EmployeeService {
             throw new IllegalArgumentException("Employee ID is required for update");
         }
 
-        // Update employee basic info
-        boolean updated = employeeDAO.update(employee);
+        // The loaded employee carries its current names; lookups are served from the cached DAOs.
+        // An unknown current name counts as a change.
+        String targetDivision = divisionDAO.findById(divisionId).map(Division::getName).orElse(null);
+        String targetJobTitle = jobTitleDAO.findById(jobTitleId).map(JobTitle::getTitle).orElse(null);
+        boolean divisionChanged = employee.getDivisionName() == null
+                || !employee.getDivisionName().equals(targetDivision);
+        boolean jobTitleChanged = employee.getJobTitleName() == null
+                || !employee.getJobTitleName().equals(targetJobTitle);
+        boolean regrouped = divisionChanged || jobTitleChanged;
+
+        // One transaction; a plain name or SSN edit only updates the employees row
+        boolean updated = dbManager.inTransaction(() -> {
+            if (!employeeDAO.update(employee)) {
+                return false;
+            }
+            if (divisionChanged) {
+                employeeDivisionDAO.assign(employee.getEmployeeId(), divisionId);
+            }
+            if (jobTitleChanged) {
+                employeeJobTitleDAO.assign(employee.getEmployeeId(), jobTitleId);
+            }
+            return true;
+        });
 
         if (updated) {
-            // Update division relationship
-            List<EmployeeDivision> existingDivisions = employeeDivisionDAO.findByEmployeeId(employee.getEmployeeId());
-            if (!existingDivisions.isEmpty()) {
-                // Delete existing division relationship
-                employeeDivisionDAO.delete(employee.getEmployeeId(), existingDivisions.get(0).getDivisionId());
+            employee.setDivisionName(targetDivision);
+            employee.setJobTitleName(targetJobTitle);
+            nameIndex.put(employee);
+            if (regrouped) {
+                listeners.forEach(PayrollChangeListener::payrollRegrouped);
             }
-            // Insert new division relationship
-            EmployeeDivision newDivision = new EmployeeDivision(employee.getEmployeeId(), divisionId);
-            employeeDivisionDAO.insert(newDivision);
-
-            // Update job title relationship
-            List<EmployeeJobTitle> existingJobTitles = employeeJobTitleDAO.findByEmployeeId(employee.getEmployeeId());
-            if (!existingJobTitles.isEmpty()) {
-                // Delete existing job title relationship
-                employeeJobTitleDAO.delete(employee.getEmployeeId(), existingJobTitles.get(0).getJobTitleId());
-            }
-            // Insert new job title relationship
-            EmployeeJobTitle newJobTitle = new EmployeeJobTitle(employee.getEmployeeId(), jobTitleId);
-            employeeJobTitleDAO.insert(newJobTitle);
         }
 
         return updated;
     }
 
     public boolean deleteEmployee(int employeeId) throws SQLException {
-        return employeeDAO.delete(employeeId);
+        boolean deleted = employeeDAO.delete(employeeId);
+        if (deleted) {
+            nameIndex.remove(employeeId);
+            listeners.forEach(PayrollChangeListener::payrollRegrouped);
+        }
+        return deleted;
+    }
+
+    // --- Bulk reassignment ---
+
+    public void reassignDivision(List<Integer> employeeIds, int divisionId) throws SQLException {
+        List<EmployeeDivision> assignments = new ArrayList<>(employeeIds.size());
+        for (Integer employeeId : employeeIds) {
+            assignments.add(new EmployeeDivision(employeeId, divisionId));
+        }
+        employeeDivisionDAO.assignAll(assignments);
+        listeners.forEach(PayrollChangeListener::payrollRegrouped);
+    }
+
+    public void reassignJobTitle(List<Integer> employeeIds, int jobTitleId) throws SQLException {
+        List<EmployeeJobTitle> assignments = new ArrayList<>(employeeIds.size());
+        for (Integer employeeId : employeeIds) {
+            assignments.add(new EmployeeJobTitle(employeeId, jobTitleId));
+        }
+        employeeJobTitleDAO.assignAll(assignments);
+        listeners.forEach(PayrollChangeListener::payrollRegrouped);
     }
 
     // --- Salary update in range ---
 
     public int increaseSalaryInRange(BigDecimal min, BigDecimal max, BigDecimal percentage) throws SQLException {
-        // Find all payroll records in the specified salary range
-        List<Payroll> payrollsInRange = payrollDAO.findByAmountRange(min, max);
-        
-        if (payrollsInRange.isEmpty()) {
-            return 0;
-        }
-        
-        // Group by employee and find the latest payroll entry for each employee
-        Map<Integer, Payroll> latestPayrollByEmployee = new HashMap<>();
-        for (Payroll payroll : payrollsInRange) {
-            Integer employeeId = payroll.getEmployeeId();
-            if (employeeId == null || payroll.getPayPeriodStart() == null) {
-                continue;
-            }
-            
-            Payroll existing = latestPayrollByEmployee.get(employeeId);
-            if (existing == null || 
-                (existing.getPayPeriodStart() != null &&
-                 payroll.getPayPeriodStart().isAfter(existing.getPayPeriodStart()))) {
-                latestPayrollByEmployee.put(employeeId, payroll);
-            }
+        // The latest in-range period per employee is found and extended on the server
+        // in a single INSERT ... SELECT, so the whole raise commits or fails as one unit
+        List<Payroll> raised = payrollDAO.insertRaisedNextPeriods(min, max, percentage);
+
+        Set<YearMonth> months = new HashSet<>();
+        for (Payroll payroll : raised) {
+            months.add(YearMonth.from(payroll.getPayPeriodEnd()));
         }
-        
-        // Calculate the increase factor
-        BigDecimal increaseFactor = BigDecimal.ONE.add(percentage.divide(new BigDecimal("100")));
-        int createdCount = 0;
-        
-        // Create new payroll entries for each affected employee
-        for (Map.Entry<Integer, Payroll> entry : latestPayrollByEmployee.entrySet()) {
-            Payroll latestPayroll = entry.getValue();
-            
-            if (latestPayroll.getPayPeriodStart() == null || latestPayroll.getPayPeriodEnd() == null) {
-                continue;
-            }
-            
-            // Calculate next pay period
-            // Start date is the day after the last period ends (to avoid overlap)
-            LocalDate nextPeriodStart = latestPayroll.getPayPeriodEnd().plusDays(1);
-            
-            // Calculate the duration of the last period (inclusive of both endpoints)
-            // ChronoUnit.DAYS.between() returns exclusive count, so add 1 for inclusive duration
-            long daysBetween = ChronoUnit.DAYS.between(latestPayroll.getPayPeriodStart(), latestPayroll.getPayPeriodEnd()) + 1;
-            
-            // End date is start + same duration (inclusive) - subtract 1 because both start and end are inclusive
-            LocalDate nextPeriodEnd = nextPeriodStart.plusDays(daysBetween - 1);
-            
-            // Calculate new amount with increase
-            BigDecimal newAmount = latestPayroll.getAmount().multiply(increaseFactor);
-            
-            // Create new payroll entry
-            Payroll newPayroll = new Payroll(
-                entry.getKey(),  // employeeId
-                newAmount,
-                nextPeriodStart,
-                nextPeriodEnd
-            );
-            
-            payrollDAO.insert(newPayroll);
-            createdCount++;
+        if (!months.isEmpty()) {
+            listeners.forEach(listener -> listener.payrollMonthsChanged(months));
         }
-        
-        return createdCount;
+        return raised.size();
     }
 
     // --- For UI dropdowns ---
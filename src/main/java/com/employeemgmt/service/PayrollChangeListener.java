@@ -0,0 +1,21 @@
+package com.employeemgmt.service;
+
+import java.time.YearMonth;
+import java.util.Set;
+
+/**
+ * Notified by EmployeeService after a committed write changes monthly payroll totals.
+ */
+public interface PayrollChangeListener {
+
+    /**
+     * Payroll rows whose pay period ends in these months were added, changed or removed.
+     */
+    void payrollMonthsChanged(Set<YearMonth> months);
+
+    /**
+     * Pay moved between divisions or job titles, or left with a deleted employee,
+     * in months that are not known individually.
+     */
+    void payrollRegrouped();
+}
@@ -0,0 +1,106 @@
+package com.employeemgmt.service;
+
+import java.math.BigDecimal;
+import java.sql.SQLException;
+import java.time.YearMonth;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Bounded LRU cache of monthly report totals, keyed by report type and month.
+ * Entries live until evicted, until a write through this process touching their month
+ * invalidates them, or until the optional TTL expires. Writes this process does not see,
+ * such as another app or API server on the same database, DatasetGenerator or
+ * PayrollSummaryRebuild, show up once the TTL has passed.
+ * Cached maps are unmodifiable so callers cannot alter each other's results.
+ */
+final class ReportCache {
+
+    enum ReportType {
+        TOTAL_PAY_BY_JOB_TITLE,
+        TOTAL_PAY_BY_DIVISION
+    }
+
+    @FunctionalInterface
+    interface Loader {
+        Map<String, BigDecimal> load() throws SQLException;
+    }
+
+    private record Key(ReportType type, YearMonth month) {
+    }
+
+    private record Entry(Map<String, BigDecimal> totals, long loadedAt) {
+    }
+
+    private final Map<Key, Entry> entries;
+    private final long ttlMillis;
+    private final AtomicLong hits = new AtomicLong();
+    private final AtomicLong misses = new AtomicLong();
+
+    // Bumped by every invalidation so a load that raced with a write is not cached
+    private long generation;
+
+    /**
+     * @param ttlMillis how long loaded totals stay valid; 0 or less means until invalidated
+     */
+    ReportCache(int maxEntries, long ttlMillis) {
+        this.ttlMillis = ttlMillis;
+        this.entries = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<Key, Entry> eldest) {
+                return size() > maxEntries;
+            }
+        };
+    }
+
+    Map<String, BigDecimal> get(ReportType type, YearMonth month, Loader loader) throws SQLException {
+        Key key = new Key(type, month);
+        long loadGeneration;
+
+        synchronized (this) {
+            Entry cached = entries.get(key);
+            if (cached != null && !isExpired(cached)) {
+                hits.incrementAndGet();
+                return cached.totals();
+            }
+            loadGeneration = generation;
+        }
+
+        misses.incrementAndGet();
+        long loadedAt = System.currentTimeMillis();
+        Map<String, BigDecimal> loaded = Collections.unmodifiableMap(new LinkedHashMap<>(loader.load()));
+
+        synchronized (this) {
+            if (generation == loadGeneration) {
+                entries.put(key, new Entry(loaded, loadedAt));
+            }
+        }
+        return loaded;
+    }
+
+    // Aged from when the load started, so the TTL bounds how stale a served total can be
+    private boolean isExpired(Entry entry) {
+        return ttlMillis > 0 && System.currentTimeMillis() - entry.loadedAt() > ttlMillis;
+    }
+
+    synchronized void invalidate(Collection<YearMonth> months) {
+        generation++;
+        entries.keySet().removeIf(key -> months.contains(key.month()));
+    }
+
+    synchronized void invalidateAll() {
+        generation++;
+        entries.clear();
+    }
+
+    long getHitCount() {
+        return hits.get();
+    }
+
+    long getMissCount() {
+        return misses.get();
+    }
+}
@@ -5,32 +5,26 @@ import com.employeemgmt.model.*;
 
 import java.math.BigDecimal;
 import java.sql.SQLException;
-import java.time.LocalDate;
+import java.time.YearMonth;
 import java.util.*;
-import java.util.stream.Collectors;
+import java.util.stream.Stream;
 import com.employeemgmt.ui.ReportRow;
 
-public class ReportService {
+public class ReportService implements PayrollChangeListener {
+
+    // Two totals reports for two years of months
+    private static final int REPORT_CACHE_MAX_ENTRIES = 48;
+    // Bounds staleness from payroll writes made outside this process
+    private static final long REPORT_CACHE_TTL_MS = 60 * 1000;
 
     private final EmployeeDAO employeeDAO;
-    private final DivisionDAO divisionDAO;
-    private final JobTitleDAO jobTitleDAO;
     private final PayrollDAO payrollDAO;
-    private final EmployeeDivisionDAO employeeDivisionDAO;
-    private final EmployeeJobTitleDAO employeeJobTitleDAO;
+    private final ReportCache reportCache = new ReportCache(REPORT_CACHE_MAX_ENTRIES, REPORT_CACHE_TTL_MS);
 
     public ReportService(EmployeeDAO employeeDAO,
-                         DivisionDAO divisionDAO,
-                         JobTitleDAO jobTitleDAO,
-                         PayrollDAO payrollDAO,
-                         EmployeeDivisionDAO employeeDivisionDAO,
-                         EmployeeJobTitleDAO employeeJobTitleDAO) {
+                         PayrollDAO payrollDAO) {
         this.employeeDAO = employeeDAO;
-        this.divisionDAO = divisionDAO;
-        this.jobTitleDAO = jobTitleDAO;
         this.payrollDAO = payrollDAO;
-        this.employeeDivisionDAO = employeeDivisionDAO;
-        this.employeeJobTitleDAO = employeeJobTitleDAO;
     }
 
     // --------------------------------------------------------------------
@@ -45,21 +39,25 @@ public class ReportService {
         return payrollDAO.findByEmployeeId(employeeId);
     }
 
-    // --------------------------------------------------------------------
-    // Helpers: filter payrolls for a specific month
-    // --------------------------------------------------------------------
+    /**
+     * One page of an employee's pay history, newest pay period first.
+     *
+     * @param pageToken null for the first page, otherwise the previous page's nextToken
+     */
+    public Page<Payroll> getPayHistoryForEmployee(int employeeId, String pageToken, int pageSize) throws SQLException {
+        return payrollDAO.findByEmployeeId(employeeId, pageToken, pageSize);
+    }
 
-    private List<Payroll> getPayrollsForMonth(int year, int month) throws SQLException {
-        List<Payroll> all = payrollDAO.findAll();
-
-        return all.stream()
-                .filter(p -> {
-                    LocalDate date = p.getPayPeriodEnd(); // or getPayPeriodStart()
-                    return date != null
-                            && date.getYear() == year
-                            && date.getMonthValue() == month;
-                })
-                .collect(Collectors.toList());
+    /**
+     * The page token that starts each page of an employee's pay history after the first:
+     * element i continues after page i.
+     */
+    public List<String> getPayHistoryPageTokens(int employeeId, int pageSize) throws SQLException {
+        return payrollDAO.findPageTokensByEmployeeId(employeeId, pageSize);
+    }
+
+    public int countPayHistoryForEmployee(int employeeId) throws SQLException {
+        return payrollDAO.countByEmployeeId(employeeId);
     }
 
     // --------------------------------------------------------------------
@@ -67,164 +65,72 @@ public class ReportService {
     // --------------------------------------------------------------------
 
     public Map<String, BigDecimal> getTotalPayByJobTitle(int year, int month) throws SQLException {
-        List<Payroll> payrolls = getPayrollsForMonth(year, month);
-
-        // empId -> jobTitleId from EmployeeJobTitle
-        Map<Integer, Integer> empToJobTitleId = employeeJobTitleDAO.findAll()
-                .stream()
-                .collect(Collectors.toMap(
-                        EmployeeJobTitle::getEmployeeId,
-                        EmployeeJobTitle::getJobTitleId
-                ));
-
-        // jobTitleId -> JobTitle
-        Map<Integer, JobTitle> jobTitleMap = jobTitleDAO.findAll()
-                .stream()
-                .collect(Collectors.toMap(JobTitle::getJobTitleId, jt -> jt));
-
-        Map<String, BigDecimal> totals = new HashMap<>();
-
-        for (Payroll p : payrolls) {
-            int empId = p.getEmployeeId();
-            Integer jobTitleId = empToJobTitleId.get(empId);
-            if (jobTitleId == null) {
-                continue;
-            }
-
-            JobTitle jobTitle = jobTitleMap.get(jobTitleId);
-            if (jobTitle == null) {
-                continue;
-            }
-
-            String titleName = jobTitle.getTitle();
-            totals.merge(titleName, p.getAmount(), BigDecimal::add);
-        }
-
-        return totals;
+        return reportCache.get(ReportCache.ReportType.TOTAL_PAY_BY_JOB_TITLE, YearMonth.of(year, month),
+                () -> payrollDAO.findMonthlyTotalsByJobTitle(year, month));
     }
 
     /**
      * Employee FTE info + pay history for a given month.
-     * One row per payroll entry for that month, with employee/division/job metadata.
+     * One row per payroll entry for that month, with employee/division/job metadata,
+     * read in one joined query over that month's payroll only.
      */
     public List<ReportRow> getEmployeePayForMonth(int year, int month) throws SQLException {
-        List<Payroll> payrolls = getPayrollsForMonth(year, month);
-
-        Map<Integer, Employee> employeeMap = employeeDAO.findAll()
-                .stream()
-                .collect(Collectors.toMap(Employee::getEmployeeId, e -> e));
-
-        Map<Integer, Integer> empToDivisionId = employeeDivisionDAO.findAll()
-                .stream()
-                .collect(Collectors.toMap(
-                        EmployeeDivision::getEmployeeId,
-                        EmployeeDivision::getDivisionId
-                ));
-
-        Map<Integer, Division> divisionMap = divisionDAO.findAll()
-                .stream()
-                .collect(Collectors.toMap(Division::getDivisionId, d -> d));
-
-        Map<Integer, Integer> empToJobTitleId = employeeJobTitleDAO.findAll()
-                .stream()
-                .collect(Collectors.toMap(
-                        EmployeeJobTitle::getEmployeeId,
-                        EmployeeJobTitle::getJobTitleId
-                ));
-
-        Map<Integer, JobTitle> jobTitleMap = jobTitleDAO.findAll()
-                .stream()
-                .collect(Collectors.toMap(JobTitle::getJobTitleId, jt -> jt));
-
-        List<ReportRow> rows = new ArrayList<>();
-
-        for (Payroll p : payrolls) {
-            Integer empId = p.getEmployeeId();
-            if (empId == null) {
-                continue;
-            }
-
-            Employee emp = employeeMap.get(empId);
-            String employeeName;
-            if (emp != null) {
-                employeeName = String.format("%s %s",
-                        emp.getFirstName() != null ? emp.getFirstName() : "",
-                        emp.getLastName() != null ? emp.getLastName() : "").trim();
-            } else {
-                employeeName = "Employee #" + empId;
-            }
-
-            String divisionName = "";
-            Integer divId = empToDivisionId.get(empId);
-            if (divId != null) {
-                Division d = divisionMap.get(divId);
-                if (d != null && d.getName() != null) {
-                    divisionName = d.getName();
-                }
-            }
-
-            String jobTitleName = "";
-            Integer jobId = empToJobTitleId.get(empId);
-            if (jobId != null) {
-                JobTitle jt = jobTitleMap.get(jobId);
-                if (jt != null && jt.getTitle() != null) {
-                    jobTitleName = jt.getTitle();
-                }
-            }
-
-            ReportRow row = new ReportRow();
-            row.setEmployeeId(empId);
-            row.setEmployeeName(employeeName);
-            row.setDivisionName(divisionName);
-            row.setJobTitle(jobTitleName);
-            row.setPayPeriodStart(p.getPayPeriodStart());
-            row.setPayPeriodEnd(p.getPayPeriodEnd());
-            row.setAmount(p.getAmount());
-
-            rows.add(row);
+        YearMonth ym = YearMonth.of(year, month);
+        try (Stream<Payroll> payrolls = payrollDAO.streamByPayPeriodEndBetweenWithDetails(
+                ym.atDay(1), ym.atEndOfMonth())) {
+            return payrolls.map(ReportService::toReportRow).toList();
         }
-        return rows;
     }
 
+    private static ReportRow toReportRow(Payroll p) {
+        String employeeName;
+        if (p.getEmployeeFirstName() != null || p.getEmployeeLastName() != null) {
+            employeeName = String.format("%s %s",
+                    p.getEmployeeFirstName() != null ? p.getEmployeeFirstName() : "",
+                    p.getEmployeeLastName() != null ? p.getEmployeeLastName() : "").trim();
+        } else {
+            employeeName = "Employee #" + p.getEmployeeId();
+        }
+
+        ReportRow row = new ReportRow();
+        row.setEmployeeId(p.getEmployeeId());
+        row.setEmployeeName(employeeName);
+        row.setDivisionName(p.getDivisionName() != null ? p.getDivisionName() : "");
+        row.setJobTitle(p.getJobTitleName() != null ? p.getJobTitleName() : "");
+        row.setPayPeriodStart(p.getPayPeriodStart());
+        row.setPayPeriodEnd(p.getPayPeriodEnd());
+        row.setAmount(p.getAmount());
+        return row;
+    }
 
     // --------------------------------------------------------------------
     // 3) Total pay by Division (for a month)
     // --------------------------------------------------------------------
 
     public Map<String, BigDecimal> getTotalPayByDivision(int year, int month) throws SQLException {
-        List<Payroll> payrolls = getPayrollsForMonth(year, month);
-
-        // empId -> divisionId from EmployeeDivision
-        Map<Integer, Integer> empToDivisionId = employeeDivisionDAO.findAll()
-                .stream()
-                .collect(Collectors.toMap(
-                        EmployeeDivision::getEmployeeId,
-                        EmployeeDivision::getDivisionId
-                ));
-
-        // divisionId -> Division
-        Map<Integer, Division> divisionMap = divisionDAO.findAll()
-                .stream()
-                .collect(Collectors.toMap(Division::getDivisionId, d -> d));
-
-        Map<String, BigDecimal> totals = new HashMap<>();
-
-        for (Payroll p : payrolls) {
-            int empId = p.getEmployeeId();
-            Integer divisionId = empToDivisionId.get(empId);
-            if (divisionId == null) {
-                continue;
-            }
-
-            Division division = divisionMap.get(divisionId);
-            if (division == null) {
-                continue;
-            }
-
-            String divisionName = division.getName();
-            totals.merge(divisionName, p.getAmount(), BigDecimal::add);
-        }
+        return reportCache.get(ReportCache.ReportType.TOTAL_PAY_BY_DIVISION, YearMonth.of(year, month),
+                () -> payrollDAO.findMonthlyTotalsByDivision(year, month));
+    }
+
+    // --------------------------------------------------------------------
+    // Report cache invalidation and statistics
+    // --------------------------------------------------------------------
+
+    @Override
+    public void payrollMonthsChanged(Set<YearMonth> months) {
+        reportCache.invalidate(months);
+    }
+
+    @Override
+    public void payrollRegrouped() {
+        reportCache.invalidateAll();
+    }
+
+    public long getReportCacheHitCount() {
+        return reportCache.getHitCount();
+    }
 
-        return totals;
+    public long getReportCacheMissCount() {
+        return reportCache.getMissCount();
     }
 }
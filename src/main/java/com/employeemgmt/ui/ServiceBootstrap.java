@@ -0,0 +1,159 @@
+package com.employeemgmt.ui;
+
+import com.employeemgmt.dao.*;
+import com.employeemgmt.db.DatabaseConnectionManager;
+import com.employeemgmt.db.DatabaseInit;
+import com.employeemgmt.metrics.DaoMetrics;
+import com.employeemgmt.service.EmployeeService;
+import com.employeemgmt.service.ReportService;
+import com.employeemgmt.ui.fx.controller.ServiceRegistry;
+
+import java.sql.SQLException;
+
+/**
+ * Builds the DAO and service layers and registers them in ServiceRegistry.
+ * Shared by the JavaFX App and the headless api.ApiServer so both run the same wiring.
+ */
+public final class ServiceBootstrap {
+
+    // Upper bound on how stale cached lookups can get if another client edits them
+    private static final long LOOKUP_CACHE_TTL_MS = 5 * 60 * 1000;
+
+    // "true" wraps every DAO in a Metered*DAO; the log interval is in seconds, 0 for JMX only
+    private static final String DAO_METRICS = "DAO_METRICS";
+    private static final String DAO_METRICS_LOG_SECONDS = "DAO_METRICS_LOG_SECONDS";
+    private static final long DEFAULT_DAO_METRICS_LOG_SECONDS = 60;
+
+    private static volatile DaoMetrics daoMetrics;
+
+    private ServiceBootstrap() {
+    }
+
+    public static void init() {
+        initDatabase();
+        initServices();
+    }
+
+    /**
+     * Applies pending schema migrations and loads sample data into a new database.
+     * Failures are reported but do not stop startup.
+     */
+    public static void initDatabase() {
+        System.out.println("Checking database initialization...");
+        DatabaseInit dbInit = new DatabaseInit();
+        if (dbInit.initializeIfNeeded()) {
+            System.out.println("Database ready.");
+        } else {
+            System.err.println("Warning: Database initialization had issues, but continuing...");
+        }
+    }
+
+    /**
+     * Wires DAOs and services against an already initialized database.
+     * Tools that prepare their own database (e.g. the load generator) call this directly.
+     * Setting DAO_METRICS=true instruments every DAO, see {@link #initServices(DaoMetrics)}.
+     */
+    public static void initServices() {
+        String enabled = setting(DAO_METRICS);
+        DaoMetrics metrics = null;
+        if (enabled != null && enabled.trim().equalsIgnoreCase("true")) {
+            metrics = new DaoMetrics();
+            metrics.startPeriodicLog(logSeconds());
+        }
+        initServices(metrics);
+    }
+
+    /**
+     * @param metrics records every DAO call, published over JMX; null leaves the DAOs uninstrumented
+     */
+    public static void initServices(DaoMetrics metrics) {
+        daoMetrics = metrics;
+
+        // Build DAO layer (your existing backend)
+        EmployeeDAO employeeDAO = new EmployeeDAOImpl();
+        DivisionDAO divisionStore = new DivisionDAOImpl();
+        JobTitleDAO jobTitleStore = new JobTitleDAOImpl();
+        PayrollDAO payrollDAO = new PayrollDAOImpl();
+        EmployeeDivisionDAO employeeDivisionDAO = new EmployeeDivisionDAOImpl();
+        EmployeeJobTitleDAO employeeJobTitleDAO = new EmployeeJobTitleDAOImpl();
+
+        if (metrics != null) {
+            DatabaseConnectionManager db = DatabaseConnectionManager.getInstance();
+            metrics.registerCache("StatementCache",
+                    () -> db.getStatementCacheStats().hits(), () -> db.getStatementCacheStats().misses());
+            employeeDAO = new MeteredEmployeeDAO(employeeDAO, metrics);
+            divisionStore = new MeteredDivisionDAO(divisionStore, metrics);
+            jobTitleStore = new MeteredJobTitleDAO(jobTitleStore, metrics);
+            payrollDAO = new MeteredPayrollDAO(payrollDAO, metrics);
+            employeeDivisionDAO = new MeteredEmployeeDivisionDAO(employeeDivisionDAO, metrics);
+            employeeJobTitleDAO = new MeteredEmployeeJobTitleDAO(employeeJobTitleDAO, metrics);
+        }
+
+        // Division and job title tables are tiny and rarely change, so serve them from memory.
+        // The caches sit outside the metrics so only calls that reach the database are counted.
+        DivisionDAO divisionDAO = new CachingDivisionDAO(divisionStore, LOOKUP_CACHE_TTL_MS);
+        JobTitleDAO jobTitleDAO = new CachingJobTitleDAO(jobTitleStore, LOOKUP_CACHE_TTL_MS);
+
+        // Build services
+        EmployeeService employeeService = new EmployeeService(
+                employeeDAO,
+                divisionDAO,
+                jobTitleDAO,
+                employeeDivisionDAO,
+                employeeJobTitleDAO,
+                payrollDAO
+        );
+
+        ReportService reportService = new ReportService(
+                employeeDAO,
+                payrollDAO
+        );
+
+        if (metrics != null) {
+            metrics.registerCache("ReportCache",
+                    reportService::getReportCacheHitCount, reportService::getReportCacheMissCount);
+        }
+
+        // Cached report totals are dropped when employee writes change the months they cover
+        employeeService.addPayrollChangeListener(reportService);
+
+        // Register them for controllers to use
+        ServiceRegistry.init(employeeService, reportService);
+
+        // Build the search-as-you-type name index without delaying startup
+        Thread indexLoader = new Thread(() -> {
+            try {
+                employeeService.loadNameIndex();
+            } catch (SQLException e) {
+                System.err.println("Warning: Failed to load employee name index: " + e.getMessage());
+            }
+        }, "name-index-loader");
+        indexLoader.setDaemon(true);
+        indexLoader.start();
+    }
+
+    /**
+     * @return the metrics the services were wired with, or null when DAO metrics are off
+     */
+    public static DaoMetrics getDaoMetrics() {
+        return daoMetrics;
+    }
+
+    private static long logSeconds() {
+        String value = setting(DAO_METRICS_LOG_SECONDS);
+        if (value == null || value.isBlank()) {
+            return DEFAULT_DAO_METRICS_LOG_SECONDS;
+        }
+        try {
+            return Long.parseLong(value.trim());
+        } catch (NumberFormatException e) {
+            System.err.println("Warning: ignoring non-numeric " + DAO_METRICS_LOG_SECONDS + "=" + value);
+            return DEFAULT_DAO_METRICS_LOG_SECONDS;
+        }
+    }
+
+    // System property first, then environment variable
+    private static String setting(String name) {
+        return System.getProperty(name, System.getenv(name));
+    }
+}
@@ -0,0 +1,188 @@
+package com.employeemgmt.ui;
+
+import com.employeemgmt.db.DatabaseConnectionManager;
+import com.employeemgmt.ui.fx.controller.NavigationManager;
+import com.employeemgmt.ui.fx.controller.ServiceRegistry;
+import javafx.application.Platform;
+import javafx.scene.Scene;
+import javafx.stage.Stage;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.lang.management.ManagementFactory;
+import java.sql.SQLException;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.StringJoiner;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Starts the desktop app in stages so the window appears before the database is ready.
+ *
+ * The FX thread only puts up a splash screen. Three background chains then run at once:
+ * database initialization followed by service wiring and a lookup prefetch, connection pool
+ * warm-up, and building the main menu from FXML. When all three finish the main menu replaces
+ * the splash screen, and the other screens are preloaded in the background.
+ *
+ * Time to first frame and time to interactive are logged in milliseconds since JVM start,
+ * with the duration of each stage, so cold-start regressions show up in the console.
+ */
+final class StartupSequence {
+
+    private static final int THREADS = 3;
+    // Set to false to load screens on first visit instead of in the background after startup
+    private static final String PRELOAD_SCREENS = "APP_PRELOAD_SCREENS";
+
+    private final Stage stage;
+    private final long jvmStartMillis = ManagementFactory.getRuntimeMXBean().getStartTime();
+    private final Map<String, Long> stageMillis = Collections.synchronizedMap(new LinkedHashMap<>());
+
+    StartupSequence(Stage stage) {
+        this.stage = stage;
+    }
+
+    /**
+     * Shows the splash screen and starts the background stages. Must be called on the FX thread.
+     */
+    void start() {
+        NavigationManager.showSplash(stage);
+        logFirstFrame(stage.getScene());
+
+        ExecutorService executor = Executors.newFixedThreadPool(THREADS, daemonThreadFactory());
+
+        CompletableFuture<Void> services = CompletableFuture
+                .runAsync(() -> {
+                    status("Preparing database...");
+                    timed("database", ServiceBootstrap::initDatabase);
+                    status("Loading services...");
+                    timed("services", ServiceBootstrap::initServices);
+                    timed("lookups", StartupSequence::prefetchLookups);
+                }, executor);
+
+        CompletableFuture<Void> pool = CompletableFuture
+                .runAsync(() -> timed("pool warm-up", StartupSequence::warmUpPool), executor);
+
+        CompletableFuture<Void> mainMenu = CompletableFuture
+                .runAsync(() -> {
+                    long startNanos = System.nanoTime();
+                    try {
+                        NavigationManager.preloadMainMenu();
+                    } catch (IOException e) {
+                        throw new UncheckedIOException(e);
+                    } finally {
+                        stageMillis.put("main menu", elapsedMillis(startNanos));
+                    }
+                }, executor);
+
+        CompletableFuture.allOf(services, pool, mainMenu).whenComplete((ignored, failure) -> {
+            executor.shutdown();
+            Platform.runLater(() -> finish(failure));
+        });
+    }
+
+    private void finish(Throwable failure) {
+        if (failure != null) {
+            Throwable cause = failure instanceof CompletionException && failure.getCause() != null
+                    ? failure.getCause() : failure;
+            NavigationManager.error("Startup step failed", cause instanceof Exception e ? e : new Exception(cause));
+        }
+
+        // Served from the screen cache unless the preload failed
+        NavigationManager.showMainMenu();
+        stage.sizeToScene();
+        stage.centerOnScreen();
+
+        StringJoiner stages = new StringJoiner(", ", " (", ")");
+        synchronized (stageMillis) {
+            stageMillis.forEach((name, millis) -> stages.add(name + " " + millis + " ms"));
+        }
+        System.out.println("Startup: interactive after " + sinceJvmStart() + " ms" + stages);
+
+        // System property first, then environment variable
+        String preload = System.getProperty(PRELOAD_SCREENS, System.getenv(PRELOAD_SCREENS));
+        if (preload == null || !preload.trim().equalsIgnoreCase("false")) {
+            preloadScreens();
+        }
+    }
+
+    // Loads the remaining screens while the user looks at the main menu, so the first visit to each is instant
+    private static void preloadScreens() {
+        Thread preloader = new Thread(() -> {
+            long startNanos = System.nanoTime();
+            int loaded = NavigationManager.preloadScreens();
+            System.out.println("Startup: preloaded " + loaded + " screens in " + elapsedMillis(startNanos) + " ms");
+        }, "screen-preloader");
+        preloader.setDaemon(true);
+        preloader.start();
+    }
+
+    /**
+     * Logs the first pulse that lays out the splash scene, i.e. the first frame on screen.
+     */
+    private void logFirstFrame(Scene splash) {
+        AtomicBoolean logged = new AtomicBoolean();
+        Runnable[] listener = new Runnable[1];
+        listener[0] = () -> {
+            if (logged.compareAndSet(false, true)) {
+                System.out.println("Startup: first frame after " + sinceJvmStart() + " ms");
+                Platform.runLater(() -> splash.removePostLayoutPulseListener(listener[0]));
+            }
+        };
+        splash.addPostLayoutPulseListener(listener[0]);
+    }
+
+    // Fills the lookup caches so the first form that needs divisions and job titles opens without a query
+    private static void prefetchLookups() {
+        try {
+            ServiceRegistry.employees().getAllDivisions();
+            ServiceRegistry.employees().getAllJobTitles();
+        } catch (SQLException e) {
+            System.err.println("Warning: Failed to prefetch divisions and job titles: " + e.getMessage());
+        }
+    }
+
+    private static void warmUpPool() {
+        try {
+            DatabaseConnectionManager.getInstance().warmUp();
+        } catch (SQLException e) {
+            System.err.println("Warning: Failed to warm up connection pool: " + e.getMessage());
+        }
+    }
+
+    private void timed(String name, Runnable step) {
+        long startNanos = System.nanoTime();
+        try {
+            step.run();
+        } finally {
+            stageMillis.put(name, elapsedMillis(startNanos));
+        }
+    }
+
+    private static void status(String text) {
+        Platform.runLater(() -> NavigationManager.showStartupStatus(text));
+    }
+
+    private long sinceJvmStart() {
+        return System.currentTimeMillis() - jvmStartMillis;
+    }
+
+    private static long elapsedMillis(long startNanos) {
+        return (System.nanoTime() - startNanos) / 1_000_000;
+    }
+
+    private static ThreadFactory daemonThreadFactory() {
+        AtomicInteger counter = new AtomicInteger();
+        return runnable -> {
+            Thread thread = new Thread(runnable, "startup-" + counter.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        };
+    }
+}
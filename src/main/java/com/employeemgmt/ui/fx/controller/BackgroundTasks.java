@@ -0,0 +1,63 @@
+package com.employeemgmt.ui.fx.controller;
+
+import java.util.concurrent.Callable;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import javafx.concurrent.Task;
+
+/**
+ * Shared executor that runs controller service calls off the JavaFX Application Thread.
+ * Task state changes and handlers are delivered back on the FX thread by javafx.concurrent.
+ */
+public final class BackgroundTasks {
+
+    private static final ExecutorService DEFAULT_EXECUTOR = Executors.newCachedThreadPool(daemonThreadFactory());
+
+    private static volatile Executor executor = DEFAULT_EXECUTOR;
+
+    private BackgroundTasks() {
+    }
+
+    /**
+     * Replaces the executor used for new tasks. Tests can pass {@code Runnable::run}
+     * so the service call completes before the triggering handler returns.
+     *
+     * @param newExecutor the executor to use, or null to restore the default pool
+     */
+    public static void setExecutor(Executor newExecutor) {
+        executor = newExecutor != null ? newExecutor : DEFAULT_EXECUTOR;
+    }
+
+    /**
+     * Stops the default pool; called when the application exits.
+     */
+    public static void shutdown() {
+        DEFAULT_EXECUTOR.shutdownNow();
+    }
+
+    static <T> Task<T> newTask(Callable<T> work) {
+        return new Task<>() {
+            @Override
+            protected T call() throws Exception {
+                return work.call();
+            }
+        };
+    }
+
+    static void execute(Task<?> task) {
+        executor.execute(task);
+    }
+
+    private static ThreadFactory daemonThreadFactory() {
+        AtomicInteger counter = new AtomicInteger();
+        return runnable -> {
+            Thread thread = new Thread(runnable, "fx-background-" + counter.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        };
+    }
+}
@@ -1,10 +1,36 @@
 package com.employeemgmt.ui.fx.controller;
 
+import java.util.Map;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Consumer;
+
 import javafx.application.Platform;
+import javafx.concurrent.Task;
+import javafx.scene.Node;
 import javafx.scene.control.Alert;
 
 public abstract class BaseController {
 
+    // Latest background request per key; older ones are cancelled when superseded
+    private final Map<String, Task<?>> inFlight = new ConcurrentHashMap<>();
+
+    /**
+     * Called when NavigationManager shows this controller's cached screen again. initialize()
+     * runs only once per screen, so anything a visit changes (input, results, selections)
+     * goes back to its initial state here.
+     */
+    protected void reset() {
+    }
+
+    // Background calls from the previous visit must not write into the reset screen
+    final void reuse() {
+        for (Task<?> task : inFlight.values()) {
+            task.cancel(true);
+        }
+        reset();
+    }
+
     protected void info(String msg){
         Platform.runLater(() -> {
             Alert a = new Alert(Alert.AlertType.INFORMATION);
@@ -21,4 +47,65 @@ public abstract class BaseController {
             a.show();
         });
     }
-}
\ No newline at end of file
+
+    /**
+     * Runs a blocking service call on the background executor and delivers the result
+     * on the FX thread. Starting a new call with the same key cancels the one still in
+     * flight, and only the latest call's result or error is reported.
+     *
+     * @param key            identifies the kind of request, e.g. "search"
+     * @param busyIndicator  node shown while the call runs; may be null
+     * @param work           the service call
+     * @param onSuccess      receives the result on the FX thread
+     * @param failureMessage shown if the call throws
+     */
+    protected <T> void runInBackground(String key, Node busyIndicator, Callable<T> work,
+                                       Consumer<T> onSuccess, String failureMessage) {
+        runInBackground(key, busyIndicator, work, onSuccess, failureMessage, () -> { });
+    }
+
+    /**
+     * As above, also running onFailure on the FX thread after the error is reported, e.g. to
+     * re-enable a button that was disabled while the call ran.
+     */
+    protected <T> void runInBackground(String key, Node busyIndicator, Callable<T> work,
+                                       Consumer<T> onSuccess, String failureMessage, Runnable onFailure) {
+        Task<T> task = BackgroundTasks.newTask(work);
+
+        Task<?> superseded = inFlight.put(key, task);
+        if (superseded != null) {
+            superseded.cancel(true);
+        }
+        setBusy(busyIndicator, true);
+
+        task.setOnSucceeded(event -> {
+            if (finish(key, task, busyIndicator)) {
+                onSuccess.accept(task.getValue());
+            }
+        });
+        task.setOnFailed(event -> {
+            if (finish(key, task, busyIndicator)) {
+                Throwable cause = task.getException();
+                error(failureMessage, cause instanceof Exception ex ? ex : new Exception(cause));
+                onFailure.run();
+            }
+        });
+        task.setOnCancelled(event -> finish(key, task, busyIndicator));
+
+        BackgroundTasks.execute(task);
+    }
+
+    private boolean finish(String key, Task<?> task, Node busyIndicator) {
+        boolean current = inFlight.remove(key, task);
+        if (current) {
+            setBusy(busyIndicator, false);
+        }
+        return current;
+    }
+
+    private static void setBusy(Node busyIndicator, boolean busy) {
+        if (busyIndicator != null) {
+            busyIndicator.setVisible(busy);
+        }
+    }
+}
@@ -0,0 +1,40 @@
+package com.employeemgmt.ui.fx.controller;
+
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+
+import javafx.application.Platform;
+
+/**
+ * Runs an action on the FX thread once input has been quiet for a fixed delay.
+ * Each new call to schedule() restarts the delay.
+ */
+final class Debouncer {
+
+    private static final ScheduledExecutorService SCHEDULER = Executors.newSingleThreadScheduledExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "fx-debounce");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    private final long delayMs;
+    private ScheduledFuture<?> pending;
+
+    Debouncer(long delayMs) {
+        this.delayMs = delayMs;
+    }
+
+    synchronized void schedule(Runnable fxAction) {
+        cancel();
+        pending = SCHEDULER.schedule(() -> Platform.runLater(fxAction), delayMs, TimeUnit.MILLISECONDS);
+    }
+
+    synchronized void cancel() {
+        if (pending != null) {
+            pending.cancel(false);
+            pending = null;
+        }
+    }
+}
@@ -41,8 +41,7 @@ public class EditEmployeeController extends BaseController {
 
         // Initialize division and job title combo boxes
         try {
-            cmbDivision.setItems(FXCollections.observableList(ServiceRegistry.employees().getAllDivisions()));
-            cmbJob.setItems(FXCollections.observableList(ServiceRegistry.employees().getAllJobTitles()));
+            loadLookups();
 
             // Set custom cell factories to display only the name/title
             cmbDivision.setButtonCell(new javafx.scene.control.ListCell<Division>() {
@@ -101,6 +100,23 @@ public class EditEmployeeController extends BaseController {
         btnDelete.setDisable(true);
     }
 
+    @Override
+    protected void reset() {
+        clearForm();
+        cmbMode.getSelectionModel().select("Name");
+        // Served from the lookup cache, so this picks up new divisions and job titles without a query
+        try {
+            loadLookups();
+        } catch (SQLException e) {
+            error("Failed loading lookups", e);
+        }
+    }
+
+    private void loadLookups() throws SQLException {
+        cmbDivision.setItems(FXCollections.observableList(ServiceRegistry.employees().getAllDivisions()));
+        cmbJob.setItems(FXCollections.observableList(ServiceRegistry.employees().getAllJobTitles()));
+    }
+
     @FXML
     private void onSearch() {
         String text = txtSearch.getText().trim();
@@ -4,11 +4,7 @@ import java.math.BigDecimal;
 import java.time.format.DateTimeFormatter;
 import java.util.List;
 
-import com.employeemgmt.dao.DivisionDAOImpl;
 import com.employeemgmt.dao.EmployeeDAOImpl;
-import com.employeemgmt.dao.EmployeeDivisionDAOImpl;
-import com.employeemgmt.dao.EmployeeJobTitleDAOImpl;
-import com.employeemgmt.dao.JobTitleDAOImpl;
 import com.employeemgmt.dao.PayrollDAOImpl;
 import com.employeemgmt.model.Employee;
 import com.employeemgmt.model.Payroll;
@@ -47,11 +43,7 @@ public class EmployeeDetailController extends BaseController {
     private Employee employee;
     private final ReportService reportService = new ReportService(
         new EmployeeDAOImpl(),
-        new DivisionDAOImpl(),
-        new JobTitleDAOImpl(),
-        new PayrollDAOImpl(),
-        new EmployeeDivisionDAOImpl(),
-        new EmployeeJobTitleDAOImpl()
+        new PayrollDAOImpl()
 );
 
     @FXML
@@ -26,9 +26,8 @@ public class EmployeeFormController extends BaseController {
     @FXML
     public void initialize(){
         try{
-            cmbDivision.setItems(FXCollections.observableList(ServiceRegistry.employees().getAllDivisions()));
-            cmbJob.setItems(FXCollections.observableList(ServiceRegistry.employees().getAllJobTitles()));
-            
+            loadLookups();
+
             // Set custom cell factories to display only the name/title
             cmbDivision.setButtonCell(new javafx.scene.control.ListCell<Division>() {
                 @Override
@@ -78,6 +77,26 @@ public class EmployeeFormController extends BaseController {
         }catch(SQLException e){ error("Failed loading lookups",e); }
     }
 
+    @Override
+    protected void reset() {
+        editing = null;
+        txtFirst.clear();
+        txtLast.clear();
+        txtSSN.clear();
+        txtEmail.clear();
+        // Served from the lookup cache, so this picks up new divisions and job titles without a query
+        try {
+            loadLookups();
+        } catch (SQLException e) {
+            error("Failed loading lookups", e);
+        }
+    }
+
+    private void loadLookups() throws SQLException {
+        cmbDivision.setItems(FXCollections.observableList(ServiceRegistry.employees().getAllDivisions()));
+        cmbJob.setItems(FXCollections.observableList(ServiceRegistry.employees().getAllJobTitles()));
+    }
+
     public void setEmployee(Employee emp){
         this.editing = emp;
         txtFirst.setText(emp.getFirstName());
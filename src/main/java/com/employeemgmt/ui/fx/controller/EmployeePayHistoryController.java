@@ -1,16 +1,19 @@
 package com.employeemgmt.ui.fx.controller;
 
 import java.sql.SQLException;
-import java.util.Comparator;
+import java.util.List;
 
+import com.employeemgmt.dao.Page;
 import com.employeemgmt.model.Employee;
 import com.employeemgmt.model.Payroll;
 import com.employeemgmt.service.EmployeeService;
 import com.employeemgmt.service.ReportService;
 
 import javafx.collections.FXCollections;
+import javafx.collections.ObservableList;
 import javafx.fxml.FXML;
 import javafx.scene.control.ComboBox;
+import javafx.scene.control.ProgressIndicator;
 import javafx.scene.control.TableColumn;
 import javafx.scene.control.TableView;
 import javafx.scene.control.TextField;
@@ -19,8 +22,13 @@ import javafx.beans.property.SimpleStringProperty;
 
 public class EmployeePayHistoryController extends BaseController {
 
+    // Pay history is loaded in blocks of BLOCK_SIZE rows, at most MAX_BLOCKS held at once
+    private static final int BLOCK_SIZE = 50;
+    private static final int MAX_BLOCKS = 10;
+
     @FXML private ComboBox<String> cmbMode;
     @FXML private TextField txtEmpSearch;
+    @FXML private ProgressIndicator progress;
 
     // Employee info table
     @FXML private TableView<Employee> tblEmpInfo;
@@ -37,6 +45,8 @@ public class EmployeePayHistoryController extends BaseController {
     @FXML private TableColumn<Payroll, String> colHistEnd;
     @FXML private TableColumn<Payroll, Number> colHistAmount;
 
+    private final ObservableList<Payroll> history = FXCollections.observableArrayList();
+
     @FXML
     public void initialize() {
         // Search mode options
@@ -74,19 +84,33 @@ public class EmployeePayHistoryController extends BaseController {
                     new SimpleStringProperty(nullToEmpty(v.getValue().getJobTitleName())));
         }
 
-        // Pay history table columns
+        // Pay history table columns; rows of a lazily loaded history are null until their block arrives
         colHistStart.setCellValueFactory(v -> {
-            var d = v.getValue().getPayPeriodStart();
+            var d = v.getValue() != null ? v.getValue().getPayPeriodStart() : null;
             return new SimpleStringProperty(d != null ? d.toString() : "");
         });
 
         colHistEnd.setCellValueFactory(v -> {
-            var d = v.getValue().getPayPeriodEnd();
+            var d = v.getValue() != null ? v.getValue().getPayPeriodEnd() : null;
             return new SimpleStringProperty(d != null ? d.toString() : "");
         });
 
         colHistAmount.setCellValueFactory(v ->
-            new SimpleObjectProperty<>(v.getValue().getAmount()));
+            new SimpleObjectProperty<>(v.getValue() != null ? v.getValue().getAmount() : null));
+
+        tblEmpHistory.setItems(history);
+        // A lazily loaded history keeps the database order; sorting it here would load every row
+        tblEmpHistory.setSortPolicy(t -> !(t.getItems() instanceof LazyPagedList)
+                && TableView.DEFAULT_SORT_POLICY.call(t));
+    }
+
+    @Override
+    protected void reset() {
+        txtEmpSearch.clear();
+        if (cmbMode != null) {
+            cmbMode.getSelectionModel().select("Employee ID");
+        }
+        clearEmployeeHistory();
     }
 
     @FXML
@@ -98,71 +122,95 @@ public class EmployeePayHistoryController extends BaseController {
             return;
         }
 
-        try {
-            EmployeeService empService = ServiceRegistry.employees();
-            Employee employee = null;
-            String trimmed = query.trim();
-
-            String mode = cmbMode != null ? cmbMode.getValue() : "Employee ID";
-
-            switch (mode) {
-                case "SSN" -> {
-                    var opt = empService.findBySSN(trimmed);
-                    if (opt.isEmpty()) {
-                        info("No employee found with SSN: " + trimmed);
-                        clearEmployeeHistory();
-                        return;
-                    }
-                    employee = opt.get();
-                }
-                case "Name" -> {
-                    var matches = empService.findByNameFragment(trimmed);
-                    if (matches.isEmpty()) {
-                        info("No employee found for: " + trimmed);
-                        clearEmployeeHistory();
-                        return;
-                    }
-                    if (matches.size() > 1) {
-                        info("More than one employee matches '" + trimmed +
-                                "'. Please refine your search (include last name or use ID/SSN).");
-                        clearEmployeeHistory();
-                        return;
-                    }
-                    employee = matches.get(0);
-                }
-                default -> { // Employee ID
-                    try {
-                        int id = Integer.parseInt(trimmed);
-                        var opt = empService.findById(id);
-                        if (opt.isEmpty()) {
-                            info("No employee found with ID: " + id);
-                            clearEmployeeHistory();
-                            return;
-                        }
-                        employee = opt.get();
-                    } catch (NumberFormatException nfe) {
-                        info("Employee ID must be a number.");
-                        clearEmployeeHistory();
-                        return;
-                    }
-                }
-            }
+        String trimmed = query.trim();
+        String mode = cmbMode != null ? cmbMode.getValue() : "Employee ID";
 
-            ReportService reports = ServiceRegistry.reports();
-            var history = reports.getPayHistoryForEmployee(employee.getEmployeeId());
-            history.sort(Comparator.comparing(Payroll::getPayPeriodStart).reversed());
+        runInBackground("search", progress, () -> lookup(mode, trimmed), result -> {
+            if (result.message() != null) {
+                info(result.message());
+                clearEmployeeHistory();
+                return;
+            }
 
             // populate employee info table (single row)
             if (tblEmpInfo != null) {
-                tblEmpInfo.setItems(FXCollections.observableArrayList(employee));
+                tblEmpInfo.setItems(FXCollections.observableArrayList(result.employee()));
             }
 
-            tblEmpHistory.setItems(FXCollections.observableArrayList(history));
+            showHistory(result.employee().getEmployeeId(), result.history(), result.historySize());
+        }, "Search failed");
+    }
 
-        } catch (SQLException ex) {
-            error("Search failed", ex);
-            clearEmployeeHistory();
+    private void showHistory(int employeeId, Page<Payroll> first, int total) {
+        if (!first.hasMore()) {
+            history.setAll(first.items());
+            tblEmpHistory.setItems(history);
+            return;
+        }
+        LazyPagedList.Source<Payroll> source = new LazyPagedList.Source<>() {
+            @Override
+            public Page<Payroll> next(String pageToken, int blockSize) throws Exception {
+                return ServiceRegistry.reports().getPayHistoryForEmployee(employeeId, pageToken, blockSize);
+            }
+
+            @Override
+            public List<String> pageTokens(int blockSize) throws Exception {
+                return ServiceRegistry.reports().getPayHistoryPageTokens(employeeId, blockSize);
+            }
+        };
+        tblEmpHistory.setItems(new LazyPagedList<>(source, first, total, BLOCK_SIZE, MAX_BLOCKS,
+                e -> error("Loading pay history failed", e)));
+    }
+
+    /**
+     * Resolves the employee and loads the newest block of their pay history. Runs on the background executor,
+     * so it only touches services, never controls.
+     */
+    private LookupResult lookup(String mode, String trimmed) throws SQLException {
+        EmployeeService empService = ServiceRegistry.employees();
+        Employee employee;
+
+        switch (mode) {
+            case "SSN" -> {
+                var opt = empService.findBySSN(trimmed);
+                if (opt.isEmpty()) {
+                    return LookupResult.message("No employee found with SSN: " + trimmed);
+                }
+                employee = opt.get();
+            }
+            case "Name" -> {
+                // Two rows are enough to tell a unique match from an ambiguous one
+                var matches = empService.findByNameFragment(trimmed, null, 2).items();
+                if (matches.isEmpty()) {
+                    return LookupResult.message("No employee found for: " + trimmed);
+                }
+                if (matches.size() > 1) {
+                    return LookupResult.message("More than one employee matches '" + trimmed +
+                            "'. Please refine your search (include last name or use ID/SSN).");
+                }
+                employee = matches.get(0);
+            }
+            default -> { // Employee ID
+                int id;
+                try {
+                    id = Integer.parseInt(trimmed);
+                } catch (NumberFormatException nfe) {
+                    return LookupResult.message("Employee ID must be a number.");
+                }
+                var opt = empService.findById(id);
+                if (opt.isEmpty()) {
+                    return LookupResult.message("No employee found with ID: " + id);
+                }
+                employee = opt.get();
+            }
         }
+
+        ReportService reports = ServiceRegistry.reports();
+        var firstPage = reports.getPayHistoryForEmployee(employee.getEmployeeId(), null, BLOCK_SIZE);
+        int total = firstPage.hasMore()
+                ? reports.countPayHistoryForEmployee(employee.getEmployeeId())
+                : firstPage.items().size();
+        return new LookupResult(employee, firstPage, total, null);
     }
 
     @FXML
@@ -174,14 +222,21 @@ public class EmployeePayHistoryController extends BaseController {
         if (tblEmpInfo != null) {
             tblEmpInfo.getItems().clear();
         }
+        history.clear();
         if (tblEmpHistory != null) {
-            tblEmpHistory.getItems().clear();
+            tblEmpHistory.setItems(history);
         }
     }
 
     private static String nullToEmpty(String s) {
         return s == null ? "" : s;
     }
+
+    private record LookupResult(Employee employee, Page<Payroll> history, int historySize, String message) {
+        static LookupResult message(String message) {
+            return new LookupResult(null, null, 0, message);
+        }
+    }
 }
 
 
@@ -1,20 +1,28 @@
 package com.employeemgmt.ui.fx.controller;
 
 import java.util.List;
-import java.util.Optional;
+import java.util.function.Function;
 
+import com.employeemgmt.dao.Page;
 import com.employeemgmt.model.Employee;
 
 import javafx.collections.FXCollections;
 import javafx.collections.ObservableList;
 import javafx.fxml.FXML;
 import javafx.scene.control.ComboBox;
+import javafx.scene.control.ProgressIndicator;
 import javafx.scene.control.TableColumn;
 import javafx.scene.control.TableView;
 import javafx.scene.control.TextField;
 
 public class EmployeeSearchController extends BaseController {
 
+    private static final long TYPE_AHEAD_DELAY_MS = 250;
+    private static final int TYPE_AHEAD_LIMIT = 100;
+    // Name search results are loaded in blocks of BLOCK_SIZE rows, at most MAX_BLOCKS held at once
+    private static final int BLOCK_SIZE = 100;
+    private static final int MAX_BLOCKS = 20;
+
     @FXML private TextField txtSearch;
     @FXML private ComboBox<String> cmbMode;
     @FXML private TableView<Employee> table;
@@ -25,52 +33,111 @@ public class EmployeeSearchController extends BaseController {
     @FXML private TableColumn<Employee, String> colEmail;
     @FXML private TableColumn<Employee, String> colDivision;
     @FXML private TableColumn<Employee, String> colJobTitle;
+    @FXML private ProgressIndicator progress;
 
     private final ObservableList<Employee> data = FXCollections.observableArrayList();
+    private final Debouncer typeAhead = new Debouncer(TYPE_AHEAD_DELAY_MS);
 
     @FXML
     public void initialize(){
         cmbMode.getItems().addAll("Name","SSN","Employee ID");
         cmbMode.getSelectionModel().select("Name");
 
-        colId.setCellValueFactory(v-> new javafx.beans.property.SimpleIntegerProperty(v.getValue().getEmployeeId()).asObject());
-        colFirst.setCellValueFactory(v-> new javafx.beans.property.SimpleStringProperty(v.getValue().getFirstName()));
-        colLast.setCellValueFactory(v-> new javafx.beans.property.SimpleStringProperty(v.getValue().getLastName()));
-        colSsn.setCellValueFactory(v-> new javafx.beans.property.SimpleStringProperty(v.getValue().getSsn()));
-        colEmail.setCellValueFactory(v-> new javafx.beans.property.SimpleStringProperty(v.getValue().getEmail()));
-        colDivision.setCellValueFactory(v-> new javafx.beans.property.SimpleStringProperty(
-            v.getValue().getDivisionName() != null ? v.getValue().getDivisionName() : ""));
-        colJobTitle.setCellValueFactory(v-> new javafx.beans.property.SimpleStringProperty(
-            v.getValue().getJobTitleName() != null ? v.getValue().getJobTitleName() : ""));
+        // Rows of a lazily loaded result are null until their block arrives
+        colId.setCellValueFactory(v-> new javafx.beans.property.SimpleObjectProperty<>(
+            v.getValue() != null ? v.getValue().getEmployeeId() : null));
+        colFirst.setCellValueFactory(v-> text(v.getValue(), Employee::getFirstName));
+        colLast.setCellValueFactory(v-> text(v.getValue(), Employee::getLastName));
+        colSsn.setCellValueFactory(v-> text(v.getValue(), Employee::getSsn));
+        colEmail.setCellValueFactory(v-> text(v.getValue(), Employee::getEmail));
+        colDivision.setCellValueFactory(v-> text(v.getValue(), Employee::getDivisionName));
+        colJobTitle.setCellValueFactory(v-> text(v.getValue(), Employee::getJobTitleName));
+
+        table.setItems(data);
+        // A lazily loaded result keeps the database order; sorting it here would load every row
+        table.setSortPolicy(t -> !(t.getItems() instanceof LazyPagedList)
+                && TableView.DEFAULT_SORT_POLICY.call(t));
 
+        // Search-as-you-type in Name mode, served from the in-memory prefix index
+        txtSearch.textProperty().addListener((obs, oldText, newText) -> {
+            if ("Name".equals(cmbMode.getValue()) && newText != null && !newText.isBlank()) {
+                typeAhead.schedule(this::onTypeAhead);
+            } else {
+                typeAhead.cancel();
+            }
+        });
+    }
+
+    @Override
+    protected void reset() {
+        typeAhead.cancel();
+        txtSearch.clear();
+        cmbMode.getSelectionModel().select("Name");
+        data.clear();
         table.setItems(data);
     }
 
+    private void onTypeAhead(){
+        String text = txtSearch.getText().trim();
+        if (text.isEmpty() || !"Name".equals(cmbMode.getValue())) {
+            return;
+        }
+
+        runInBackground("search", progress,
+                () -> ServiceRegistry.employees().findByNamePrefix(text, TYPE_AHEAD_LIMIT),
+                this::showRows, "Search failed");
+    }
+
     @FXML
     private void onSearch(){
+        typeAhead.cancel();
         String text = txtSearch.getText().trim();
         String mode = cmbMode.getValue();
-        data.clear();
+        showRows(List.of());
 
-        try{
+        runInBackground("search", progress, () -> {
             switch(mode){
                 case "Employee ID" -> {
                     int id = Integer.parseInt(text);
-                    Optional<Employee> emp = ServiceRegistry.employees().findById(id);
-                    emp.ifPresent(data::add);
+                    return fullResult(ServiceRegistry.employees().findById(id).map(List::of).orElse(List.of()));
                 }
                 case "SSN" -> {
-                    Optional<Employee> emp = ServiceRegistry.employees().findBySSN(text);
-                    emp.ifPresent(data::add);
+                    return fullResult(ServiceRegistry.employees().findBySSN(text).map(List::of).orElse(List.of()));
                 }
-                default -> {  // Name search
-                    List<Employee> list = ServiceRegistry.employees().findByNameFragment(text);
-                    data.addAll(list);
+                default -> {  // Name search; only the first block is loaded up front
+                    Page<Employee> first = ServiceRegistry.employees().findByNameFragment(text, null, BLOCK_SIZE);
+                    int total = first.hasMore()
+                            ? ServiceRegistry.employees().countByNameFragment(text)
+                            : first.items().size();
+                    return new SearchResult(text, first, total);
                 }
             }
-        }catch(Exception e){
-            error("Search failed", e);
+        }, this::showResult, "Search failed");
+    }
+
+    private void showResult(SearchResult result){
+        if (!result.first().hasMore()) {
+            showRows(result.first().items());
+            return;
         }
+        LazyPagedList.Source<Employee> source = new LazyPagedList.Source<>() {
+            @Override
+            public Page<Employee> next(String pageToken, int blockSize) throws Exception {
+                return ServiceRegistry.employees().findByNameFragment(result.fragment(), pageToken, blockSize);
+            }
+
+            @Override
+            public List<String> pageTokens(int blockSize) throws Exception {
+                return ServiceRegistry.employees().findPageTokensByNameFragment(result.fragment(), blockSize);
+            }
+        };
+        table.setItems(new LazyPagedList<>(source, result.first(), result.total(), BLOCK_SIZE, MAX_BLOCKS,
+                e -> error("Loading search results failed", e)));
+    }
+
+    private void showRows(List<Employee> rows){
+        data.setAll(rows);
+        table.setItems(data);
     }
 
     @FXML
@@ -84,4 +151,17 @@ public class EmployeeSearchController extends BaseController {
     private void onBack(){
         NavigationManager.showMainMenu();
     }
+
+    private static javafx.beans.property.SimpleStringProperty text(Employee employee, Function<Employee, String> field){
+        String value = employee != null ? field.apply(employee) : null;
+        return new javafx.beans.property.SimpleStringProperty(value != null ? value : "");
+    }
+
+    private static SearchResult fullResult(List<Employee> rows){
+        return new SearchResult(null, new Page<>(rows, null), rows.size());
+    }
+
+    // First block of a search plus the total row count; fragment is set for name searches
+    private record SearchResult(String fragment, Page<Employee> first, int total) {
+    }
 }
\ No newline at end of file
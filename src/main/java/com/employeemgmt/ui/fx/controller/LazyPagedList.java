@@ -0,0 +1,232 @@
+package com.employeemgmt.ui.fx.controller;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Consumer;
+
+import com.employeemgmt.dao.Page;
+
+import javafx.collections.ObservableListBase;
+import javafx.concurrent.Task;
+
+/**
+ * Read-only list of a known size whose rows are loaded in fixed-size blocks when a TableView
+ * asks for them, so a table can scroll through a million rows while only a few blocks are in memory.
+ *
+ * get() never blocks: a row that is not loaded yet returns null and its block is fetched on the
+ * background executor; the rows are then published as a replace change and the table redraws them.
+ * The block after (or before, when scrolling up) the one being viewed is prefetched. Only the
+ * most recently used blocks are kept; older ones are dropped and fetched again if revisited.
+ *
+ * Every block is fetched with the continuation token that starts it (keyset pagination), so a
+ * deep block costs the same as the first. A block that follows a loaded one uses that block's
+ * nextToken. The first jump elsewhere, e.g. by dragging the scroll bar, fetches the start token
+ * of every block in one query; later jumps seek straight to their block.
+ *
+ * A block that fails to load is requested again once the view moves to another block.
+ *
+ * Cell value factories must accept null rows. Used on the FX thread only.
+ */
+final class LazyPagedList<T> extends ObservableListBase<T> {
+
+    /**
+     * Fetches blocks of the underlying query. Called on a background thread.
+     */
+    interface Source<T> {
+        /**
+         * @param pageToken null for the first block
+         */
+        Page<T> next(String pageToken, int blockSize) throws Exception;
+
+        /**
+         * The token that starts each block after the first: element i continues after block i.
+         */
+        List<String> pageTokens(int blockSize) throws Exception;
+    }
+
+    // Loads queued behind a fast scroll-bar drag are skipped once the view is this many blocks away
+    private static final int STALE_DISTANCE = 2;
+
+    private final Source<T> source;
+    private final int size;
+    private final int blockSize;
+    private final int maxBlocks;
+    private final Consumer<Exception> onError;
+
+    private final LinkedHashMap<Integer, List<T>> blocks;
+    // Continuation token that starts each block, learned from the block before it
+    private final Map<Integer, String> startTokens = new HashMap<>();
+    private final Set<Integer> loading = new HashSet<>();
+    private final Set<Integer> failed = new HashSet<>();
+
+    // Start tokens of every block, fetched on the first jump to a block with no learned token
+    private List<String> pageTokens;
+    private boolean pageTokensLoading;
+    private boolean pageTokensFailed;
+
+    private volatile int currentBlock;
+    private int direction = 1;
+
+    /**
+     * @param firstPage the first block, already fetched, so the table shows rows immediately
+     * @param size      total row count of the query
+     * @param maxBlocks blocks kept in memory; must cover more than one screenful
+     * @param onError   told each time a block or the block start tokens fail to load
+     */
+    LazyPagedList(Source<T> source, Page<T> firstPage, int size, int blockSize, int maxBlocks,
+                  Consumer<Exception> onError) {
+        if (blockSize < 1 || maxBlocks < 2) {
+            throw new IllegalArgumentException("blockSize must be positive and maxBlocks at least 2");
+        }
+        this.source = source;
+        this.size = size;
+        this.blockSize = blockSize;
+        this.onError = onError;
+        this.maxBlocks = maxBlocks;
+        // Access order, so iteration starts at the least recently used block
+        this.blocks = new LinkedHashMap<>(maxBlocks * 2, 0.75f, true);
+        blocks.put(0, firstPage.items());
+        if (firstPage.nextToken() != null) {
+            startTokens.put(1, firstPage.nextToken());
+        }
+    }
+
+    @Override
+    public int size() {
+        return size;
+    }
+
+    @Override
+    public T get(int index) {
+        if (index < 0 || index >= size) {
+            throw new IndexOutOfBoundsException(index);
+        }
+        int block = index / blockSize;
+        if (block != currentBlock) {
+            direction = block > currentBlock ? 1 : -1;
+            currentBlock = block;
+            // The view moved on; anything that failed may be tried again
+            failed.clear();
+            pageTokensFailed = false;
+        }
+
+        List<T> rows = blocks.get(block);
+        if (rows == null) {
+            request(block);
+        }
+        request(block + direction);
+
+        int offset = index - block * blockSize;
+        return rows != null && offset < rows.size() ? rows.get(offset) : null;
+    }
+
+    private void request(int block) {
+        if (block < 0 || block * blockSize >= size
+                || blocks.containsKey(block) || loading.contains(block) || failed.contains(block)) {
+            return;
+        }
+        String token = startToken(block);
+        if (block > 0 && token == null) {
+            // A block on its way supplies the next one's token; the redraw after it loads asks again
+            if (!loading.contains(block - 1)) {
+                requestPageTokens();
+            }
+            return;
+        }
+        loading.add(block);
+
+        Task<Page<T>> task = BackgroundTasks.newTask(() -> {
+            if (Math.abs(block - currentBlock) > STALE_DISTANCE) {
+                return null;
+            }
+            return source.next(token, blockSize);
+        });
+        task.setOnSucceeded(event -> {
+            loading.remove(block);
+            Page<T> page = task.getValue();
+            if (page != null) {
+                loaded(block, page);
+            }
+        });
+        task.setOnFailed(event -> {
+            loading.remove(block);
+            failed.add(block);
+            Throwable cause = task.getException();
+            onError.accept(cause instanceof Exception e ? e : new Exception(cause));
+        });
+        BackgroundTasks.execute(task);
+    }
+
+    private String startToken(int block) {
+        String token = startTokens.get(block);
+        if (token == null && block > 0 && pageTokens != null && block <= pageTokens.size()) {
+            token = pageTokens.get(block - 1);
+        }
+        return token;
+    }
+
+    private void requestPageTokens() {
+        if (pageTokens != null || pageTokensLoading || pageTokensFailed) {
+            return;
+        }
+        pageTokensLoading = true;
+
+        Task<List<String>> task = BackgroundTasks.newTask(() -> source.pageTokens(blockSize));
+        task.setOnSucceeded(event -> {
+            pageTokensLoading = false;
+            pageTokens = task.getValue();
+            request(currentBlock);
+            request(currentBlock + direction);
+        });
+        task.setOnFailed(event -> {
+            pageTokensLoading = false;
+            pageTokensFailed = true;
+            Throwable cause = task.getException();
+            onError.accept(cause instanceof Exception e ? e : new Exception(cause));
+        });
+        BackgroundTasks.execute(task);
+    }
+
+    private void loaded(int block, Page<T> page) {
+        List<T> rows = page.items();
+        if (page.nextToken() != null) {
+            startTokens.put(block + 1, page.nextToken());
+        }
+        blocks.put(block, rows);
+        evictLeastRecentlyUsed();
+
+        int from = block * blockSize;
+        int to = Math.min(size, from + rows.size());
+        if (to > from) {
+            beginChange();
+            nextReplace(from, to, Collections.nCopies(to - from, null));
+            endChange();
+        }
+    }
+
+    private void evictLeastRecentlyUsed() {
+        while (blocks.size() > maxBlocks) {
+            Iterator<Map.Entry<Integer, List<T>>> eldest = blocks.entrySet().iterator();
+            Map.Entry<Integer, List<T>> entry = eldest.next();
+            eldest.remove();
+            publishEvicted(entry.getKey(), entry.getValue());
+        }
+    }
+
+    private void publishEvicted(int block, List<T> rows) {
+        int from = block * blockSize;
+        int to = Math.min(size, from + rows.size());
+        if (to > from) {
+            beginChange();
+            nextReplace(from, to, new ArrayList<>(rows.subList(0, to - from)));
+            endChange();
+        }
+    }
+}
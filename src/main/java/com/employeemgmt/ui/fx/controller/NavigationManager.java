@@ -2,19 +2,62 @@ package com.employeemgmt.ui.fx.controller;
 
 import com.employeemgmt.model.Employee;
 import javafx.fxml.FXMLLoader;
+import javafx.geometry.Insets;
+import javafx.geometry.Pos;
 import javafx.scene.Parent;
 import javafx.scene.Scene;
+import javafx.scene.control.Label;
+import javafx.scene.control.ProgressIndicator;
+import javafx.scene.layout.VBox;
 import javafx.stage.Stage;
 
 import java.io.IOException;
 import java.net.URL;
-
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Switches the primary stage between screens.
+ *
+ * Each screen's FXML is loaded once; its root, controller and Scene are cached and reused on
+ * later visits, and the controller's reset() clears what the previous visit left behind.
+ * preloadScreens() can load every screen ahead of time so even the first visit is instant.
+ */
 public class NavigationManager {
 
     private static Stage stage;
+    private static Label splashStatus;
 
     // FXML files are in src/main/resources/
     private static final String BASE_FXML_PATH = "/com/employeemgmt/ui/fx/";
+    private static final String MAIN_MENU = "main_menu.fxml";
+    private static final String SEARCH = "employee_search.fxml";
+    private static final String EMPLOYEE_FORM = "employee_from.fxml";
+    private static final String EDIT_EMPLOYEE = "edit_employee.fxml";
+    private static final String PAY_HISTORY = "employee_pay_history.fxml";
+    private static final String REPORTS = "reports.fxml";
+    private static final String SALARY_ADJUSTMENT = "salary_adjustment.fxml";
+    private static final String EMPLOYEE_DETAIL = "employee_detail.fxml";
+    private static final List<String> ALL_SCREENS = List.of(MAIN_MENU, SEARCH, EMPLOYEE_FORM, EDIT_EMPLOYEE,
+            PAY_HISTORY, REPORTS, SALARY_ADJUSTMENT, EMPLOYEE_DETAIL);
+
+    // Guarded by itself; a background preload and the FX thread may load screens at the same time
+    private static final Map<String, CachedScreen> SCREENS = new HashMap<>();
+
+    /**
+     * A loaded screen. The Scene is created on the FX thread when the screen is first shown.
+     */
+    private static final class CachedScreen {
+        final Parent root;
+        final BaseController controller;
+        Scene scene;
+
+        CachedScreen(Parent root, BaseController controller) {
+            this.root = root;
+            this.controller = controller;
+        }
+    }
 
     public static void init(Stage primaryStage) {
         stage = primaryStage;
@@ -22,83 +65,144 @@ public class NavigationManager {
         stage.show();
     }
 
-    private static void show(String fxmlFile, String title) {
-        try {
-            URL resource = NavigationManager.class.getResource(BASE_FXML_PATH + fxmlFile);
-            if (resource == null) {
-                throw new IllegalStateException("FXML not found: " + BASE_FXML_PATH + fxmlFile);
+    /**
+     * Shows the window straight away with a progress indicator, before the database and
+     * services are ready. Follow with showStartupStatus() and showMainMenu().
+     */
+    public static void showSplash(Stage primaryStage) {
+        stage = primaryStage;
+        splashStatus = new Label("Starting...");
+        VBox root = new VBox(12, new ProgressIndicator(), splashStatus);
+        root.setAlignment(Pos.CENTER);
+        root.setPadding(new Insets(40));
+        stage.setTitle("Employee Management");
+        stage.setScene(new Scene(root, 360, 220));
+        stage.show();
+    }
+
+    /**
+     * Updates the splash screen's status line. Must be called on the FX thread.
+     */
+    public static void showStartupStatus(String status) {
+        if (splashStatus != null) {
+            splashStatus.setText(status);
+        }
+    }
+
+    /**
+     * Loads the main menu into the cache without showing it. Safe to call off the FX thread,
+     * so it can be prepared while the splash screen is up.
+     */
+    public static void preloadMainMenu() throws IOException {
+        screen(MAIN_MENU);
+    }
+
+    /**
+     * Loads every screen not cached yet. Safe to call off the FX thread once the services
+     * are registered, since controllers query them in initialize().
+     *
+     * @return the number of screens loaded
+     */
+    public static int preloadScreens() {
+        int loaded = 0;
+        for (String fxmlFile : ALL_SCREENS) {
+            try {
+                synchronized (SCREENS) {
+                    if (!SCREENS.containsKey(fxmlFile)) {
+                        screen(fxmlFile);
+                        loaded++;
+                    }
+                }
+            } catch (IOException | RuntimeException e) {
+                error("Failed to preload FXML: " + fxmlFile, e);
+            }
+        }
+        return loaded;
+    }
+
+    private static CachedScreen screen(String fxmlFile) throws IOException {
+        synchronized (SCREENS) {
+            CachedScreen cached = SCREENS.get(fxmlFile);
+            if (cached == null) {
+                URL resource = NavigationManager.class.getResource(BASE_FXML_PATH + fxmlFile);
+                if (resource == null) {
+                    throw new IllegalStateException("FXML not found: " + BASE_FXML_PATH + fxmlFile);
+                }
+                FXMLLoader loader = new FXMLLoader(resource);
+                Parent root = loader.load();
+                cached = new CachedScreen(root, loader.getController());
+                SCREENS.put(fxmlFile, cached);
             }
-            FXMLLoader loader = new FXMLLoader(resource);
-            Parent root = loader.load();
-            Scene scene = new Scene(root);
-            stage.setTitle(title);
-            stage.setScene(scene);
+            return cached;
+        }
+    }
+
+    /**
+     * Shows a cached screen, loading it on first use. A screen that was shown before has its
+     * controller reset first.
+     *
+     * @param width  scene width on first show, or -1 for the root's preferred size
+     * @param height scene height on first show, or -1 for the root's preferred size
+     * @return the screen's controller, or null if the FXML failed to load
+     */
+    private static BaseController show(String fxmlFile, String title, double width, double height) {
+        CachedScreen screen;
+        try {
+            screen = screen(fxmlFile);
         } catch (IOException e) {
             error("Failed to load FXML: " + fxmlFile, e);
+            return null;
         }
+
+        if (screen.scene == null) {
+            screen.scene = new Scene(screen.root, width, height);
+        } else if (screen.controller != null) {
+            screen.controller.reuse();
+        }
+        splashStatus = null;
+        stage.setTitle(title);
+        stage.setScene(screen.scene);
+        return screen.controller;
+    }
+
+    private static BaseController show(String fxmlFile, String title) {
+        return show(fxmlFile, title, -1, -1);
     }
 
 
     // --------- Screens ----------
 
     public static void showMainMenu() {
-        show("main_menu.fxml", "Employee Management - Main Menu");
+        show(MAIN_MENU, "Employee Management - Main Menu");
     }
 
     public static void showSearch() {
-        show("employee_search.fxml", "Employee Management - Search");
+        show(SEARCH, "Employee Management - Search");
     }
 
     public static void showAddEmployee() {
-        show("employee_from.fxml", "Employee Management - Add Employee");
+        show(EMPLOYEE_FORM, "Employee Management - Add Employee");
     }
 
     public static void showEditEmployee() {
-        try {
-            URL resource = NavigationManager.class.getResource(BASE_FXML_PATH + "edit_employee.fxml");
-            if (resource == null) {
-                throw new IllegalStateException("FXML not found: " + BASE_FXML_PATH + "edit_employee.fxml");
-            }
-            FXMLLoader loader = new FXMLLoader(resource);
-            Parent root = loader.load();
-            Scene scene = new Scene(root, 650, 600);
-            stage.setTitle("Employee Management - Edit Employee");
-            stage.setScene(scene);
-        } catch (IOException e) {
-            error("Failed to load edit_employee.fxml", e);
-        }
+        show(EDIT_EMPLOYEE, "Employee Management - Edit Employee", 650, 600);
     }
 
     public static void showEmployeePayHistory() {
-        show("employee_pay_history.fxml", "Employee Management - Employee Pay History");
+        show(PAY_HISTORY, "Employee Management - Employee Pay History");
     }
 
     public static void showReports() {
-        show("reports.fxml", "Employee Management - Reports");
+        show(REPORTS, "Employee Management - Reports");
     }
 
     public static void showAdjust() {
-        show("salary_adjustment.fxml", "Employee Management - Salary Adjustment");
+        show(SALARY_ADJUSTMENT, "Employee Management - Salary Adjustment");
     }
 
     public static void showEmployeeDetail(Employee employee) {
-        try {
-            URL resource = NavigationManager.class.getResource(BASE_FXML_PATH + "employee_detail.fxml");
-            if (resource == null) {
-                throw new IllegalStateException("FXML not found: " + BASE_FXML_PATH + "employee_detail.fxml");
-            }
-
-            FXMLLoader loader = new FXMLLoader(resource);
-            Parent root = loader.load();
-
-            EmployeeDetailController controller = loader.getController();
+        if (show(EMPLOYEE_DETAIL, "Employee Detail") instanceof EmployeeDetailController controller) {
             controller.setEmployee(employee);
-
-            Scene scene = new Scene(root);
-            stage.setTitle("Employee Detail");
-            stage.setScene(scene);
-        } catch (IOException e) {
-            error("Failed to load employee_detail.fxml", e);
         }
     }
 
@@ -107,23 +211,8 @@ public class NavigationManager {
     }
 
     public static void showEmployeeFormEdit(Employee employee) {
-        try {
-            URL resource = NavigationManager.class.getResource(BASE_FXML_PATH + "employee_from.fxml");
-            if (resource == null) {
-                throw new IllegalStateException("FXML not found: " + BASE_FXML_PATH + "employee_from.fxml");
-            }
-
-            FXMLLoader loader = new FXMLLoader(resource);
-            Parent root = loader.load();
-
-            EmployeeFormController controller = loader.getController();
+        if (show(EMPLOYEE_FORM, "Edit Employee") instanceof EmployeeFormController controller) {
             controller.editEmployee(employee);
-
-            Scene scene = new Scene(root);
-            stage.setTitle("Edit Employee");
-            stage.setScene(scene);
-        } catch (IOException e) {
-            error("Failed to load employee_from.fxml for edit", e);
         }
     }
 
@@ -1,13 +1,14 @@
 package com.employeemgmt.ui.fx.controller;
 
 import java.math.BigDecimal;
-import java.sql.SQLException;
 import java.time.YearMonth;
+import java.util.List;
 import java.util.Map;
 
 import javafx.collections.FXCollections;
 import javafx.fxml.FXML;
 import javafx.scene.control.ComboBox;
+import javafx.scene.control.ProgressIndicator;
 import javafx.scene.control.TableColumn;
 import javafx.scene.control.TableView;
 
@@ -24,6 +25,7 @@ public class ReportsController extends BaseController {
     @FXML private TableView<Map.Entry<String, BigDecimal>> tblDiv;
     @FXML private TableColumn<Map.Entry<String, BigDecimal>,String> colDivName;
     @FXML private TableColumn<Map.Entry<String, BigDecimal>,BigDecimal> colDivTotal;
+    @FXML private ProgressIndicator progress;
     @FXML
     public void initialize(){
         int y = YearMonth.now().getYear();
@@ -39,22 +41,26 @@ public class ReportsController extends BaseController {
         colDivTotal.setCellValueFactory(v-> new SimpleObjectProperty<>(v.getValue().getValue()));
     }
 
+    @Override
+    protected void reset() {
+        cmbYear.setValue(YearMonth.now().getYear());
+        cmbMonth.setValue(YearMonth.now().getMonthValue());
+        tblJob.getItems().clear();
+        tblDiv.getItems().clear();
+    }
+
     @FXML
     private void onRun(){
         int y = cmbYear.getValue();
         int m = cmbMonth.getValue();
 
-        try{
-            var job = ServiceRegistry.reports().getTotalPayByJobTitle(y, m);
-            var div = ServiceRegistry.reports().getTotalPayByDivision(y, m);
-
-            tblJob.setItems(FXCollections.observableArrayList(job.entrySet()));
-            tblDiv.setItems(FXCollections.observableArrayList(div.entrySet()));
-
-
-        } catch(SQLException e){
-            error("Report failed", e);
-        }
+        runInBackground("report", progress, () -> List.of(
+                ServiceRegistry.reports().getTotalPayByJobTitle(y, m),
+                ServiceRegistry.reports().getTotalPayByDivision(y, m)
+        ), totals -> {
+            tblJob.setItems(FXCollections.observableArrayList(totals.get(0).entrySet()));
+            tblDiv.setItems(FXCollections.observableArrayList(totals.get(1).entrySet()));
+        }, "Report failed");
     }
 
     @FXML
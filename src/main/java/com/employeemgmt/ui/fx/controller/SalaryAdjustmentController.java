@@ -3,6 +3,8 @@ package com.employeemgmt.ui.fx.controller;
 import java.math.BigDecimal;
 
 import javafx.fxml.FXML;
+import javafx.scene.control.Button;
+import javafx.scene.control.ProgressIndicator;
 import javafx.scene.control.TextField;
 
 public class SalaryAdjustmentController extends BaseController {
@@ -10,18 +12,43 @@ public class SalaryAdjustmentController extends BaseController {
     @FXML private TextField txtMin;
     @FXML private TextField txtMax;
     @FXML private TextField txtPercent;
+    @FXML private ProgressIndicator progress;
+    @FXML private Button btnApply;
+
+    @Override
+    protected void reset() {
+        txtMin.clear();
+        txtMax.clear();
+        txtPercent.clear();
+        // reuse() cancelled any raise still running before calling this
+        btnApply.setDisable(false);
+    }
 
     @FXML
     private void onApply(){
+        BigDecimal min;
+        BigDecimal max;
+        BigDecimal percent;
         try{
-            int updated = ServiceRegistry.employees().increaseSalaryInRange(
-                    new BigDecimal(txtMin.getText()),
-                    new BigDecimal(txtMax.getText()),
-                    new BigDecimal(txtPercent.getText())
-            );
-
-            info(updated + " employees updated.");
-        }catch(Exception e){ error("Salary update failed",e);}
+            min = new BigDecimal(txtMin.getText());
+            max = new BigDecimal(txtMax.getText());
+            percent = new BigDecimal(txtPercent.getText());
+        }catch(Exception e){ error("Salary update failed",e); return; }
+
+        // A raise is a write: a second click must not start (or supersede) another one
+        if (btnApply.isDisabled()) {
+            return;
+        }
+        btnApply.setDisable(true);
+
+        runInBackground("apply", progress,
+                () -> ServiceRegistry.employees().increaseSalaryInRange(min, max, percent),
+                updated -> {
+                    btnApply.setDisable(false);
+                    info(updated + " employees updated.");
+                },
+                "Salary update failed",
+                () -> btnApply.setDisable(false));
     }
 
     @FXML
@@ -0,0 +1,177 @@
+package com.emp_mgmt;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+class ConnectionPoolTest {
+
+    // Every physical connection the pool opened, in order
+    private final List<Connection> opened = new ArrayList<>();
+    private DbInternals.Pool pool;
+
+    @AfterEach
+    void tearDown() throws SQLException {
+        if (pool != null) {
+            pool.shutdown();
+        }
+    }
+
+    private Connection open() throws SQLException {
+        Connection physical = mock(Connection.class);
+        when(physical.getAutoCommit()).thenReturn(true);
+        when(physical.isValid(anyInt())).thenReturn(true);
+        opened.add(physical);
+        return physical;
+    }
+
+    private DbInternals.Pool newPool(int maxSize, long borrowTimeoutMs, long validationIdleMs) {
+        return new DbInternals.Pool(this::open, maxSize, maxSize, borrowTimeoutMs, validationIdleMs, 0);
+    }
+
+    @Test
+    void testCloseReturnsConnectionToPool() throws SQLException {
+        pool = newPool(2, 1_000, 60_000);
+
+        Connection first = pool.borrow();
+        assertEquals(1, pool.getActiveCount());
+        first.close();
+
+        assertEquals(0, pool.getActiveCount());
+        assertEquals(1, pool.getIdleCount());
+        assertTrue(first.isClosed());
+        verify(opened.get(0), never()).close();
+
+        try (Connection second = pool.borrow()) {
+            assertNotSame(first, second);
+            assertEquals(1, opened.size());
+        }
+    }
+
+    @Test
+    void testClosingTwiceReturnsConnectionOnce() throws SQLException {
+        pool = newPool(1, 1_000, 60_000);
+
+        Connection conn = pool.borrow();
+        conn.close();
+        conn.close();
+
+        assertEquals(0, pool.getActiveCount());
+        assertEquals(1, pool.getIdleCount());
+    }
+
+    @Test
+    void testReturnedConnectionRejectsFurtherUse() throws SQLException {
+        pool = newPool(1, 1_000, 60_000);
+
+        Connection conn = pool.borrow();
+        conn.close();
+
+        assertThrows(SQLException.class, conn::createStatement);
+    }
+
+    @Test
+    void testOpenTransactionIsRolledBackOnReturn() throws SQLException {
+        pool = newPool(1, 1_000, 60_000);
+
+        Connection conn = pool.borrow();
+        conn.setAutoCommit(false);
+        when(opened.get(0).getAutoCommit()).thenReturn(false);
+        conn.close();
+
+        verify(opened.get(0)).rollback();
+        verify(opened.get(0)).setAutoCommit(true);
+        assertEquals(1, pool.getIdleCount());
+    }
+
+    @Test
+    void testBorrowTimesOutWhenPoolIsExhausted() throws SQLException {
+        pool = newPool(1, 50, 60_000);
+
+        Connection held = pool.borrow();
+        long start = System.nanoTime();
+        SQLException e = assertThrows(SQLException.class, pool::borrow);
+        long waitedMs = (System.nanoTime() - start) / 1_000_000;
+
+        assertTrue(e.getMessage().startsWith("Timed out after 50 ms"), e.getMessage());
+        assertTrue(waitedMs >= 40, "waited " + waitedMs + " ms");
+        assertEquals(1, opened.size());
+
+        held.close();
+        try (Connection conn = pool.borrow()) {
+            assertNotNull(conn);
+        }
+    }
+
+    @Test
+    void testFailedOpenReleasesPermit() throws SQLException {
+        pool = new DbInternals.Pool(() -> {
+            throw new SQLException("Connection refused");
+        }, 1, 1, 50, 60_000, 0);
+
+        assertThrows(SQLException.class, pool::borrow);
+        // A leaked permit would make the second borrow time out instead
+        SQLException e = assertThrows(SQLException.class, pool::borrow);
+        assertEquals("Connection refused", e.getMessage());
+        assertEquals(0, pool.getActiveCount());
+    }
+
+    @Test
+    void testRecentlyReturnedConnectionIsNotValidated() throws SQLException {
+        pool = newPool(1, 1_000, 60_000);
+
+        pool.borrow().close();
+        pool.borrow().close();
+
+        verify(opened.get(0), never()).isValid(anyInt());
+        assertEquals(1, opened.size());
+    }
+
+    @Test
+    void testStaleIdleConnectionIsValidatedAndReplaced() throws SQLException {
+        pool = newPool(1, 1_000, 0);
+
+        pool.borrow().close();
+        when(opened.get(0).isValid(anyInt())).thenReturn(false);
+
+        try (Connection conn = pool.borrow()) {
+            assertNotNull(conn);
+        }
+
+        verify(opened.get(0)).isValid(anyInt());
+        verify(opened.get(0)).close();
+        assertEquals(2, opened.size());
+    }
+
+    @Test
+    void testStaleIdleConnectionThatIsValidIsReused() throws SQLException {
+        pool = newPool(1, 1_000, 0);
+
+        pool.borrow().close();
+        pool.borrow().close();
+
+        verify(opened.get(0)).isValid(anyInt());
+        verify(opened.get(0), never()).close();
+        assertEquals(1, opened.size());
+    }
+
+    @Test
+    void testShutdownClosesIdleConnectionsAndRejectsBorrows() throws SQLException {
+        pool = newPool(2, 1_000, 60_000);
+
+        pool.borrow().close();
+        pool.shutdown();
+
+        verify(opened.get(0)).close();
+        assertEquals(0, pool.getIdleCount());
+        assertThrows(SQLException.class, pool::borrow);
+    }
+}
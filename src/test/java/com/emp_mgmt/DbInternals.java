@@ -0,0 +1,161 @@
+package com.emp_mgmt;
+
+import com.employeemgmt.db.DatabaseConnectionManager;
+import com.employeemgmt.db.StatementCacheStats;
+
+import java.lang.reflect.Constructor;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.nio.file.Path;
+import java.sql.Connection;
+import java.sql.SQLException;
+
+/**
+ * Reflective handles on the package-private classes of com.employeemgmt.db, so their tests
+ * can live with the others without widening what the db package exposes.
+ */
+final class DbInternals {
+
+    private static final String DB_PACKAGE = "com.employeemgmt.db.";
+
+    /**
+     * Stands in for ConnectionPool.ConnectionFactory.
+     */
+    @FunctionalInterface
+    interface Factory {
+        Connection create() throws SQLException;
+    }
+
+    private DbInternals() {
+    }
+
+    /**
+     * A ConnectionPool without a slow query log.
+     */
+    static final class Pool {
+        private final Object pool;
+
+        Pool(Factory factory, int maxSize, int maxIdle, long borrowTimeoutMs, long validationIdleMs,
+             int statementCacheSize) {
+            Class<?> poolClass = type("ConnectionPool");
+            this.pool = construct(poolClass,
+                    new Class<?>[]{type("ConnectionPool$ConnectionFactory"), int.class, int.class,
+                            long.class, long.class, int.class, type("SlowQueryLog")},
+                    connectionFactory(factory), maxSize, maxIdle, borrowTimeoutMs, validationIdleMs,
+                    statementCacheSize, null);
+        }
+
+        Connection borrow() throws SQLException {
+            return (Connection) invoke(pool, "borrow", new Class<?>[0]);
+        }
+
+        void shutdown() throws SQLException {
+            invoke(pool, "shutdown", new Class<?>[0]);
+        }
+
+        int getIdleCount() throws SQLException {
+            return (Integer) invoke(pool, "getIdleCount", new Class<?>[0]);
+        }
+
+        int getActiveCount() throws SQLException {
+            return (Integer) invoke(pool, "getActiveCount", new Class<?>[0]);
+        }
+
+        StatementCacheStats getStatementCacheStats() throws SQLException {
+            return (StatementCacheStats) invoke(pool, "getStatementCacheStats", new Class<?>[0]);
+        }
+
+        /**
+         * UnitOfWork.run(pool, work).
+         */
+        @SuppressWarnings("unchecked")
+        <T> T inTransaction(DatabaseConnectionManager.TransactionalWork<T> work) throws SQLException {
+            return (T) invoke(null, type("UnitOfWork"), "run",
+                    new Class<?>[]{type("ConnectionPool"), DatabaseConnectionManager.TransactionalWork.class},
+                    pool, work);
+        }
+    }
+
+    /**
+     * UnitOfWork.current().
+     */
+    static Connection currentTransaction() throws SQLException {
+        return (Connection) invoke(null, type("UnitOfWork"), "current", new Class<?>[0]);
+    }
+
+    /**
+     * A SlowQueryLog; explainConnections may be null.
+     */
+    static final class SlowQueries {
+        private final Object log;
+
+        SlowQueries(long thresholdMillis, Path file, Factory explainConnections) {
+            this.log = construct(type("SlowQueryLog"),
+                    new Class<?>[]{long.class, Path.class, type("ConnectionPool$ConnectionFactory")},
+                    thresholdMillis, file, explainConnections != null ? connectionFactory(explainConnections) : null);
+        }
+
+        Object wrap(Method method, Object[] args, Object result) throws SQLException {
+            return invoke(log, "wrap", new Class<?>[]{Method.class, Object[].class, Object.class},
+                    method, args, result);
+        }
+
+        void close() throws SQLException {
+            invoke(log, "close", new Class<?>[0]);
+        }
+    }
+
+    private static Class<?> type(String name) {
+        try {
+            return Class.forName(DB_PACKAGE + name);
+        } catch (ClassNotFoundException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private static Object connectionFactory(Factory factory) {
+        Class<?> factoryClass = type("ConnectionPool$ConnectionFactory");
+        return Proxy.newProxyInstance(factoryClass.getClassLoader(), new Class<?>[]{factoryClass},
+                (proxy, method, args) -> switch (method.getName()) {
+                    case "create" -> factory.create();
+                    case "equals" -> proxy == args[0];
+                    case "hashCode" -> System.identityHashCode(proxy);
+                    default -> "ConnectionFactory[" + factory + "]";
+                });
+    }
+
+    private static Object construct(Class<?> type, Class<?>[] parameterTypes, Object... args) {
+        try {
+            Constructor<?> constructor = type.getDeclaredConstructor(parameterTypes);
+            constructor.setAccessible(true);
+            return constructor.newInstance(args);
+        } catch (ReflectiveOperationException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private static Object invoke(Object target, String name, Class<?>[] parameterTypes, Object... args)
+            throws SQLException {
+        return invoke(target, target.getClass(), name, parameterTypes, args);
+    }
+
+    private static Object invoke(Object target, Class<?> type, String name, Class<?>[] parameterTypes,
+                                 Object... args) throws SQLException {
+        try {
+            Method method = type.getDeclaredMethod(name, parameterTypes);
+            method.setAccessible(true);
+            return method.invoke(target, args);
+        } catch (InvocationTargetException e) {
+            if (e.getCause() instanceof SQLException sqlException) {
+                throw sqlException;
+            }
+            if (e.getCause() instanceof RuntimeException runtimeException) {
+                throw runtimeException;
+            }
+            throw new IllegalStateException(e.getCause());
+        } catch (ReflectiveOperationException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+}
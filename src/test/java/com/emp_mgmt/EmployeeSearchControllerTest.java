@@ -1,8 +1,10 @@
 package com.emp_mgmt;
 
+import com.employeemgmt.dao.Page;
 import com.employeemgmt.model.Employee;
 import com.employeemgmt.service.EmployeeService;
 import com.employeemgmt.service.ReportService;
+import com.employeemgmt.ui.fx.controller.BackgroundTasks;
 import com.employeemgmt.ui.fx.controller.EmployeeSearchController;
 import com.employeemgmt.ui.fx.controller.NavigationManager;
 import com.employeemgmt.ui.fx.controller.ServiceRegistry;
@@ -53,6 +55,9 @@ class EmployeeSearchControllerTest {
         
         // Initialize services
         ServiceRegistry.init(employeeService, reportService);
+
+        // Run controller service calls inline so results are ready after waitForFxEvents()
+        BackgroundTasks.setExecutor(Runnable::run);
         
         // Load FXML
         FXMLLoader loader = new FXMLLoader(
@@ -95,7 +100,7 @@ class EmployeeSearchControllerTest {
         Employee emp2 = new Employee(2, "Johnny", "Smith", "987654321", "johnny@example.com");
         List<Employee> employees = Arrays.asList(emp1, emp2);
         
-        when(employeeService.findByNameFragment(searchTerm)).thenReturn(employees);
+        when(employeeService.findByNameFragment(eq(searchTerm), isNull(), anyInt())).thenReturn(new Page<>(employees, null));
         cmbMode.setValue("Name");
         txtSearch.setText(searchTerm);
         
@@ -110,7 +115,7 @@ class EmployeeSearchControllerTest {
         }
         
         // Verify
-        verify(employeeService).findByNameFragment(searchTerm);
+        verify(employeeService).findByNameFragment(eq(searchTerm), isNull(), anyInt());
         assertEquals(2, table.getItems().size());
         assertTrue(table.getItems().contains(emp1));
         assertTrue(table.getItems().contains(emp2));
@@ -213,7 +218,7 @@ class EmployeeSearchControllerTest {
     @Test
     void testOnSearch_EmptyResults() throws SQLException {
         // Setup
-        when(employeeService.findByNameFragment("Nonexistent")).thenReturn(Collections.emptyList());
+        when(employeeService.findByNameFragment(eq("Nonexistent"), isNull(), anyInt())).thenReturn(new Page<>(Collections.emptyList(), null));
         cmbMode.setValue("Name");
         txtSearch.setText("Nonexistent");
         
@@ -228,14 +233,14 @@ class EmployeeSearchControllerTest {
         }
         
         // Verify
-        verify(employeeService).findByNameFragment("Nonexistent");
+        verify(employeeService).findByNameFragment(eq("Nonexistent"), isNull(), anyInt());
         assertTrue(table.getItems().isEmpty());
     }
 
     @Test
     void testOnSearch_ExceptionHandling() throws SQLException {
         // Setup
-        when(employeeService.findByNameFragment(anyString())).thenThrow(new SQLException("Database error"));
+        when(employeeService.findByNameFragment(anyString(), isNull(), anyInt())).thenThrow(new SQLException("Database error"));
         cmbMode.setValue("Name");
         txtSearch.setText("test");
         
@@ -251,7 +256,7 @@ class EmployeeSearchControllerTest {
             }
         });
         
-        verify(employeeService).findByNameFragment("test");
+        verify(employeeService).findByNameFragment(eq("test"), isNull(), anyInt());
     }
 
     @Test
@@ -311,7 +316,7 @@ class EmployeeSearchControllerTest {
         // Setup
         String searchTerm = "  John  ";
         Employee employee = new Employee(1, "John", "Doe", "123456789", "john@example.com");
-        when(employeeService.findByNameFragment("John")).thenReturn(Arrays.asList(employee));
+        when(employeeService.findByNameFragment(eq("John"), isNull(), anyInt())).thenReturn(new Page<>(Arrays.asList(employee), null));
         cmbMode.setValue("Name");
         txtSearch.setText(searchTerm);
         
@@ -326,7 +331,7 @@ class EmployeeSearchControllerTest {
         }
         
         // Verify - should trim whitespace
-        verify(employeeService).findByNameFragment("John");
+        verify(employeeService).findByNameFragment(eq("John"), isNull(), anyInt());
     }
 }
 
@@ -0,0 +1,143 @@
+package com.emp_mgmt;
+
+import com.employeemgmt.api.Json;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class JsonTest {
+
+    @Test
+    void testReadsLiterals() {
+        assertEquals(Boolean.TRUE, Json.read("true"));
+        assertEquals(Boolean.FALSE, Json.read(" false "));
+        assertNull(Json.read("null"));
+    }
+
+    @Test
+    void testReadsNumbersAsBigDecimal() {
+        assertEquals(new BigDecimal("0"), Json.read("0"));
+        assertEquals(new BigDecimal("-42"), Json.read("-42"));
+        assertEquals(new BigDecimal("65000.50"), Json.read("65000.50"));
+        assertEquals(new BigDecimal("1.5E+3"), Json.read("1.5e3"));
+        assertEquals(new BigDecimal("2E-2"), Json.read("2E-2"));
+    }
+
+    @Test
+    void testRejectsNumbersOutsideJsonGrammar() {
+        for (String number : List.of("+1", ".5", "1.", "01", "-", "1e", "1.2.3", "--1", "1e+")) {
+            assertThrows(IllegalArgumentException.class, () -> Json.read(number), number);
+        }
+    }
+
+    @Test
+    void testReadsEscapes() {
+        assertEquals("quote \" backslash \\ slash / tab \t newline \n return \r",
+                Json.read("\"quote \\\" backslash \\\\ slash \\/ tab \\t newline \\n return \\r\""));
+        assertEquals("\b\f", Json.read("\"\\b\\f\""));
+    }
+
+    @Test
+    void testReadsUnicodeEscapes() {
+        assertEquals("\u00e9", Json.read("\"\\u00e9\""));
+        assertEquals("\u00c9\u00c9", Json.read("\"\\u00C9\\u00c9\""));
+        // A surrogate pair is two escapes
+        assertEquals("\uD83D\uDE00", Json.read("\"\\uD83D\\uDE00\""));
+        assertEquals("\u0000", Json.read("\"\\u0000\""));
+    }
+
+    @Test
+    void testRejectsBadEscapes() {
+        assertThrows(IllegalArgumentException.class, () -> Json.read("\"\\x\""));
+        assertThrows(IllegalArgumentException.class, () -> Json.read("\"\\u12\""));
+        assertThrows(IllegalArgumentException.class, () -> Json.read("\"\\u00zz\""));
+        assertThrows(IllegalArgumentException.class, () -> Json.read("\"\\u+123\""));
+        assertThrows(IllegalArgumentException.class, () -> Json.read("\"ends in backslash\\"));
+    }
+
+    @Test
+    void testReadsNestedObjectsAndArrays() {
+        Object value = Json.read("""
+            {
+              "name": "Ada",
+              "ids": [1, 2, [3]],
+              "address": {"city": "Atlanta", "zip": null},
+              "empty": {},
+              "none": []
+            }
+            """);
+
+        Map<String, Object> expected = new LinkedHashMap<>();
+        expected.put("name", "Ada");
+        expected.put("ids", List.of(new BigDecimal("1"), new BigDecimal("2"), List.of(new BigDecimal("3"))));
+        Map<String, Object> address = new LinkedHashMap<>();
+        address.put("city", "Atlanta");
+        address.put("zip", null);
+        expected.put("address", address);
+        expected.put("empty", Map.of());
+        expected.put("none", List.of());
+        assertEquals(expected, value);
+        // Keys keep their order
+        assertEquals(List.of("name", "ids", "address", "empty", "none"),
+                new ArrayList<>(((Map<?, ?>) value).keySet()));
+    }
+
+    @Test
+    void testRejectsMalformedInput() {
+        List<String> inputs = List.of(
+                "", "   ", "{", "}", "[", "[1,", "[1 2]", "[1,]", "{\"a\"}", "{\"a\":}", "{\"a\":1,}",
+                "{a:1}", "{\"a\":1 \"b\":2}", "\"unterminated", "tru", "nul", "falsy", "{} {}", "[1]]", "@");
+        for (String input : inputs) {
+            IllegalArgumentException e = assertThrows(IllegalArgumentException.class, () -> Json.read(input), input);
+            assertTrue(e.getMessage().startsWith("Invalid JSON at position "), e.getMessage());
+        }
+    }
+
+    @Test
+    void testRejectsExcessiveNesting() {
+        String deep = "[".repeat(100_000) + "]".repeat(100_000);
+
+        assertThrows(IllegalArgumentException.class, () -> Json.read(deep));
+        assertNotNull(Json.read("[".repeat(100) + "]".repeat(100)));
+    }
+
+    @Test
+    void testWritesValues() {
+        Map<String, Object> value = new LinkedHashMap<>();
+        value.put("id", 7);
+        value.put("salary", new BigDecimal("1E+3"));
+        value.put("active", true);
+        value.put("start", LocalDate.of(2025, 1, 31));
+        value.put("tags", Arrays.asList("a", null));
+
+        assertEquals("{\"id\":7,\"salary\":1000,\"active\":true,\"start\":\"2025-01-31\",\"tags\":[\"a\",null]}",
+                Json.write(value));
+    }
+
+    @Test
+    void testWritesEscapes() {
+        assertEquals("\"a\\\"b\\\\c\\nd\\te\\u0001\"", Json.write("a\"b\\c\nd\te\u0001"));
+    }
+
+    @Test
+    void testRoundTrip() {
+        String text = "He said \"hi\" \\ \u00e9\u0007\n";
+        Map<String, Object> value = new LinkedHashMap<>();
+        value.put(text, List.of(text, new BigDecimal("-0.25")));
+
+        assertEquals(value, Json.read(Json.write(value)));
+    }
+
+    @Test
+    void testWriteRejectsUnknownTypes() {
+        assertThrows(IllegalArgumentException.class, () -> Json.write(new Object()));
+    }
+}
@@ -0,0 +1,265 @@
+package com.emp_mgmt;
+
+import com.employeemgmt.dao.Page;
+import com.employeemgmt.ui.fx.controller.BackgroundTasks;
+import javafx.collections.ListChangeListener;
+import javafx.collections.ObservableList;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.testfx.framework.junit5.ApplicationExtension;
+import org.testfx.util.WaitForAsyncUtils;
+
+import java.lang.reflect.Constructor;
+import java.lang.reflect.Proxy;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Queue;
+import java.util.Set;
+import java.util.concurrent.Callable;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@ExtendWith(ApplicationExtension.class)
+class LazyPagedListTest {
+
+    private static final int SIZE = 100;
+    private static final int BLOCK_SIZE = 10;
+
+    // Loads submitted by the list, run on the FX thread when the test says so
+    private final Queue<Runnable> pending = new ArrayDeque<>();
+    // Every call made on the source, e.g. "next:row:20" or "pageTokens"
+    private final List<String> calls = new ArrayList<>();
+    private final List<Exception> errors = new ArrayList<>();
+    private final Set<String> failingTokens = new HashSet<>();
+
+    /**
+     * Rows are "row0" to "row99". Blocks continue from the nextToken of the block before as
+     * "row:N", while the page token snapshot hands out "start:N", so a test can tell them apart.
+     */
+    private Page<String> next(String pageToken, int blockSize) throws Exception {
+        calls.add("next:" + pageToken);
+        if (failingTokens.remove(String.valueOf(pageToken))) {
+            throw new Exception("Connection reset");
+        }
+        int from = pageToken == null ? 0 : Integer.parseInt(pageToken.substring(pageToken.indexOf(':') + 1));
+        int to = Math.min(SIZE, from + blockSize);
+        List<String> rows = new ArrayList<>();
+        for (int i = from; i < to; i++) {
+            rows.add("row" + i);
+        }
+        return new Page<>(rows, to < SIZE ? "row:" + to : null);
+    }
+
+    private List<String> pageTokens(int blockSize) {
+        calls.add("pageTokens");
+        List<String> tokens = new ArrayList<>();
+        for (int start = blockSize; start < SIZE; start += blockSize) {
+            tokens.add("start:" + start);
+        }
+        return tokens;
+    }
+
+    @BeforeEach
+    void setUp() {
+        BackgroundTasks.setExecutor(pending::add);
+    }
+
+    @AfterEach
+    void tearDown() {
+        BackgroundTasks.setExecutor(null);
+    }
+
+    @SuppressWarnings("unchecked")
+    private ObservableList<String> newList(int maxBlocks) throws Exception {
+        Class<?> listClass = Class.forName("com.employeemgmt.ui.fx.controller.LazyPagedList");
+        Class<?> sourceClass = Class.forName("com.employeemgmt.ui.fx.controller.LazyPagedList$Source");
+        Object source = Proxy.newProxyInstance(sourceClass.getClassLoader(), new Class<?>[]{sourceClass},
+                (proxy, method, args) -> switch (method.getName()) {
+                    case "next" -> next((String) args[0], (Integer) args[1]);
+                    case "pageTokens" -> pageTokens((Integer) args[0]);
+                    default -> throw new UnsupportedOperationException(method.getName());
+                });
+        Constructor<?> constructor = listClass.getDeclaredConstructor(sourceClass, Page.class,
+                int.class, int.class, int.class, Consumer.class);
+        constructor.setAccessible(true);
+        Page<String> firstPage = next(null, BLOCK_SIZE);
+        calls.clear();
+        Consumer<Exception> onError = errors::add;
+        return (ObservableList<String>) constructor.newInstance(source, firstPage, SIZE, BLOCK_SIZE, maxBlocks, onError);
+    }
+
+    private static <R> R onFx(Callable<R> action) throws Exception {
+        return WaitForAsyncUtils.waitFor(5, TimeUnit.SECONDS, WaitForAsyncUtils.asyncFx(action));
+    }
+
+    private String get(ObservableList<String> list, int index) throws Exception {
+        return onFx(() -> list.get(index));
+    }
+
+    /**
+     * Runs the loads submitted so far, and any they submit in turn, on the FX thread.
+     */
+    private void runPending() throws Exception {
+        onFx(() -> {
+            Runnable task;
+            while ((task = pending.poll()) != null) {
+                task.run();
+            }
+            return null;
+        });
+    }
+
+    @Test
+    void testFirstBlockIsServedWithoutLoading() throws Exception {
+        ObservableList<String> list = newList(4);
+
+        assertEquals(SIZE, list.size());
+        assertEquals("row0", get(list, 0));
+        assertEquals("row9", get(list, 9));
+        runPending();
+
+        // Only the prefetch of the next block, continuing from the first page
+        assertEquals(List.of("next:row:10"), calls);
+    }
+
+    @Test
+    void testRowsOfUnloadedBlockAreNullUntilLoaded() throws Exception {
+        ObservableList<String> list = newList(4);
+        List<ListChangeListener.Change<? extends String>> changes = new ArrayList<>();
+        list.addListener((ListChangeListener<String>) changes::add);
+
+        assertNull(get(list, 15));
+        runPending();
+
+        assertEquals("row15", get(list, 15));
+        assertFalse(changes.isEmpty());
+    }
+
+    @Test
+    void testScrollingDownPrefetchesNextBlock() throws Exception {
+        ObservableList<String> list = newList(4);
+
+        get(list, 0);
+        runPending();
+        get(list, 10);
+        runPending();
+        get(list, 20);
+        runPending();
+
+        assertEquals(List.of("next:row:10", "next:row:20", "next:row:30"), calls);
+    }
+
+    @Test
+    void testScrollingUpPrefetchesPreviousBlock() throws Exception {
+        ObservableList<String> list = newList(4);
+
+        get(list, 95);
+        runPending();
+        calls.clear();
+        get(list, 85);
+        runPending();
+
+        assertEquals(List.of("next:start:80", "next:start:70"), calls);
+        assertEquals("row85", get(list, 85));
+    }
+
+    @Test
+    void testPrefetchWaitsForBlockBeforeIt() throws Exception {
+        ObservableList<String> list = newList(4);
+
+        // Block 1 is still loading, so block 2's token is not known yet
+        get(list, 10);
+        runPending();
+        assertEquals(List.of("next:row:10"), calls);
+
+        get(list, 11);
+        runPending();
+
+        assertEquals(List.of("next:row:10", "next:row:20"), calls);
+    }
+
+    @Test
+    void testJumpFetchesPageTokensOnceThenSeeks() throws Exception {
+        ObservableList<String> list = newList(4);
+
+        assertNull(get(list, 55));
+        runPending();
+        assertEquals("row55", get(list, 55));
+
+        get(list, 35);
+        runPending();
+
+        assertEquals("row35", get(list, 35));
+        assertEquals(1, calls.stream().filter("pageTokens"::equals).count());
+        assertTrue(calls.contains("next:start:50"), calls.toString());
+        assertTrue(calls.contains("next:start:30"), calls.toString());
+    }
+
+    @Test
+    void testKeysetContinuationAfterJump() throws Exception {
+        ObservableList<String> list = newList(4);
+
+        get(list, 55);
+        runPending();
+        calls.clear();
+        get(list, 65);
+        runPending();
+
+        // Block 7 continues from block 6's nextToken rather than the token snapshot
+        assertEquals(List.of("next:row:70"), calls);
+    }
+
+    @Test
+    void testLeastRecentlyUsedBlockIsEvicted() throws Exception {
+        ObservableList<String> list = newList(3);
+        List<String> evicted = new ArrayList<>();
+        list.addListener((ListChangeListener<String>) change -> {
+            while (change.next()) {
+                change.getRemoved().stream().filter(row -> row != null).forEach(evicted::add);
+            }
+        });
+
+        for (int index = 0; index <= 20; index += 10) {
+            get(list, index);
+            runPending();
+        }
+
+        // Blocks 1, 2 and 3 are kept; block 0 was used least recently
+        assertEquals(10, evicted.size());
+        assertEquals("row0", evicted.get(0));
+        assertEquals("row25", get(list, 25));
+
+        calls.clear();
+        assertNull(get(list, 5));
+        runPending();
+
+        assertEquals("row5", get(list, 5));
+        assertTrue(calls.contains("next:null"), calls.toString());
+    }
+
+    @Test
+    void testFailedBlockIsRetriedOnceViewMoves() throws Exception {
+        ObservableList<String> list = newList(4);
+        failingTokens.add("row:10");
+
+        get(list, 0);
+        runPending();
+        assertEquals(1, errors.size());
+
+        get(list, 5);
+        runPending();
+        assertEquals(List.of("next:row:10"), calls);
+
+        assertNull(get(list, 10));
+        runPending();
+
+        assertEquals("row10", get(list, 10));
+        assertEquals(List.of("next:row:10", "next:row:10"), calls);
+    }
+}
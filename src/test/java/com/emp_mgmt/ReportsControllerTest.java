@@ -2,6 +2,7 @@ package com.emp_mgmt;
 
 import com.employeemgmt.service.EmployeeService;
 import com.employeemgmt.service.ReportService;
+import com.employeemgmt.ui.fx.controller.BackgroundTasks;
 import com.employeemgmt.ui.fx.controller.ReportsController;
 import com.employeemgmt.ui.fx.controller.ServiceRegistry;
 import javafx.fxml.FXMLLoader;
@@ -50,6 +51,9 @@ class ReportsControllerTest {
         
         // Initialize services
         ServiceRegistry.init(employeeService, reportService);
+
+        // Run controller service calls inline so results are ready after waitForFxEvents()
+        BackgroundTasks.setExecutor(Runnable::run);
         
         // Load FXML
         FXMLLoader loader = new FXMLLoader(
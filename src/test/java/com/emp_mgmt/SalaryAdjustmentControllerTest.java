@@ -2,11 +2,13 @@ package com.emp_mgmt;
 
 import com.employeemgmt.service.EmployeeService;
 import com.employeemgmt.service.ReportService;
+import com.employeemgmt.ui.fx.controller.BackgroundTasks;
 import com.employeemgmt.ui.fx.controller.SalaryAdjustmentController;
 import com.employeemgmt.ui.fx.controller.ServiceRegistry;
 import javafx.fxml.FXMLLoader;
 import javafx.scene.Parent;
 import javafx.scene.Scene;
+import javafx.scene.control.Button;
 import javafx.scene.control.TextField;
 import javafx.stage.Stage;
 import org.junit.jupiter.api.BeforeEach;
@@ -39,6 +41,7 @@ class SalaryAdjustmentControllerTest {
     private TextField txtMin;
     private TextField txtMax;
     private TextField txtPercent;
+    private Button btnApply;
 
     @Start
     void start(Stage stage) throws Exception {
@@ -46,6 +49,9 @@ class SalaryAdjustmentControllerTest {
         
         // Initialize services
         ServiceRegistry.init(employeeService, reportService);
+
+        // Run controller service calls inline so results are ready after waitForFxEvents()
+        BackgroundTasks.setExecutor(Runnable::run);
         
         // Load FXML
         FXMLLoader loader = new FXMLLoader(
@@ -62,6 +68,7 @@ class SalaryAdjustmentControllerTest {
         txtMin = (TextField) root.lookup("#txtMin");
         txtMax = (TextField) root.lookup("#txtMax");
         txtPercent = (TextField) root.lookup("#txtPercent");
+        btnApply = (Button) root.lookup("#btnApply");
     }
 
     @BeforeEach
@@ -201,6 +208,59 @@ class SalaryAdjustmentControllerTest {
         verify(employeeService).increaseSalaryInRange(min, max, percent);
     }
 
+    @Test
+    void testOnApply_ButtonReenabledAfterFailure() throws SQLException {
+        BigDecimal min = new BigDecimal("50000.00");
+        BigDecimal max = new BigDecimal("100000.00");
+        BigDecimal percent = new BigDecimal("5.0");
+
+        when(employeeService.increaseSalaryInRange(min, max, percent))
+            .thenThrow(new SQLException("Database error"))
+            .thenReturn(3);
+
+        txtMin.setText("50000.00");
+        txtMax.setText("100000.00");
+        txtPercent.setText("5.0");
+
+        try {
+            java.lang.reflect.Method method = SalaryAdjustmentController.class.getDeclaredMethod("onApply");
+            method.setAccessible(true);
+            method.invoke(controller);
+            WaitForAsyncUtils.waitForFxEvents();
+            assertFalse(btnApply.isDisabled());
+
+            method.invoke(controller);
+            WaitForAsyncUtils.waitForFxEvents();
+            assertFalse(btnApply.isDisabled());
+        } catch (Exception e) {
+            fail("Failed to invoke onApply method: " + e.getMessage());
+        }
+
+        // The retry after the failure runs
+        verify(employeeService, times(2)).increaseSalaryInRange(min, max, percent);
+    }
+
+    @Test
+    void testOnApply_IgnoredWhileRaiseInFlight() throws SQLException {
+        txtMin.setText("50000.00");
+        txtMax.setText("100000.00");
+        txtPercent.setText("5.0");
+        btnApply.setDisable(true);
+
+        try {
+            java.lang.reflect.Method method = SalaryAdjustmentController.class.getDeclaredMethod("onApply");
+            method.setAccessible(true);
+            method.invoke(controller);
+            WaitForAsyncUtils.waitForFxEvents();
+        } catch (Exception e) {
+            fail("Failed to invoke onApply method: " + e.getMessage());
+        } finally {
+            btnApply.setDisable(false);
+        }
+
+        verify(employeeService, never()).increaseSalaryInRange(any(), any(), any());
+    }
+
     @Test
     void testOnApply_DecimalValues() throws SQLException {
         // Setup
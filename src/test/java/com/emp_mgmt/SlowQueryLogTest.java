@@ -0,0 +1,191 @@
+package com.emp_mgmt;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.sql.Connection;
+import java.sql.Date;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.ResultSetMetaData;
+import java.sql.Statement;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+class SlowQueryLogTest {
+
+    private static final String SSN = "123-45-6789";
+
+    @TempDir
+    Path dir;
+
+    private Path logFile;
+    private DbInternals.SlowQueries slowQueries;
+    private Connection connection;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        logFile = dir.resolve("slow.log");
+        connection = mock(Connection.class);
+        when(connection.prepareStatement(anyString())).thenAnswer(invocation -> mock(PreparedStatement.class));
+        when(connection.createStatement()).thenAnswer(invocation -> mock(Statement.class));
+    }
+
+    @AfterEach
+    void tearDown() throws Exception {
+        if (slowQueries != null) {
+            slowQueries.close();
+        }
+    }
+
+    private PreparedStatement prepare(String sql) throws Exception {
+        return (PreparedStatement) slowQueries.wrap(Connection.class.getMethod("prepareStatement", String.class),
+                new Object[]{sql}, connection.prepareStatement(sql));
+    }
+
+    private Statement createStatement() throws Exception {
+        return (Statement) slowQueries.wrap(Connection.class.getMethod("createStatement"),
+                new Object[0], connection.createStatement());
+    }
+
+    private String log() throws Exception {
+        return Files.readString(Path.of(logFile + ".0"), StandardCharsets.UTF_8);
+    }
+
+    @Test
+    void testSsnParameterIsMasked() throws Exception {
+        slowQueries = new DbInternals.SlowQueries(0, logFile, null);
+
+        PreparedStatement ps = prepare("SELECT * FROM employees WHERE SSN = ?");
+        ps.setString(1, SSN);
+        ps.executeQuery();
+
+        String log = log();
+        assertTrue(log.contains("params: [1] '***-**-****'"), log);
+        assertFalse(log.contains(SSN), log);
+    }
+
+    @Test
+    void testSsnWithoutDashesIsMasked() throws Exception {
+        slowQueries = new DbInternals.SlowQueries(0, logFile, null);
+
+        PreparedStatement ps = prepare("SELECT * FROM employees WHERE SSN = ?");
+        ps.setString(1, "123456789");
+        ps.executeQuery();
+
+        assertTrue(log().contains("params: [1] '***-**-****'"), log());
+    }
+
+    @Test
+    void testSsnInLikePatternIsMasked() throws Exception {
+        slowQueries = new DbInternals.SlowQueries(0, logFile, null);
+
+        PreparedStatement ps = prepare("SELECT * FROM employees WHERE SSN LIKE ?");
+        ps.setString(1, "%" + SSN + "%");
+        ps.executeQuery();
+
+        String log = log();
+        assertTrue(log.contains("params: [1] '%***-**-****%'"), log);
+        assertFalse(log.contains(SSN), log);
+    }
+
+    @Test
+    void testSsnInFirstBatchRowIsMasked() throws Exception {
+        slowQueries = new DbInternals.SlowQueries(0, logFile, null);
+
+        PreparedStatement ps = prepare("INSERT INTO employees (first_name, SSN) VALUES (?, ?)");
+        ps.setString(1, "John");
+        ps.setString(2, SSN);
+        ps.addBatch();
+        ps.setString(1, "Jane");
+        ps.setString(2, "987-65-4321");
+        ps.addBatch();
+        ps.executeBatch();
+
+        String log = log();
+        assertTrue(log.contains("batch of 2 rows, first row: [1] 'John', [2] '***-**-****'"), log);
+        assertFalse(log.contains(SSN), log);
+        assertFalse(log.contains("987-65-4321"), log);
+    }
+
+    @Test
+    void testSsnInInlineSqlIsMasked() throws Exception {
+        slowQueries = new DbInternals.SlowQueries(0, logFile, null);
+
+        createStatement().executeQuery("SELECT * FROM employees WHERE SSN = '" + SSN + "'");
+
+        String log = log();
+        assertTrue(log.contains("SQL: SELECT * FROM employees WHERE SSN = '***-**-****'"), log);
+        assertFalse(log.contains(SSN), log);
+    }
+
+    @Test
+    void testSsnInExplainOutputIsMasked() throws Exception {
+        ResultSetMetaData meta = mock(ResultSetMetaData.class);
+        when(meta.getColumnCount()).thenReturn(1);
+        when(meta.getColumnLabel(1)).thenReturn("PLAN");
+        ResultSet plan = mock(ResultSet.class);
+        when(plan.getMetaData()).thenReturn(meta);
+        when(plan.next()).thenReturn(true, false);
+        when(plan.getString(1)).thenReturn("SELECT ... WHERE SSN = '" + SSN + "' /* index scan */");
+        PreparedStatement explain = mock(PreparedStatement.class);
+        when(explain.executeQuery()).thenReturn(plan);
+        Connection explainConnection = mock(Connection.class);
+        when(explainConnection.prepareStatement(startsWith("EXPLAIN "))).thenReturn(explain);
+        slowQueries = new DbInternals.SlowQueries(0, logFile, () -> explainConnection);
+
+        PreparedStatement ps = prepare("SELECT * FROM employees WHERE SSN = ?");
+        ps.setString(1, SSN);
+        ps.executeQuery();
+
+        String log = waitForLog("#1 EXPLAIN");
+        assertTrue(log.contains("WHERE SSN = '***-**-****' /* index scan */"), log);
+        assertFalse(log.contains(SSN), log);
+        verify(explain).setObject(1, SSN);
+        verify(explainConnection).close();
+    }
+
+    @Test
+    void testOrdinaryNumbersAreNotMasked() throws Exception {
+        slowQueries = new DbInternals.SlowQueries(0, logFile, null);
+
+        PreparedStatement ps = prepare("SELECT * FROM payroll WHERE employee_id = ? AND amount = ? AND pay_period_end = ? AND payroll_id = ?");
+        ps.setInt(1, 42);
+        ps.setBigDecimal(2, new BigDecimal("65000.00"));
+        ps.setDate(3, Date.valueOf("2025-01-31"));
+        ps.setLong(4, 1234567890L);
+        ps.executeQuery();
+
+        String log = log();
+        assertTrue(log.contains("params: [1] 42, [2] 65000.00, [3] 2025-01-31, [4] 1234567890"), log);
+        assertFalse(log.contains("***"), log);
+    }
+
+    @Test
+    void testFastStatementsAreNotLogged() throws Exception {
+        slowQueries = new DbInternals.SlowQueries(60_000, logFile, null);
+
+        PreparedStatement ps = prepare("SELECT 1");
+        ps.executeQuery();
+
+        assertFalse(Files.exists(Path.of(logFile + ".0")));
+    }
+
+    private String waitForLog(String expected) throws Exception {
+        long deadline = System.currentTimeMillis() + 5_000;
+        String log = log();
+        while (!log.contains(expected) && System.currentTimeMillis() < deadline) {
+            Thread.sleep(20);
+            log = log();
+        }
+        return log;
+    }
+}
@@ -0,0 +1,172 @@
+package com.emp_mgmt;
+
+import com.employeemgmt.db.SqlScriptExecutor;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.io.StringReader;
+import java.sql.BatchUpdateException;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+class SqlScriptExecutorTest {
+
+    private static final SqlScriptExecutor.ErrorHandler SKIP_ALL = (statement, e) -> true;
+
+    private Connection connection;
+    private Statement statement;
+
+    // Every statement handed to the driver, batched or not, in order
+    private final List<String> sent = new ArrayList<>();
+    private final List<String> pendingBatch = new ArrayList<>();
+
+    @BeforeEach
+    void setUp() throws SQLException {
+        connection = mock(Connection.class);
+        statement = mock(Statement.class);
+        when(connection.createStatement()).thenReturn(statement);
+        when(connection.getAutoCommit()).thenReturn(true);
+
+        doAnswer(invocation -> {
+            pendingBatch.add(invocation.getArgument(0));
+            return null;
+        }).when(statement).addBatch(anyString());
+        doAnswer(invocation -> {
+            pendingBatch.clear();
+            return null;
+        }).when(statement).clearBatch();
+        when(statement.execute(anyString())).thenAnswer(invocation -> {
+            sent.add(invocation.getArgument(0));
+            return false;
+        });
+    }
+
+    /**
+     * Makes executeBatch behave like a driver that stops at the first statement containing "bad".
+     */
+    private void failBatchesAtBadStatements() throws SQLException {
+        when(statement.executeBatch()).thenAnswer(invocation -> {
+            List<String> batch = new ArrayList<>(pendingBatch);
+            pendingBatch.clear();
+            int[] counts = new int[batch.size()];
+            for (int i = 0; i < batch.size(); i++) {
+                sent.add(batch.get(i));
+                if (batch.get(i).contains("bad")) {
+                    throw new BatchUpdateException("Duplicate entry", "23000", 1062, Arrays.copyOf(counts, i));
+                }
+                counts[i] = 1;
+            }
+            return counts;
+        });
+    }
+
+    @Test
+    void testInsertsAreBatchedAndOrderIsKept() throws Exception {
+        failBatchesAtBadStatements();
+        String script = "INSERT INTO t VALUES (1);\nINSERT INTO t VALUES (2);\nUPDATE t SET x = 1;\nINSERT INTO t VALUES (3);";
+
+        int succeeded = new SqlScriptExecutor(10, 0, SqlScriptExecutor.FAIL_FAST)
+                .execute(connection, new StringReader(script));
+
+        assertEquals(4, succeeded);
+        assertEquals(List.of("INSERT INTO t VALUES (1)", "INSERT INTO t VALUES (2)",
+                "UPDATE t SET x = 1", "INSERT INTO t VALUES (3)"), sent);
+        verify(statement, times(2)).executeBatch();
+    }
+
+    @Test
+    void testPartialBatchFailureRunsEachStatementOnce() throws Exception {
+        failBatchesAtBadStatements();
+        String script = """
+            INSERT INTO t VALUES (1);
+            INSERT INTO t VALUES (2);
+            INSERT INTO t VALUES ('bad');
+            INSERT INTO t VALUES (4);
+            INSERT INTO t VALUES (5);
+            """;
+        List<String> skipped = new ArrayList<>();
+
+        int succeeded = new SqlScriptExecutor(10, 0, (sql, e) -> skipped.add(sql))
+                .execute(connection, new StringReader(script));
+
+        assertEquals(4, succeeded);
+        assertEquals(List.of("INSERT INTO t VALUES ('bad')"), skipped);
+        assertEquals(List.of("INSERT INTO t VALUES (1)", "INSERT INTO t VALUES (2)", "INSERT INTO t VALUES ('bad')",
+                "INSERT INTO t VALUES (4)", "INSERT INTO t VALUES (5)"), sent);
+    }
+
+    @Test
+    void testSeveralFailuresInOneBatch() throws Exception {
+        failBatchesAtBadStatements();
+        String script = "INSERT INTO t VALUES ('bad1');INSERT INTO t VALUES (2);"
+                + "INSERT INTO t VALUES ('bad3');INSERT INTO t VALUES ('bad4');INSERT INTO t VALUES (5);";
+
+        int succeeded = new SqlScriptExecutor(10, 0, SKIP_ALL).execute(connection, new StringReader(script));
+
+        assertEquals(2, succeeded);
+        assertEquals(5, sent.size());
+        assertEquals(sent.stream().distinct().count(), sent.size());
+    }
+
+    @Test
+    void testBatchFailureWithAllUpdateCountsIsNotRetried() throws Exception {
+        // Drivers that keep going report every statement, marking failures with EXECUTE_FAILED
+        when(statement.executeBatch()).thenAnswer(invocation -> {
+            sent.addAll(pendingBatch);
+            pendingBatch.clear();
+            throw new BatchUpdateException("Duplicate entry", "23000", 1062,
+                    new int[] {1, Statement.EXECUTE_FAILED, 1});
+        });
+        String script = "INSERT INTO t VALUES (1);INSERT INTO t VALUES (2);INSERT INTO t VALUES (3);";
+        List<String> skipped = new ArrayList<>();
+
+        int succeeded = new SqlScriptExecutor(10, 0, (sql, e) -> skipped.add(sql))
+                .execute(connection, new StringReader(script));
+
+        assertEquals(2, succeeded);
+        assertEquals(List.of("INSERT INTO t VALUES (2)"), skipped);
+        assertEquals(3, sent.size());
+        verify(statement, times(1)).executeBatch();
+    }
+
+    @Test
+    void testBatchFailureIsRethrownWhenNotAccepted() throws Exception {
+        failBatchesAtBadStatements();
+        String script = "INSERT INTO t VALUES (1);INSERT INTO t VALUES ('bad');INSERT INTO t VALUES (3);";
+
+        SqlScriptExecutor executor = new SqlScriptExecutor(10, 0, SqlScriptExecutor.FAIL_FAST);
+
+        assertThrows(BatchUpdateException.class, () -> executor.execute(connection, new StringReader(script)));
+        assertFalse(sent.contains("INSERT INTO t VALUES (3)"));
+    }
+
+    @Test
+    void testFailedSingleStatementIsSkippedWhenAccepted() throws Exception {
+        when(statement.execute("CREATE INDEX i ON t(x)")).thenThrow(new SQLException("Duplicate key name", "42000", 1061));
+        String script = "CREATE TABLE t (x INT);CREATE INDEX i ON t(x);DROP TABLE u;";
+
+        int succeeded = new SqlScriptExecutor(10, 0, SKIP_ALL).execute(connection, new StringReader(script));
+
+        assertEquals(2, succeeded);
+        verify(statement).execute("DROP TABLE u");
+    }
+
+    @Test
+    void testCommitsEveryIntervalWhenAutoCommitIsOff() throws Exception {
+        when(connection.getAutoCommit()).thenReturn(false);
+        String script = "UPDATE t SET x = 1;UPDATE t SET x = 2;UPDATE t SET x = 3;UPDATE t SET x = 4;UPDATE t SET x = 5;";
+
+        new SqlScriptExecutor(10, 2, SqlScriptExecutor.FAIL_FAST).execute(connection, new StringReader(script));
+
+        // The fifth statement is left for the caller to commit
+        verify(connection, times(2)).commit();
+    }
+}
@@ -0,0 +1,171 @@
+package com.emp_mgmt;
+
+import com.employeemgmt.db.SqlScriptReader;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.io.StringReader;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class SqlScriptReaderTest {
+
+    private static List<String> read(String script) throws IOException {
+        List<String> statements = new ArrayList<>();
+        try (SqlScriptReader reader = new SqlScriptReader(new StringReader(script))) {
+            String statement;
+            while ((statement = reader.nextStatement()) != null) {
+                statements.add(statement);
+            }
+        }
+        return statements;
+    }
+
+    @Test
+    void testSplitsOnSemicolon() throws IOException {
+        List<String> statements = read("SELECT 1;\nSELECT 2;\n\n  SELECT 3");
+
+        assertEquals(List.of("SELECT 1", "SELECT 2", "SELECT 3"), statements);
+    }
+
+    @Test
+    void testSemicolonInsideSingleQuotes() throws IOException {
+        List<String> statements = read("INSERT INTO t VALUES ('a;b');SELECT 1;");
+
+        assertEquals(List.of("INSERT INTO t VALUES ('a;b')", "SELECT 1"), statements);
+    }
+
+    @Test
+    void testSemicolonInsideDoubleQuotes() throws IOException {
+        List<String> statements = read("INSERT INTO t VALUES (\"a;b\");SELECT 1;");
+
+        assertEquals(List.of("INSERT INTO t VALUES (\"a;b\")", "SELECT 1"), statements);
+    }
+
+    @Test
+    void testSemicolonInsideBackquotedIdentifier() throws IOException {
+        List<String> statements = read("SELECT `odd;name` FROM t;SELECT 1;");
+
+        assertEquals(List.of("SELECT `odd;name` FROM t", "SELECT 1"), statements);
+    }
+
+    @Test
+    void testDoubledQuotesStayInsideLiteral() throws IOException {
+        List<String> statements = read("INSERT INTO t VALUES ('it''s; fine');INSERT INTO t VALUES (\"say \"\"hi;\"\"\");");
+
+        assertEquals(List.of(
+                "INSERT INTO t VALUES ('it''s; fine')",
+                "INSERT INTO t VALUES (\"say \"\"hi;\"\"\")"), statements);
+    }
+
+    @Test
+    void testBackslashEscapesInsideQuotes() throws IOException {
+        List<String> statements = read("INSERT INTO t VALUES ('it\\'s; fine', \"a\\\";b\");SELECT 1;");
+
+        assertEquals(List.of("INSERT INTO t VALUES ('it\\'s; fine', \"a\\\";b\")", "SELECT 1"), statements);
+    }
+
+    @Test
+    void testBackslashDoesNotEscapeInsideBackquotes() throws IOException {
+        List<String> statements = read("SELECT `a\\` FROM t;SELECT 1;");
+
+        assertEquals(List.of("SELECT `a\\` FROM t", "SELECT 1"), statements);
+    }
+
+    @Test
+    void testDashDashSpaceIsComment() throws IOException {
+        List<String> statements = read("-- leading comment; not a statement\nSELECT 1; -- trailing; comment\nSELECT 2;");
+
+        assertEquals(List.of("SELECT 1", "SELECT 2"), statements);
+    }
+
+    @Test
+    void testDashDashWithoutSpaceIsNotComment() throws IOException {
+        List<String> statements = read("SELECT 5--1;\nSELECT 2;");
+
+        assertEquals(List.of("SELECT 5--1", "SELECT 2"), statements);
+    }
+
+    @Test
+    void testDashDashAtEndOfInputIsComment() throws IOException {
+        List<String> statements = read("SELECT 1;--");
+
+        assertEquals(List.of("SELECT 1"), statements);
+    }
+
+    @Test
+    void testHashComment() throws IOException {
+        List<String> statements = read("# comment; here\nSELECT 1; # another;\nSELECT 2;");
+
+        assertEquals(List.of("SELECT 1", "SELECT 2"), statements);
+    }
+
+    @Test
+    void testBlockCommentIsDropped() throws IOException {
+        List<String> statements = read("/* a; multi-line\n comment */SELECT/* inline; */1;");
+
+        assertEquals(List.of("SELECT 1"), statements);
+    }
+
+    @Test
+    void testVersionCommentIsKept() throws IOException {
+        List<String> statements = read("/*!40101 SET NAMES utf8mb4 */;\nSELECT /*+ MAX_EXECUTION_TIME(1000) */ 1;");
+
+        assertEquals(List.of("/*!40101 SET NAMES utf8mb4 */", "SELECT /*+ MAX_EXECUTION_TIME(1000) */ 1"), statements);
+    }
+
+    @Test
+    void testCommentMarkersInsideQuotesAreText() throws IOException {
+        List<String> statements = read("INSERT INTO t VALUES ('-- no', '# no', '/* no */');");
+
+        assertEquals(List.of("INSERT INTO t VALUES ('-- no', '# no', '/* no */')"), statements);
+    }
+
+    @Test
+    void testDelimiterChange() throws IOException {
+        String script = """
+            DELIMITER //
+            CREATE PROCEDURE p()
+            BEGIN
+                SELECT 1;
+                SELECT 2;
+            END//
+            DELIMITER ;
+            SELECT 3;
+            """;
+
+        List<String> statements = read(script);
+
+        // Line breaks become spaces; indentation inside the body is kept
+        assertEquals(2, statements.size());
+        assertEquals("CREATE PROCEDURE p() BEGIN SELECT 1; SELECT 2; END", statements.get(0).replaceAll("\\s+", " "));
+        assertEquals("SELECT 3", statements.get(1));
+    }
+
+    @Test
+    void testDelimiterCommandIsCaseInsensitive() throws IOException {
+        List<String> statements = read("delimiter $$\nSELECT 1$$\nSELECT 2;3$$\n");
+
+        assertEquals(List.of("SELECT 1", "SELECT 2;3"), statements);
+    }
+
+    @Test
+    void testDelimiterWithoutValueFails() {
+        assertThrows(IOException.class, () -> read("DELIMITER \n SELECT 1;"));
+    }
+
+    @Test
+    void testEmptyStatementsAreSkipped() throws IOException {
+        List<String> statements = read(";;\n  ;SELECT 1;;");
+
+        assertEquals(List.of("SELECT 1"), statements);
+    }
+
+    @Test
+    void testEmptyScript() throws IOException {
+        assertTrue(read("").isEmpty());
+        assertTrue(read("  -- only a comment\n").isEmpty());
+    }
+}
@@ -0,0 +1,147 @@
+package com.emp_mgmt;
+
+import com.employeemgmt.db.StatementCacheStats;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.HashMap;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+class StatementCacheTest {
+
+    private Connection physical;
+    // The driver statement behind each SQL string, prepared once
+    private final Map<String, PreparedStatement> prepared = new HashMap<>();
+    private DbInternals.Pool pool;
+
+    @BeforeEach
+    void setUp() throws SQLException {
+        physical = mock(Connection.class);
+        when(physical.getAutoCommit()).thenReturn(true);
+        when(physical.prepareStatement(anyString(), anyInt())).thenAnswer(invocation -> {
+            PreparedStatement statement = mock(PreparedStatement.class);
+            prepared.put(invocation.getArgument(0), statement);
+            return statement;
+        });
+    }
+
+    @AfterEach
+    void tearDown() throws SQLException {
+        pool.shutdown();
+    }
+
+    private void prepareAndClose(Connection conn, String sql) throws SQLException {
+        conn.prepareStatement(sql).close();
+    }
+
+    @Test
+    void testClosedStatementIsReused() throws SQLException {
+        pool = new DbInternals.Pool(() -> physical, 1, 1, 1_000, 60_000, 4);
+
+        try (Connection conn = pool.borrow()) {
+            prepareAndClose(conn, "SELECT 1");
+        }
+        try (Connection conn = pool.borrow()) {
+            prepareAndClose(conn, "SELECT 1");
+        }
+
+        verify(physical, times(1)).prepareStatement(eq("SELECT 1"), anyInt());
+        verify(prepared.get("SELECT 1"), never()).close();
+        verify(prepared.get("SELECT 1"), times(2)).clearParameters();
+        assertEquals(new StatementCacheStats(1, 1, 0), pool.getStatementCacheStats());
+    }
+
+    @Test
+    void testStatementStillOpenIsNotShared() throws SQLException {
+        pool = new DbInternals.Pool(() -> physical, 1, 1, 1_000, 60_000, 4);
+
+        try (Connection conn = pool.borrow();
+             PreparedStatement first = conn.prepareStatement("SELECT 1");
+             PreparedStatement second = conn.prepareStatement("SELECT 1")) {
+            assertNotSame(first, second);
+        }
+
+        verify(physical, times(2)).prepareStatement(eq("SELECT 1"), anyInt());
+    }
+
+    @Test
+    void testGeneratedKeysAreCachedSeparately() throws SQLException {
+        pool = new DbInternals.Pool(() -> physical, 1, 1, 1_000, 60_000, 4);
+
+        try (Connection conn = pool.borrow()) {
+            conn.prepareStatement("INSERT INTO t VALUES (1)").close();
+            conn.prepareStatement("INSERT INTO t VALUES (1)", Statement.RETURN_GENERATED_KEYS).close();
+        }
+
+        verify(physical).prepareStatement("INSERT INTO t VALUES (1)", Statement.NO_GENERATED_KEYS);
+        verify(physical).prepareStatement("INSERT INTO t VALUES (1)", Statement.RETURN_GENERATED_KEYS);
+        assertEquals(0, pool.getStatementCacheStats().hits());
+    }
+
+    @Test
+    void testLeastRecentlyUsedStatementIsClosedWhenFull() throws SQLException {
+        pool = new DbInternals.Pool(() -> physical, 1, 1, 1_000, 60_000, 2);
+
+        try (Connection conn = pool.borrow()) {
+            prepareAndClose(conn, "SELECT 'a'");
+            prepareAndClose(conn, "SELECT 'b'");
+            // Touching a makes b the least recently used
+            prepareAndClose(conn, "SELECT 'a'");
+            prepareAndClose(conn, "SELECT 'c'");
+        }
+
+        verify(prepared.get("SELECT 'b'")).close();
+        verify(prepared.get("SELECT 'a'"), never()).close();
+        verify(prepared.get("SELECT 'c'"), never()).close();
+        assertEquals(new StatementCacheStats(1, 3, 1), pool.getStatementCacheStats());
+    }
+
+    @Test
+    void testStatementWithChangedSettingsIsNotReused() throws SQLException {
+        pool = new DbInternals.Pool(() -> physical, 1, 1, 1_000, 60_000, 4);
+
+        try (Connection conn = pool.borrow()) {
+            try (PreparedStatement ps = conn.prepareStatement("SELECT 1")) {
+                ps.setFetchSize(500);
+            }
+            prepareAndClose(conn, "SELECT 1");
+        }
+
+        verify(physical, times(2)).prepareStatement(eq("SELECT 1"), anyInt());
+    }
+
+    @Test
+    void testStatementClosedAfterConnectionReturnedIsNotCached() throws SQLException {
+        pool = new DbInternals.Pool(() -> physical, 1, 1, 1_000, 60_000, 4);
+
+        Connection conn = pool.borrow();
+        PreparedStatement ps = conn.prepareStatement("SELECT 1");
+        PreparedStatement driverStatement = prepared.get("SELECT 1");
+        conn.close();
+        ps.close();
+
+        verify(driverStatement).close();
+    }
+
+    @Test
+    void testShutdownClosesCachedStatements() throws SQLException {
+        pool = new DbInternals.Pool(() -> physical, 1, 1, 1_000, 60_000, 4);
+
+        try (Connection conn = pool.borrow()) {
+            prepareAndClose(conn, "SELECT 1");
+        }
+        pool.shutdown();
+
+        verify(prepared.get("SELECT 1")).close();
+        verify(physical).close();
+    }
+}
@@ -0,0 +1,146 @@
+package com.emp_mgmt;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.InOrder;
+
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.sql.Savepoint;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+class UnitOfWorkTest {
+
+    private Connection physical;
+    private DbInternals.Pool pool;
+
+    @BeforeEach
+    void setUp() throws SQLException {
+        physical = mock(Connection.class);
+        when(physical.getAutoCommit()).thenReturn(true);
+        pool = new DbInternals.Pool(() -> physical, 1, 1, 1_000, 60_000, 0);
+    }
+
+    @AfterEach
+    void tearDown() throws SQLException {
+        pool.shutdown();
+    }
+
+    @Test
+    void testCommitsOnceOnSuccess() throws SQLException {
+        String result = pool.inTransaction(() -> "done");
+
+        assertEquals("done", result);
+        InOrder inOrder = inOrder(physical);
+        inOrder.verify(physical).setAutoCommit(false);
+        inOrder.verify(physical).commit();
+        verify(physical, times(1)).commit();
+        verify(physical, never()).rollback();
+        assertEquals(0, pool.getActiveCount());
+    }
+
+    @Test
+    void testNoTransactionOutsideRun() throws SQLException {
+        assertNull(DbInternals.currentTransaction());
+        pool.inTransaction(() -> null);
+        assertNull(DbInternals.currentTransaction());
+    }
+
+    @Test
+    void testParticipantIgnoresCommitCloseAndSetAutoCommit() throws SQLException {
+        pool.inTransaction(() -> {
+            Connection participant = DbInternals.currentTransaction();
+            participant.setAutoCommit(true);
+            participant.commit();
+            participant.close();
+            participant.rollback();
+
+            assertFalse(participant.getAutoCommit());
+            verify(physical, never()).setAutoCommit(true);
+            verify(physical, never()).commit();
+            verify(physical, never()).rollback();
+
+            // Still usable after the DAO closed it
+            participant.createStatement();
+            verify(physical).createStatement();
+            return null;
+        });
+
+        verify(physical, times(1)).commit();
+    }
+
+    @Test
+    void testParticipantRollsBackToSavepoint() throws SQLException {
+        Savepoint savepoint = mock(Savepoint.class);
+
+        pool.inTransaction(() -> {
+            DbInternals.currentTransaction().rollback(savepoint);
+            return null;
+        });
+
+        verify(physical).rollback(savepoint);
+        verify(physical).commit();
+    }
+
+    @Test
+    void testRollsBackAndRethrowsSqlException() throws SQLException {
+        SQLException failure = new SQLException("Duplicate entry", "23000", 1062);
+
+        SQLException e = assertThrows(SQLException.class, () -> pool.inTransaction(() -> {
+            throw failure;
+        }));
+
+        assertSame(failure, e);
+        verify(physical).rollback();
+        verify(physical, never()).commit();
+        assertNull(DbInternals.currentTransaction());
+        assertEquals(0, pool.getActiveCount());
+    }
+
+    @Test
+    void testRollsBackAndRethrowsRuntimeException() throws SQLException {
+        assertThrows(IllegalStateException.class, () -> pool.inTransaction(() -> {
+            throw new IllegalStateException("boom");
+        }));
+
+        verify(physical).rollback();
+        verify(physical, never()).commit();
+    }
+
+    @Test
+    void testRollbackFailureIsSuppressed() throws SQLException {
+        doThrow(new SQLException("Connection reset")).when(physical).rollback();
+
+        SQLException e = assertThrows(SQLException.class, () -> pool.inTransaction(() -> {
+            throw new SQLException("Lock wait timeout exceeded");
+        }));
+
+        assertEquals("Lock wait timeout exceeded", e.getMessage());
+        assertEquals(1, e.getSuppressed().length);
+        assertEquals("Connection reset", e.getSuppressed()[0].getMessage());
+    }
+
+    @Test
+    void testNestedRunJoinsOuterTransaction() throws SQLException {
+        // With a pool of one, a nested borrow would time out
+        int result = pool.inTransaction(() -> pool.inTransaction(() -> 42));
+
+        assertEquals(42, result);
+        verify(physical, times(1)).setAutoCommit(false);
+        verify(physical, times(1)).commit();
+    }
+
+    @Test
+    void testNestedFailureRollsBackOuterTransaction() throws SQLException {
+        assertThrows(SQLException.class, () -> pool.inTransaction(() -> pool.inTransaction(() -> {
+            throw new SQLException("Data truncation");
+        })));
+
+        verify(physical).rollback();
+        verify(physical, never()).commit();
+    }
+}